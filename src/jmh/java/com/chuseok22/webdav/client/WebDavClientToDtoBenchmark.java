@@ -0,0 +1,45 @@
+package com.chuseok22.webdav.client;
+
+import com.chuseok22.webdav.client.listing.DavEntry;
+import com.chuseok22.webdav.client.listing.MultistatusParser;
+import com.chuseok22.webdav.fixture.MultistatusXml;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * PROPFIND 항목 -> 탐색기 목록 항목 변환 (경로 결합, 수정일 포맷)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebDavClientToDtoBenchmark {
+
+  private static final String PARENT_PATH = "/사진";
+  private static final int ENTRIES = 10_000;
+
+  private final List<DavEntry> entries = new ArrayList<>(ENTRIES);
+
+  @Setup
+  public void setUp() throws IOException {
+    byte[] response = MultistatusXml.syntheticListing("/remote.php/dav/files/user" + PARENT_PATH, ENTRIES);
+    MultistatusParser.parse(new ByteArrayInputStream(response), entries::add);
+  }
+
+  @Benchmark
+  public void toDto(Blackhole blackhole) {
+    for (DavEntry entry : entries) {
+      blackhole.consume(WebDavClient.toDto(entry, PARENT_PATH));
+    }
+  }
+}
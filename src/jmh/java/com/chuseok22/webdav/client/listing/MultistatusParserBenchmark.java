@@ -0,0 +1,39 @@
+package com.chuseok22.webdav.client.listing;
+
+import com.chuseok22.webdav.fixture.MultistatusXml;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 대용량 디렉토리 PROPFIND 응답 (Depth: 1) 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultistatusParserBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int entries;
+
+  private byte[] response;
+
+  @Setup
+  public void setUp() {
+    response = MultistatusXml.syntheticListing("/remote.php/dav/files/user/사진", entries);
+  }
+
+  @Benchmark
+  public void parse(Blackhole blackhole) throws IOException {
+    MultistatusParser.parse(new ByteArrayInputStream(response), blackhole::consume);
+  }
+}
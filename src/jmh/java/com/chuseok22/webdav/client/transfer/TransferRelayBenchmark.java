@@ -0,0 +1,83 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.client.PooledSardine;
+import com.chuseok22.webdav.fixture.InMemoryWebDavServer;
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 클라우드 GET -> NAS PUT 중계 (프로세스 내 WebDAV 서버 사용)
+ * relay: TransferRelay 버퍼 링을 거치는 현재 전송 경로, direct: GET 응답 스트림을 그대로 PUT 에 전달하는 기준값
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransferRelayBenchmark {
+
+  private static final String SOURCE_PATH = "/source/file.bin";
+  private static final String TARGET_PATH = "/target/file.bin";
+
+  @Param({"1048576", "67108864"})
+  private int fileSize;
+
+  private InMemoryWebDavServer server;
+  private ExecutorService executor;
+  private PooledSardine cloudClient;
+  private PooledSardine nasClient;
+  private TransferRelay transferRelay;
+
+  @Setup
+  public void setUp() throws IOException {
+    server = new InMemoryWebDavServer().start();
+    server.putFile(SOURCE_PATH, fileSize);
+    server.mkdirs("/target");
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    cloudClient = createClient("cloud");
+    nasClient = createClient("nas");
+    transferRelay = new TransferRelay(executor, 8, 1024 * 1024, 1, new TransferMetrics(new SimpleMeterRegistry()));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    cloudClient.shutdown();
+    nasClient.shutdown();
+    executor.close();
+    server.close();
+  }
+
+  @Benchmark
+  public long relay() throws IOException {
+    long[] bytes = new long[1];
+    cloudClient.get(server.getBaseUrl() + SOURCE_PATH, (response, inputStream) ->
+        bytes[0] = transferRelay.relay(inputStream, relayed ->
+            nasClient.put(server.getBaseUrl() + TARGET_PATH, relayed, "application/octet-stream", true, fileSize)).getBytes());
+    return bytes[0];
+  }
+
+  @Benchmark
+  public void direct() throws IOException {
+    cloudClient.get(server.getBaseUrl() + SOURCE_PATH, (response, inputStream) ->
+        nasClient.put(server.getBaseUrl() + TARGET_PATH, inputStream, "application/octet-stream", true, fileSize));
+  }
+
+  private PooledSardine createClient(String name) {
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    HttpClientBuilder builder = HttpClientBuilder.create().setConnectionManager(connectionManager);
+    return new PooledSardine(name, server.getBaseUrl(), builder, connectionManager, "user", "password");
+  }
+}
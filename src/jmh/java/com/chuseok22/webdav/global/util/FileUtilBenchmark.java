@@ -0,0 +1,70 @@
+package com.chuseok22.webdav.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 경로 정규화, 인코딩 단일 순회 구현과 이전 구현 (정규식, URLEncoder) 비교
+ * 큰 폴더 전송처럼 같은 폴더의 파일 경로를 연속으로 인코딩하는 경우를 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileUtilBenchmark {
+
+  private static final String BASE_URL = "https://cloud.example.com/remote.php/dav/files/user/";
+
+  private List<String> paths;
+  private List<String> normalizedPaths;
+
+  @Setup
+  public void setUp() {
+    paths = new ArrayList<>();
+    normalizedPaths = new ArrayList<>();
+    String[] folders = {"/Photos/2024/여름 휴가", "/Documents/프로젝트 자료/회의록", "/Backup/%EB%AC%B8%EC%84%9C"};
+    for (String folder : folders) {
+      for (int i = 0; i < 100; i++) {
+        String path = folder + "/IMG_" + i + " (편집본).jpg";
+        paths.add(path);
+        normalizedPaths.add(FileUtil.normalizePath(path));
+      }
+    }
+  }
+
+  @Benchmark
+  public void buildNormalizedAndEncodedUrl(Blackhole blackhole) {
+    for (String path : paths) {
+      blackhole.consume(FileUtil.buildNormalizedAndEncodedUrl(BASE_URL, path));
+    }
+  }
+
+  @Benchmark
+  public void buildNormalizedAndEncodedUrlLegacy(Blackhole blackhole) {
+    for (String path : paths) {
+      blackhole.consume(LegacyFileUtil.buildNormalizedAndEncodedUrl(BASE_URL, path));
+    }
+  }
+
+  @Benchmark
+  public void normalizePath(Blackhole blackhole) {
+    for (String path : normalizedPaths) {
+      blackhole.consume(FileUtil.normalizePath(path));
+    }
+  }
+
+  @Benchmark
+  public void normalizePathLegacy(Blackhole blackhole) {
+    for (String path : normalizedPaths) {
+      blackhole.consume(LegacyFileUtil.normalizePath(path));
+    }
+  }
+}
@@ -2,8 +2,10 @@ package com.chuseok22.webdav;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class WebDavApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,84 @@
+package com.chuseok22.webdav.client;
+
+import com.chuseok22.webdav.client.transfer.TransferConcurrencyLimiter;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+/**
+ * WebDAV 요청 (PROPFIND, GET, PUT, MKCOL, HEAD, MOVE, DELETE) 별 응답 시간 기록
+ * 요청 전송 (PUT 본문 포함) 부터 응답 헤더 수신까지의 왕복 시간이며, 응답 본문을 읽는 시간은 포함하지 않음 (다운로드량은 webdav.transfer.bytes)
+ * webdav.client.requests: endpoint, method, status (연결 실패 시 IO_ERROR), outcome
+ * webdav.client.requests.active: 응답을 기다리는 요청 수
+ * 응답 시간, 상태 코드, 타임아웃은 엔드포인트별 동시성 자동 조정에도 전달
+ */
+public class MeteredRequestExecutor extends HttpRequestExecutor {
+
+  public static final String CLIENT_REQUESTS = "webdav.client.requests";
+
+  private final MeterRegistry meterRegistry;
+  private final TransferConcurrencyLimiter concurrencyLimiter;
+  private final WebDavEndpoint webDavEndpoint;
+  private final String endpoint;
+  private final AtomicInteger activeRequests = new AtomicInteger();
+
+  public MeteredRequestExecutor(MeterRegistry meterRegistry, TransferConcurrencyLimiter concurrencyLimiter, WebDavEndpoint webDavEndpoint,
+      String endpoint) {
+    this.meterRegistry = meterRegistry;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.webDavEndpoint = webDavEndpoint;
+    this.endpoint = endpoint;
+    Gauge.builder(CLIENT_REQUESTS + ".active", activeRequests, AtomicInteger::get)
+        .description("응답을 기다리는 WebDAV 요청 수")
+        .tag("endpoint", endpoint)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public HttpResponse execute(HttpRequest request, HttpClientConnection connection, HttpContext context) throws IOException, HttpException {
+    long startNanos = System.nanoTime();
+    activeRequests.incrementAndGet();
+    String method = request.getRequestLine().getMethod();
+    String status = "IO_ERROR";
+    String outcome = "UNKNOWN";
+    try {
+      HttpResponse response = super.execute(request, connection, context);
+      int statusCode = response.getStatusLine().getStatusCode();
+      status = String.valueOf(statusCode);
+      outcome = outcome(statusCode);
+      concurrencyLimiter.onResponse(webDavEndpoint, method, statusCode, System.nanoTime() - startNanos);
+      return response;
+    } catch (IOException e) {
+      concurrencyLimiter.onIoError(webDavEndpoint, e);
+      throw e;
+    } finally {
+      activeRequests.decrementAndGet();
+      Timer.builder(CLIENT_REQUESTS)
+          .description("WebDAV 요청 왕복 시간")
+          .tags("endpoint", endpoint, "method", method, "status", status, "outcome", outcome)
+          .register(meterRegistry)
+          .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private static String outcome(int statusCode) {
+    return switch (statusCode / 100) {
+      case 1 -> "INFORMATIONAL";
+      case 2 -> "SUCCESS";
+      case 3 -> "REDIRECTION";
+      case 4 -> "CLIENT_ERROR";
+      case 5 -> "SERVER_ERROR";
+      default -> "UNKNOWN";
+    };
+  }
+}
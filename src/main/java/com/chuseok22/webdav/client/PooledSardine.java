@@ -0,0 +1,177 @@
+package com.chuseok22.webdav.client;
+
+import com.chuseok22.webdav.client.listing.DavEntry;
+import com.chuseok22.webdav.client.listing.MultistatusParser;
+import com.github.sardine.impl.SardineException;
+import com.github.sardine.impl.SardineImpl;
+import com.github.sardine.impl.methods.HttpPropFind;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * 커넥션 풀을 공유하는 장기 Sardine 클라이언트
+ * 엔드포인트(클라우드, NAS)마다 하나씩 Spring Bean 으로 관리되며, 애플리케이션 종료 시 풀과 함께 종료됨
+ */
+@Slf4j
+@Getter
+public class PooledSardine extends SardineImpl {
+
+  private final String name;
+  private final String baseUrl;
+  private final PoolingHttpClientConnectionManager connectionManager;
+
+  public PooledSardine(String name, String baseUrl, HttpClientBuilder builder, PoolingHttpClientConnectionManager connectionManager,
+      String username, String password) {
+    super(builder, username, password);
+    this.name = name;
+    this.baseUrl = baseUrl;
+    this.connectionManager = connectionManager;
+  }
+
+  /**
+   * 현재 커넥션 풀 사용 현황 (leased, pending, available, max)
+   */
+  public PoolStats getPoolStats() {
+    return connectionManager.getTotalStats();
+  }
+
+  /**
+   * 필요한 속성만 요청하는 PROPFIND, 응답을 스트리밍으로 파싱하여 항목마다 consumer 호출
+   *
+   * @param url      인코딩 된 요청 URL
+   * @param depth    "0", "1", "infinity"
+   * @param consumer response 항목마다 호출 (HTTP 응답을 읽는 스레드에서 호출됨)
+   * @throws SardineException 207 이외의 응답 (depth 미지원 등)
+   */
+  public void propfind(String url, String depth, Consumer<DavEntry> consumer) throws IOException {
+    HttpPropFind request = new HttpPropFind(url);
+    request.setDepth(depth);
+    request.setEntity(new StringEntity(MultistatusParser.PROPFIND_BODY, ContentType.create("text/xml", StandardCharsets.UTF_8)));
+    execute(request, response -> {
+      int statusCode = response.getStatusLine().getStatusCode();
+      if (statusCode != HttpStatus.SC_MULTI_STATUS) {
+        throw new SardineException("PROPFIND 요청 실패 (Depth: " + depth + ")", statusCode, response.getStatusLine().getReasonPhrase());
+      }
+      InputStream inputStream = response.getEntity().getContent();
+      try {
+        MultistatusParser.parse(inputStream, consumer);
+      } catch (IOException | RuntimeException e) {
+        // 남은 응답 본문을 끝까지 읽지 않고 커넥션을 끊음 (대용량 응답 처리 중단 시)
+        request.abort();
+        throw e;
+      }
+      inputStream.close();
+      return null;
+    });
+  }
+
+  /**
+   * HEAD 응답의 Accept-Ranges 헤더로 Range 요청 지원 여부 확인
+   *
+   * @param url 인코딩 된 파일 URL
+   */
+  public boolean acceptsRanges(String url) throws IOException {
+    return execute(new HttpHead(url), response -> {
+      Header acceptRanges = response.getFirstHeader(HttpHeaders.ACCEPT_RANGES);
+      return response.getStatusLine().getStatusCode() == HttpStatus.SC_OK
+          && acceptRanges != null
+          && acceptRanges.getValue().toLowerCase().contains("bytes");
+    });
+  }
+
+  /**
+   * 파일 다운로드 GET, 응답 헤더 (길이, 체크섬) 와 본문을 handler 에 전달
+   *
+   * @param url     인코딩 된 요청 URL
+   * @param handler 응답 처리 (반환되면 본문을 닫음)
+   * @throws SardineException 2xx 이외의 응답
+   */
+  public void get(String url, DownloadHandler handler) throws IOException {
+    HttpGet request = new HttpGet(url);
+    execute(request, response -> {
+      int statusCode = response.getStatusLine().getStatusCode();
+      if (statusCode / 100 != 2) {
+        request.abort();
+        throw new SardineException("GET 요청 실패", statusCode, response.getStatusLine().getReasonPhrase());
+      }
+      InputStream inputStream = response.getEntity().getContent();
+      try {
+        handler.handle(response, inputStream);
+      } catch (IOException | RuntimeException e) {
+        request.abort();
+        throw e;
+      }
+      inputStream.close();
+      return null;
+    });
+  }
+
+  /**
+   * GET 응답 처리
+   */
+  @FunctionalInterface
+  public interface DownloadHandler {
+    void handle(HttpResponse response, InputStream inputStream) throws IOException;
+  }
+
+  /**
+   * 지정 범위만 다운로드하는 Range GET, 응답 본문을 handler 에 전달
+   *
+   * @param url     인코딩 된 요청 URL
+   * @param start   시작 오프셋 (포함)
+   * @param end     끝 오프셋 (포함)
+   * @param handler 응답 본문 처리 (요청 범위의 바이트만 전달됨)
+   * @throws SardineException 206 이외의 응답 (서버가 Range 를 무시하고 전체를 보내는 경우 포함)
+   */
+  public void getRange(String url, long start, long end, RangeHandler handler) throws IOException {
+    HttpGet request = new HttpGet(url);
+    request.setHeader(HttpHeaders.RANGE, "bytes=" + start + "-" + end);
+    execute(request, response -> {
+      int statusCode = response.getStatusLine().getStatusCode();
+      Header contentRange = response.getFirstHeader(HttpHeaders.CONTENT_RANGE);
+      if (statusCode != HttpStatus.SC_PARTIAL_CONTENT || contentRange == null || !contentRange.getValue().startsWith("bytes " + start + "-")) {
+        // 전체 본문을 읽지 않고 커넥션을 끊음
+        request.abort();
+        throw new SardineException("Range GET 요청 실패 (" + start + "-" + end + ")", statusCode, response.getStatusLine().getReasonPhrase());
+      }
+      InputStream inputStream = response.getEntity().getContent();
+      try {
+        handler.handle(inputStream);
+      } catch (IOException | RuntimeException e) {
+        request.abort();
+        throw e;
+      }
+      inputStream.close();
+      return null;
+    });
+  }
+
+  /**
+   * Range GET 응답 본문 처리
+   */
+  @FunctionalInterface
+  public interface RangeHandler {
+    void handle(InputStream inputStream) throws IOException;
+  }
+
+  @Override
+  public void shutdown() throws IOException {
+    log.info("[{}] WebDAV 커넥션 풀을 종료합니다: {}", name, getPoolStats());
+    super.shutdown();
+  }
+}
@@ -1,58 +1,146 @@
 package com.chuseok22.webdav.client;
 
+import com.chuseok22.webdav.client.listing.DavEntry;
+import com.chuseok22.webdav.client.listing.DirectoryIndex;
+import com.chuseok22.webdav.client.listing.FolderCrawler;
+import com.chuseok22.webdav.client.listing.ListingCache;
+import com.chuseok22.webdav.client.transfer.ChecksumResult;
+import com.chuseok22.webdav.client.transfer.ChecksumVerifier;
+import com.chuseok22.webdav.client.transfer.FileTransferTrace;
+import com.chuseok22.webdav.client.transfer.LargeFileTransfer;
+import com.chuseok22.webdav.client.transfer.ProgressInputStream;
+import com.chuseok22.webdav.client.transfer.RetryPolicy;
+import com.chuseok22.webdav.client.transfer.SyncIndex;
+import com.chuseok22.webdav.client.transfer.TransferExecutor;
+import com.chuseok22.webdav.client.transfer.TransferManifest;
+import com.chuseok22.webdav.client.transfer.TransferProgress;
+import com.chuseok22.webdav.client.transfer.TransferProgressLogger;
+import com.chuseok22.webdav.client.transfer.TransferRelay;
+import com.chuseok22.webdav.client.transfer.TransferTraceRecorder;
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
 import com.chuseok22.webdav.dto.response.FolderItemDTO;
+import com.chuseok22.webdav.dto.response.ListingSummaryDTO;
 import com.chuseok22.webdav.dto.response.TransferResultDTO;
 import com.chuseok22.webdav.dto.response.WebDavFileDTO;
 import com.chuseok22.webdav.global.exception.CustomException;
 import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
 import com.chuseok22.webdav.global.util.FileUtil;
 import com.chuseok22.webdav.vo.TransferResult;
-import com.github.sardine.DavResource;
-import com.github.sardine.Sardine;
-import com.github.sardine.SardineFactory;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.github.sardine.impl.SardineException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class WebDavClient {
 
-  private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+  @Qualifier("cloudSardine")
+  private final PooledSardine cloudClient;
+  @Qualifier("nasSardine")
+  private final PooledSardine nasClient;
+  private final TransferExecutor transferExecutor;
+  private final FolderCrawler folderCrawler;
+  private final LargeFileTransfer largeFileTransfer;
+  private final TransferRelay transferRelay;
+  private final ChecksumVerifier checksumVerifier;
+  private final ListingCache listingCache;
+  private final TransferMetrics transferMetrics;
+  private final TransferTraceRecorder transferTraceRecorder;
+  private final TransferProgressLogger transferProgressLogger;
+  private final RetryPolicy retryPolicy;
 
   @Value("${webdav.cloud.url}")
   private String cloudUrl;
-  @Value("${webdav.cloud.username}")
-  private String cloudUsername;
-  @Value("${webdav.cloud.password}")
-  private String cloudPassword;
-
   @Value("${webdav.nas.url}")
   private String nasUrl;
-  @Value("${webdav.nas.username}")
-  private String nasUsername;
-  @Value("${webdav.nas.password}")
-  private String nasPassword;
+  @Value("${webdav.sync.collection-etag-enabled}")
+  private boolean collectionEtagEnabled;
 
   /**
    * 클라우드에서 지정 경로의 파일/폴더 목록 조회
    */
   public List<WebDavFileDTO> listCloudFiles(String remotePath) {
-    return listFiles(cloudUsername, cloudPassword, cloudUrl, remotePath);
+    return listFiles(WebDavEndpoint.CLOUD, cloudClient, cloudUrl, remotePath);
   }
 
   /**
    * NAS에서 지정 경로의 파일/폴더 목록 조회
    */
   public List<WebDavFileDTO> listNasFiles(String remotePath) {
-    return listFiles(nasUsername, nasPassword, nasUrl, remotePath);
+    return listFiles(WebDavEndpoint.NAS, nasClient, nasUrl, remotePath);
+  }
+
+  /**
+   * 지정 경로의 파일/폴더를 PROPFIND 응답을 파싱하는 대로 하나씩 전달 (서버 응답 순서)
+   * 목록 캐시에 ttl 이내 항목이 있거나 디렉토리 ETag 가 같으면 (Depth: 0 조회) 목록 전체를 다시 조회하지 않고 캐시 목록을 전달
+   * 캐시할 수 있는 크기의 목록이면 조회 후 캐시에 저장하고, 그보다 크면 항목을 보관하지 않음
+   *
+   * @param consumer 항목마다 호출 (HTTP 응답을 읽는 스레드에서 호출됨)
+   */
+  public void streamFiles(WebDavEndpoint endpoint, String remotePath, Consumer<WebDavFileDTO> consumer) {
+    String normalizedPath = FileUtil.normalizePath(remotePath);
+    PooledSardine client = endpoint == WebDavEndpoint.CLOUD ? cloudClient : nasClient;
+    String fullEncodedUrl = FileUtil.buildNormalizedAndEncodedUrl(endpoint == WebDavEndpoint.CLOUD ? cloudUrl : nasUrl, normalizedPath);
+    String basePath = FileUtil.extractDecodedPath(fullEncodedUrl);
+    AtomicReference<List<WebDavFileDTO>> cacheable = new AtomicReference<>(new ArrayList<>());
+    AtomicReference<String> etag = new AtomicReference<>();
+    try {
+      List<WebDavFileDTO> cached = listingCache.getIfValid(endpoint, normalizedPath, () -> {
+        DavEntry directory = findEntry(client, fullEncodedUrl);
+        return directory != null ? directory.getEtag() : null;
+      });
+      if (cached != null) {
+        cached.forEach(consumer);
+        return;
+      }
+      long loadMark = listingCache.beginLoad(endpoint);
+      client.propfind(fullEncodedUrl, "1", entry -> {
+        String relativePath = entry.relativePathFrom(basePath);
+        if (relativePath == null) {
+          return;
+        }
+        if (relativePath.isEmpty()) {
+          etag.set(entry.getEtag());
+          return;
+        }
+        WebDavFileDTO file = toDto(entry, normalizedPath);
+        List<WebDavFileDTO> files = cacheable.get();
+        if (files != null) {
+          files.add(file);
+          if (!listingCache.isCacheable(files.size())) {
+            cacheable.set(null); // 캐시하기에 너무 큰 목록은 보관하지 않음
+          }
+        }
+        consumer.accept(file);
+      });
+      List<WebDavFileDTO> files = cacheable.get();
+      if (files != null) {
+        files.sort(Comparator.comparing(WebDavFileDTO::getFileName));
+        listingCache.put(endpoint, normalizedPath, loadMark, new ListingCache.Listing(files, etag.get()));
+      }
+    } catch (IOException e) {
+      log.error("목록 조회 실패 [{}]", remotePath, e);
+      throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
+    }
   }
 
   /**
@@ -64,7 +152,7 @@ public class WebDavClient {
    */
   public boolean transferFile(String filePath, String targetDir, boolean overwrite) {
     try {
-      TransferResult transferResult = processFileTransfer(filePath, targetDir, overwrite);
+      TransferResult transferResult = tracedTransfer(filePath, -1, targetDir, overwrite, new TransferProgress(1), null);
       return transferResult.equals(TransferResult.SUCCESS) || transferResult.equals(TransferResult.DUPLICATE);
     } catch (IOException e) {
       log.error("파일 전송 실패 [{} -> {}]", filePath, targetDir, e);
@@ -81,39 +169,98 @@ public class WebDavClient {
    * @return 성공한 파일 수와 전체 파일 수를 포함한 결과 객체
    */
   public TransferResultDTO transferMultipleFiles(List<String> filePaths, String targetDir, boolean overwrite) {
-    int totalFiles = filePaths.size();
-    int successCount = 0;
-    List<String> duplicatedFiles = new ArrayList<>();
-    List<String> failedFiles = new ArrayList<>();
+    return transferMultipleFiles(filePaths, targetDir, overwrite, new TransferProgress(filePaths.size()));
+  }
 
-    for (String filePath : filePaths) {
-      try {
-        TransferResult transferResult = processFileTransfer(filePath, targetDir, overwrite);
-        if (transferResult.equals(TransferResult.SUCCESS)) {
-          successCount++;
-          log.info("파일 전송 성공: {}/{}, 건너뛴 파일: {}", successCount, totalFiles, failedFiles.size());
-        } else if (transferResult.equals(TransferResult.DUPLICATE)) {
-          duplicatedFiles.add(filePath);
-        } else {
-          failedFiles.add(filePath);
-        }
-      } catch (Exception e) {
-        log.error("다중 파일 전송 중 오류 발생 [{} → {}]", filePath, targetDir, e);
-        log.error("파일을 건너뜁니다: {}", filePath);
-        failedFiles.add(filePath);
+  /**
+   * 다중 파일 전송 (클라우드 -> NAS), 진행 상황을 progress 에 기록
+   *
+   * @param progress 진행 상황 (전체 파일 수가 설정된 상태), 취소 요청 시 이후 파일은 전송하지 않음
+   */
+  public TransferResultDTO transferMultipleFiles(List<String> filePaths, String targetDir, boolean overwrite, TransferProgress progress) {
+    // 결과는 클라우드 파일 경로로 기록
+    return transferFiles(filePaths.stream().map(filePath -> new FileTarget(filePath, filePath, targetDir)).toList(), overwrite, progress);
+  }
+
+  /**
+   * 폴더 전송에서 실패한 파일만 다시 전송 (클라우드 폴더를 다시 조회하지 않음)
+   * 각 파일은 폴더 전송과 같은 NAS 위치 (대상 디렉토리/폴더명/상대 경로) 로 전송하고, 결과는 상대 경로로 기록
+   *
+   * @param relativePaths 원본 폴더 기준 파일 상대 경로 (이전 작업의 실패 파일 목록)
+   */
+  public TransferResultDTO transferFolderFiles(String folderPath, String targetDir, List<String> relativePaths, boolean overwrite,
+      TransferProgress progress) {
+    String normalizedFolderPath = FileUtil.normalizePath(folderPath);
+    String folderName = normalizedFolderPath.substring(normalizedFolderPath.lastIndexOf('/') + 1);
+    String nasRootPath = FileUtil.combineBaseAndPath(FileUtil.normalizePath(targetDir), folderName);
+    List<FileTarget> targets = new ArrayList<>();
+    for (String relativePath : relativePaths) {
+      int lastSlash = relativePath.lastIndexOf('/');
+      String nasParentPath = lastSlash < 0 ? nasRootPath : FileUtil.combineBaseAndPath(nasRootPath, relativePath.substring(0, lastSlash));
+      targets.add(new FileTarget(relativePath, FileUtil.combineBaseAndPath(normalizedFolderPath, relativePath), nasParentPath));
+    }
+    return transferFiles(targets, overwrite, progress);
+  }
+
+  /**
+   * 파일 목록 전송 (클라우드 -> NAS), 대상 디렉토리마다 NAS 목록 조회는 한 번만 수행
+   * 클라우드 파일 크기도 원본 디렉토리마다 목록을 한 번만 조회하여 확인 (파일마다 Depth: 0 조회를 보내지 않음)
+   */
+  private TransferResultDTO transferFiles(List<FileTarget> targets, boolean overwrite, TransferProgress progress) {
+    int totalFiles = targets.size();
+    TransferExecutor.Batch batch = transferExecutor.newBatch();
+    DirectoryIndex nasIndex = new DirectoryIndex(nasClient, nasUrl, WebDavEndpoint.NAS, retryPolicy, progress::isCancelled);
+    DirectoryIndex cloudIndex = new DirectoryIndex(cloudClient, cloudUrl, WebDavEndpoint.CLOUD, retryPolicy, progress::isCancelled);
+
+    for (FileTarget target : targets) {
+      if (progress.isCancelled()) {
+        log.warn("전송이 취소되어 남은 파일을 건너뜁니다");
+        break;
       }
+      batch.submit(() -> {
+        if (progress.isCancelled()) {
+          return;
+        }
+        try {
+          long cloudFileSize = findFileSize(cloudIndex, target.cloudPath);
+          TransferResult transferResult = tracedTransfer(target.cloudPath, cloudFileSize, target.targetDir, overwrite, progress, nasIndex);
+          if (transferResult.equals(TransferResult.SUCCESS)) {
+            progress.recordSuccess(target.name, null);
+          } else if (transferResult.equals(TransferResult.DUPLICATE)) {
+            progress.recordDuplicate(target.name);
+          } else {
+            progress.recordFailure(target.name);
+          }
+        } catch (Exception e) {
+          log.error("다중 파일 전송 중 오류 발생 [{} → {}]", target.cloudPath, target.targetDir, e);
+          log.error("파일을 건너뜁니다: {}", target.cloudPath);
+          progress.recordFailure(target.name);
+        }
+        transferProgressLogger.fileCompleted(progress);
+      });
     }
+    awaitBatch(batch);
+
+    TransferResultDTO result = progress.toResultDTO();
     log.info("==================================================");
     log.info("총 파일: {}", totalFiles);
-    log.info("성공한 파일: {}", successCount);
-    log.info("중복된 파일: {}", duplicatedFiles.size());
-    log.info("실패한 파일: {}, [{}]", failedFiles.size(), failedFiles);
+    log.info("성공한 파일: {}", result.getSuccessCount());
+    log.info("중복된 파일: {}", progress.getDuplicatedCount());
+    log.info("실패한 파일: {}, [{}]", result.getFailedFiles().size(), result.getFailedFiles());
     log.info("==================================================");
-    return TransferResultDTO.builder()
-        .successCount(successCount)
-        .totalCount(totalFiles)
-        .failedFiles(failedFiles)
-        .build();
+    return result;
+  }
+
+  /**
+   * 디렉토리 인덱스에서 파일 크기 조회
+   *
+   * @return 파일 크기 (없거나 알 수 없으면 -1)
+   */
+  private static long findFileSize(DirectoryIndex index, String filePath) {
+    String normalizedPath = FileUtil.normalizePath(filePath);
+    int lastSlash = normalizedPath.lastIndexOf('/');
+    DavEntry entry = index.find(normalizedPath.substring(0, Math.max(0, lastSlash)), normalizedPath.substring(lastSlash + 1));
+    return entry != null && !entry.isDirectory() ? entry.getContentLength() : -1;
   }
 
   /**
@@ -125,39 +272,290 @@ public class WebDavClient {
    * @return 전송 결과 객체
    */
   public TransferResultDTO transferFolder(String folderPath, String targetDir, boolean overwrite) throws IOException {
-    Sardine cloudClient = createClient(cloudUsername, cloudPassword);
-
-    List<String> failedFiles = new ArrayList<>();
-    int totalFiles;
-    int successCount = 0;
-    createFolderIfNotExists(folderPath, targetDir);
-
-    // 모든 파일과 하위 폴더 조회 (재귀)
-    log.info("모든 파일, 하위 폴더 조회 시작");
-    List<FolderItemDTO> folderItemDTOS = listFolderContentsRecursively(cloudClient, folderPath, "");
-    totalFiles = (int) folderItemDTOS.stream().filter(item -> !item.isDirectory()).count();
-    log.info("총 파일 개수: {}", totalFiles);
-
-    // 폴더 구조 생성
-    for (FolderItemDTO dto : folderItemDTOS) {
-      if (dto.isDirectory()) {
-        log.info("하위 폴더를 생성합니다: {}", dto.getRelativePath());
-        createFolderIfNotExists(dto.getFullPath(), FileUtil.combineBaseAndPath(targetDir, dto.getRelativePath()));
-      } else {
-        TransferResult transferResult = processFileTransfer(dto.getFullPath(), FileUtil.combineBaseAndPath(targetDir, dto.getRelativePath()), overwrite);
-        if (transferResult.equals(TransferResult.SUCCESS)) {
-          successCount++;
-          log.info("파일 전송 성공: {}/{}, 건너뛴 파일: {}", successCount, totalFiles, failedFiles.size());
-        } else {
-          failedFiles.add(dto.getFileName());
+    return transferFolder(folderPath, targetDir, overwrite, new TransferProgress(0));
+  }
+
+  /**
+   * 폴더 전송 (클라우드 -> NAS), 진행 상황을 progress 에 기록
+   *
+   * @param progress 진행 상황 (폴더 조회 후 전체 파일 수, 바이트 수가 누적됨), 취소 요청 시 이후 파일은 전송하지 않음
+   */
+  public TransferResultDTO transferFolder(String folderPath, String targetDir, boolean overwrite, TransferProgress progress) throws IOException {
+    return transferFolder(folderPath, targetDir, overwrite, progress, null);
+  }
+
+  /**
+   * 폴더 전송 (클라우드 -> NAS), 진행 상황을 progress 와 매니페스트에 기록
+   *
+   * @param manifest 작업 매니페스트 (null 이면 기록하지 않음)
+   *                 복구된 매니페스트면 이전에 완료된 파일은 건너뛰고, 폴더 조회까지 끝난 상태였다면 다시 조회하지 않고 남은 파일만 전송
+   */
+  public TransferResultDTO transferFolder(String folderPath, String targetDir, boolean overwrite, TransferProgress progress,
+      TransferManifest manifest) throws IOException {
+    return transferFolder(folderPath, targetDir, overwrite, progress, manifest, null);
+  }
+
+  /**
+   * 폴더 동기화 (클라우드 -> NAS), 마지막 동기화 이후 추가, 변경된 파일만 전송 (변경된 파일은 덮어씀)
+   * 클라우드에서 삭제된 파일은 NAS 에서 삭제하지 않고 인덱스에서만 제거
+   *
+   * @param syncIndex 원본 폴더, 대상 경로의 동기화 인덱스 (종료 시 저장, 실패 없이 끝난 경우에만 삭제 항목, 디렉토리 ETag 반영)
+   */
+  public TransferResultDTO syncFolder(String folderPath, String targetDir, TransferProgress progress, SyncIndex syncIndex) throws IOException {
+    boolean complete = false;
+    try {
+      TransferResultDTO result = transferFolder(folderPath, targetDir, true, progress, null, syncIndex);
+      complete = !progress.isCancelled() && progress.getFailedCount() == 0;
+      return result;
+    } finally {
+      syncIndex.save(complete);
+      log.info("동기화 결과: 전송 {}, 변경 없음 {}, 실패 {}", progress.getSuccessCount(), progress.getUnchangedCount(), progress.getFailedCount());
+    }
+  }
+
+  /**
+   * @param syncIndex 동기화 인덱스 (null 이면 일반 폴더 전송, 아니면 변경 없는 파일, 하위 트리를 건너뜀)
+   */
+  private TransferResultDTO transferFolder(String folderPath, String targetDir, boolean overwrite, TransferProgress progress,
+      TransferManifest manifest, SyncIndex syncIndex) throws IOException {
+    // NAS 에 생성된 최상위 폴더 경로 (대상 디렉토리/폴더명)
+    String normalizedFolderPath = FileUtil.normalizePath(folderPath);
+    String folderName = normalizedFolderPath.substring(normalizedFolderPath.lastIndexOf('/') + 1);
+    String nasRootPath = FileUtil.combineBaseAndPath(FileUtil.normalizePath(targetDir), folderName);
+
+    // NAS 대상 디렉토리마다 목록을 한 번만 조회하여 파일별 존재 여부, 크기 비교에 사용 (새로 만든 폴더는 조회 생략)
+    DirectoryIndex nasIndex = new DirectoryIndex(nasClient, nasUrl, WebDavEndpoint.NAS, retryPolicy, progress::isCancelled);
+    if (createFolderIfNotExists(folderPath, targetDir, progress::isCancelled)) {
+      nasIndex.markEmpty(nasRootPath);
+    }
+
+    TransferExecutor.Batch batch = transferExecutor.newBatch();
+    if (manifest != null) {
+      progress.restoreCompleted(manifest.getRecoveredCompletedCount(), manifest.getRecoveredCompletedBytes());
+      if (manifest.isEnumerationComplete()) {
+        resumeFromManifest(normalizedFolderPath, nasRootPath, overwrite, progress, manifest, nasIndex, batch);
+        return progress.toResultDTO();
+      }
+    }
+
+    if (syncIndex != null && isRootUnchanged(normalizedFolderPath, syncIndex)) {
+      log.info("최상위 폴더 ETag 가 마지막 동기화와 같아 조회를 생략합니다: {}", normalizedFolderPath);
+      recordSkippedSubtrees(progress, syncIndex);
+      return progress.toResultDTO();
+    }
+
+    // 하위 폴더, 파일을 조회하면서 바로 전송 (조회가 끝날 때까지 기다리지 않음)
+    log.info("하위 폴더, 파일 조회 및 전송 시작");
+    progress.beginEnumeration();
+    try {
+      ListingSummaryDTO listingSummary = folderCrawler.crawl(normalizedFolderPath, new FolderCrawler.Listener() {
+        @Override
+        public void onDirectory(FolderItemDTO directory) {
+          // 하위 폴더 조회 전에 호출되므로 하위 파일 전송 시점에는 NAS 폴더가 존재함
+          String nasParentPath = resolveNasParentPath(nasRootPath, directory);
+          if (createFolderIfNotExists(directory.getFullPath(), nasParentPath, progress::isCancelled)) {
+            nasIndex.markEmpty(FileUtil.combineBaseAndPath(nasParentPath, directory.getFileName()));
+          }
+        }
+
+        @Override
+        public boolean shouldDescend(FolderItemDTO directory) {
+          return syncIndex == null || !syncIndex.isSubtreeUnchanged(directory.getRelativePath(), directory.getEtag(), collectionEtagEnabled);
+        }
+
+        @Override
+        public void onFile(FolderItemDTO file) {
+          progress.addTotal(1);
+          if (syncIndex != null && syncIndex.isUnchanged(file)) {
+            progress.recordUnchanged(1);
+            return;
+          }
+          progress.addTotalBytes(file.getFileSize());
+          int index = recordManifestFile(manifest, file);
+          if (index < 0) {
+            return; // 이전 실행에서 완료된 파일
+          }
+          batch.submit(() -> {
+            TransferResult result = transferFolderItem(file, resolveNasParentPath(nasRootPath, file), overwrite, progress, nasIndex, manifest, index);
+            recordSyncResult(syncIndex, file, result);
+          });
+        }
+
+        @Override
+        public boolean isCancelled() {
+          return progress.isCancelled();
         }
+      });
+      progress.setListingSummary(listingSummary);
+      if (syncIndex != null) {
+        recordSkippedSubtrees(progress, syncIndex);
+      }
+      if (manifest != null && !progress.isCancelled()) {
+        manifest.recordEnumerationComplete();
       }
+    } finally {
+      progress.endEnumeration();
+      log.info("총 파일 개수: {}", progress.getTotalCount());
+      awaitBatch(batch);
+      log.info("NAS 대상 디렉토리 목록 조회 요청 수: {}", nasIndex.getRequestCount());
+    }
+    return progress.toResultDTO();
+  }
+
+  /**
+   * 폴더 조회가 끝난 매니페스트의 남은 파일 전송 (클라우드 폴더를 다시 조회하지 않음)
+   */
+  private void resumeFromManifest(String folderPath, String nasRootPath, boolean overwrite, TransferProgress progress,
+      TransferManifest manifest, DirectoryIndex nasIndex, TransferExecutor.Batch batch) throws IOException {
+    log.info("매니페스트의 남은 파일부터 이어서 전송합니다 (완료: {}/{})", manifest.getRecoveredCompletedCount(), manifest.getRecoveredFileCount());
+    progress.addTotal(manifest.getRecoveredFileCount());
+    progress.addTotalBytes(manifest.getRecoveredTotalBytes());
+    try {
+      manifest.forEachPendingFile(folderPath, (file, index) -> {
+        if (!progress.isCancelled()) {
+          batch.submit(() -> transferFolderItem(file, resolveNasParentPath(nasRootPath, file), overwrite, progress, nasIndex, manifest, index));
+        }
+      });
+    } finally {
+      awaitBatch(batch);
+    }
+  }
+
+  /**
+   * 최상위 폴더 ETag 가 마지막 동기화와 같은지 확인 (webdav.sync.collection-etag-enabled 일 때만 조회)
+   */
+  private boolean isRootUnchanged(String folderPath, SyncIndex syncIndex) throws IOException {
+    if (!collectionEtagEnabled) {
+      return false;
+    }
+    DavEntry rootEntry = findEntry(WebDavEndpoint.CLOUD, FileUtil.buildNormalizedAndEncodedUrl(cloudUrl, folderPath), () -> false);
+    return rootEntry != null && syncIndex.isSubtreeUnchanged(SyncIndex.ROOT, rootEntry.getEtag(), true);
+  }
+
+  /**
+   * ETag 비교로 건너뛴 하위 트리의 파일을 변경 없음으로 집계
+   */
+  private void recordSkippedSubtrees(TransferProgress progress, SyncIndex syncIndex) {
+    int skippedCount = syncIndex.getSkippedSubtreeFileCount();
+    if (skippedCount > 0) {
+      progress.addTotal(skippedCount);
+      progress.recordUnchanged(skippedCount);
+      log.info("변경 없는 하위 트리에서 건너뛴 파일: {}개 ({}MB)", skippedCount, syncIndex.getSkippedSubtreeBytes() / (1024 * 1024));
+    }
+  }
+
+  /**
+   * 동기화 인덱스에 파일 전송 결과 반영 (NAS 에 같은 크기의 파일이 이미 있으면 전송한 것으로 기록)
+   */
+  private void recordSyncResult(SyncIndex syncIndex, FolderItemDTO file, TransferResult result) {
+    if (syncIndex == null) {
+      return;
+    }
+    if (result == TransferResult.FAIL) {
+      syncIndex.recordFailed(file);
+    } else if (result != null) {
+      syncIndex.recordTransferred(file);
+    }
+  }
+
+  /**
+   * 폴더 전송 중 파일 하나 전송
+   *
+   * @param index 매니페스트 파일 번호 (manifest 가 null 이면 사용하지 않음)
+   * @return 전송 결과 (취소되어 전송하지 않았으면 null)
+   */
+  private TransferResult transferFolderItem(FolderItemDTO file, String nasParentPath, boolean overwrite, TransferProgress progress,
+      DirectoryIndex nasIndex, TransferManifest manifest, int index) {
+    if (progress.isCancelled()) {
+      return null;
+    }
+    TransferResult transferResult;
+    try {
+      // 클라우드 조회 시 얻은 파일 크기를 재사용
+      transferResult = tracedTransfer(file.getFullPath(), file.getFileSize(), nasParentPath, overwrite, progress, nasIndex);
+      if (transferResult.equals(TransferResult.SUCCESS)) {
+        progress.recordSuccess(file.getRelativePath(), file.getFileSize());
+      } else if (transferResult.equals(TransferResult.DUPLICATE)) {
+        progress.recordDuplicate(file.getRelativePath());
+      } else {
+        progress.recordFailure(file.getRelativePath());
+      }
+    } catch (Exception e) {
+      log.error("폴더 전송 중 파일 전송 실패 [{} → {}]", file.getFullPath(), nasParentPath, e);
+      progress.recordFailure(file.getRelativePath());
+      transferResult = TransferResult.FAIL;
+    }
+    transferProgressLogger.fileCompleted(progress);
+    recordManifestResult(manifest, index, transferResult, file.getFileSize());
+    return transferResult;
+  }
+
+  private int recordManifestFile(TransferManifest manifest, FolderItemDTO file) {
+    if (manifest == null) {
+      return 0;
+    }
+    try {
+      return manifest.recordFile(file);
+    } catch (IOException e) {
+      log.error("매니페스트 기록 실패: {}", file.getRelativePath(), e);
+      throw new CustomException(ErrorCode.TRANSFER_MANIFEST_ERROR);
+    }
+  }
+
+  private void recordManifestResult(TransferManifest manifest, int index, TransferResult result, long size) {
+    if (manifest == null) {
+      return;
+    }
+    try {
+      manifest.recordResult(index, result, size);
+    } catch (IOException e) {
+      // 기록하지 못한 파일은 재개 시 다시 확인하므로 전송은 계속 진행
+      log.error("매니페스트 결과 기록 실패: {}", index, e);
+    }
+  }
+
+  /**
+   * 폴더 항목이 위치할 NAS 상위 폴더 경로 (NAS 최상위 폴더 + 항목의 상대 경로에서 이름을 제외한 부분)
+   */
+  private String resolveNasParentPath(String nasRootPath, FolderItemDTO item) {
+    String relativePath = item.getRelativePath();
+    int lastSlash = relativePath.lastIndexOf('/');
+    return lastSlash < 0 ? nasRootPath : FileUtil.combineBaseAndPath(nasRootPath, relativePath.substring(0, lastSlash));
+  }
+
+  /**
+   * 파일 전송 후 소요 시간을 지표, 구간별 기록 (최근 기록 링 버퍼, 작업별 가장 느린 파일) 에 반영
+   */
+  private TransferResult tracedTransfer(String filePath, long cloudFileSize, String targetDir, boolean overwrite, TransferProgress progress,
+      DirectoryIndex nasIndex) throws IOException {
+    long startNanos = System.nanoTime();
+    FileTransferTrace trace = new FileTransferTrace(filePath, targetDir);
+    TransferResult transferResult = TransferResult.FAIL;
+    Throwable error = null;
+    try {
+      transferResult = processFileTransfer(filePath, cloudFileSize, targetDir, overwrite, progress, nasIndex, trace);
+      return transferResult;
+    } catch (IOException | RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      transferMetrics.recordFile(transferResult, System.nanoTime() - startNanos);
+      if (transferTraceRecorder.isEnabled()) {
+        FileTraceDTO traceDTO = trace.finish(transferResult, error);
+        transferTraceRecorder.record(traceDTO);
+        progress.recordTrace(traceDTO);
+      }
+    }
+  }
+
+  private void awaitBatch(TransferExecutor.Batch batch) {
+    try {
+      batch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("전송 대기 중 인터럽트가 발생했습니다");
+      throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
     }
-    return TransferResultDTO.builder()
-        .successCount(successCount)
-        .totalCount(totalFiles)
-        .failedFiles(failedFiles)
-        .build();
   }
 
   /**
@@ -168,9 +566,26 @@ public class WebDavClient {
    * @param overwrite 덮어쓰기 여부
    */
   public TransferResult processFileTransfer(String filePath, String targetDir, boolean overwrite) throws IOException {
-    Sardine cloudClient = createClient(cloudUsername, cloudPassword);
-    Sardine nasClient = createClient(nasUsername, nasPassword);
+    return processFileTransfer(filePath, targetDir, overwrite, new TransferProgress(1));
+  }
 
+  /**
+   * 파일 전송 로직 (클라우드 -> NAS), 전송한 바이트 수를 progress 에 누적
+   */
+  public TransferResult processFileTransfer(String filePath, String targetDir, boolean overwrite, TransferProgress progress) throws IOException {
+    return processFileTransfer(filePath, -1, targetDir, overwrite, progress, null, new FileTransferTrace(filePath, targetDir));
+  }
+
+  /**
+   * 파일 전송 로직 (클라우드 -> NAS)
+   * NAS 파일 존재 여부와 크기는 nasIndex (대상 디렉토리 목록) 에서 확인하고, 클라우드 파일 크기를 알고 있으면 재조회하지 않음
+   *
+   * @param cloudFileSize 클라우드 파일 크기 (모르면 -1, 단일 파일 전송에서만 사용하며 크기 비교, 대용량 판단이 필요할 때 조회)
+   * @param nasIndex      NAS 대상 디렉토리 인덱스 (null 이면 NAS 파일 하나만 Depth: 0 으로 조회)
+   * @param trace         구간별 소요 시간 기록
+   */
+  private TransferResult processFileTransfer(String filePath, long cloudFileSize, String targetDir, boolean overwrite, TransferProgress progress,
+      DirectoryIndex nasIndex, FileTransferTrace trace) throws IOException {
     String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
     String normalizeTargetDir = FileUtil.normalizePath(targetDir);
     String nasFilePath = FileUtil.combineBaseAndPath(normalizeTargetDir, fileName);
@@ -178,36 +593,173 @@ public class WebDavClient {
     String cloudFilePathEncodedUrl = FileUtil.buildNormalizedAndEncodedUrl(cloudUrl, filePath);
     String nasFilePathEncodedUrl = FileUtil.buildNormalizedAndEncodedUrl(nasUrl, nasFilePath);
 
-    if (nasClient.exists(nasFilePathEncodedUrl) && !overwrite) {
-      log.warn("파일: {} 이 이미 존재합니다 (overwrite = false) 건너뜁니다", fileName);
-      return TransferResult.DUPLICATE;
-    } else {
-      // 덮어쓰기 활성화 상태면 파일 크기 비교
-      List<DavResource> cloudResources = cloudClient.list(cloudFilePathEncodedUrl);
-      List<DavResource> nasResources = nasClient.list(nasFilePathEncodedUrl);
+    long phaseStart = System.nanoTime();
+    DavEntry nasEntry = nasIndex != null ? nasIndex.find(normalizeTargetDir, fileName)
+        : findEntry(WebDavEndpoint.NAS, nasFilePathEncodedUrl, progress::isCancelled);
+    trace.addProbe(phaseStart);
+    DavEntry cloudEntry = null;
+    if (nasEntry != null) {
+      if (!overwrite) {
+        log.debug("파일: {} 이 이미 존재합니다 (overwrite = false) 건너뜁니다", fileName);
+        return TransferResult.DUPLICATE;
+      }
 
-      if (!cloudResources.isEmpty() && !nasResources.isEmpty()) {
-        DavResource cloudResource = cloudResources.getFirst();
-        DavResource nasResource = nasResources.getFirst();
+      // 덮어쓰기 활성화 상태면 파일 크기 비교
+      phaseStart = System.nanoTime();
+      long cloudSize = cloudFileSize;
+      if (cloudSize < 0) {
+        cloudEntry = findEntry(WebDavEndpoint.CLOUD, cloudFilePathEncodedUrl, progress::isCancelled);
+        cloudSize = cloudEntry != null ? cloudEntry.getContentLength() : -1;
+      }
 
-        // 파일 크기가 같으면 전송 패스
-        if (cloudResource.getContentLength().equals(nasResource.getContentLength())) {
-          log.info("파일: {} 크기가 동일합니다 ({}MB). 전송을 건너뜁니다", fileName, cloudResource.getContentLength() / (1024 * 1024));
+      // 파일 크기가 같으면 전송 패스 (양쪽 서버가 체크섬을 제공하고 값이 다르면 전송)
+      if (cloudSize >= 0 && cloudSize == nasEntry.getContentLength()) {
+        if (checksumVerifier.isEnabled() && nasEntry.getChecksums() != null && cloudEntry == null) {
+          cloudEntry = findEntry(WebDavEndpoint.CLOUD, cloudFilePathEncodedUrl, progress::isCancelled);
+        }
+        trace.addCompare(phaseStart);
+        if (!checksumVerifier.isEnabled() || cloudEntry == null
+            || !checksumVerifier.isContentDifferent(cloudEntry.getChecksums(), nasEntry.getChecksums())) {
+          log.debug("파일: {} 크기가 동일합니다 ({}MB). 전송을 건너뜁니다", fileName, cloudSize / (1024 * 1024));
           return TransferResult.DUPLICATE;
         }
-
-        log.info("파일: {} 크기가 다릅니다 (클라우드: {}KB, NAS: {}KB). 덮어쓰기를 진행합니다",
+        log.info("파일: {} 크기는 같지만 체크섬이 다릅니다. 덮어쓰기를 진행합니다", fileName);
+      } else {
+        trace.addCompare(phaseStart);
+        log.info("파일: {} 크기가 다릅니다 (클라우드: {}MB, NAS: {}MB). 덮어쓰기를 진행합니다",
             fileName,
-            cloudResource.getContentLength() / (1024 * 1024),
-            nasResource.getContentLength() / (1024 * 1024));
+            cloudSize / (1024 * 1024),
+            nasEntry.getContentLength() / (1024 * 1024));
+      }
+    }
+
+    // NAS 에 기록한 뒤에는 (실패 포함) 대상 디렉토리의 목록 캐시를 무효화
+    try {
+      // 대용량 파일은 Range 청크 단위로 이어받기 가능한 방식으로 전송 (크기를 아는 파일은 대용량일 때만 속성 조회)
+      if (largeFileTransfer.isEnabled() && (cloudFileSize < 0 || largeFileTransfer.isLargeFile(cloudFileSize))) {
+        phaseStart = System.nanoTime();
+        if (cloudEntry == null) {
+          cloudEntry = findEntry(WebDavEndpoint.CLOUD, cloudFilePathEncodedUrl, progress::isCancelled);
+        }
+        boolean rangeTransfer = cloudEntry != null && largeFileTransfer.isLargeFile(cloudEntry.getContentLength())
+            && largeFileTransfer.supportsRanges(cloudFilePathEncodedUrl);
+        trace.addCompare(phaseStart);
+        if (rangeTransfer) {
+          log.info("대용량 파일 전송 시작 ({}MB): {} -> {}", cloudEntry.getContentLength() / (1024 * 1024), filePath, targetDir);
+          long streamStart = System.nanoTime();
+          ChecksumResult checksum = largeFileTransfer.transfer(cloudFilePathEncodedUrl, nasFilePathEncodedUrl, cloudEntry, progress);
+          trace.recordStream(streamStart, cloudEntry.getContentLength(), true);
+          recordChecksum(nasFilePath, null, checksum, progress);
+          log.debug("파일 전송 성공: {}", nasFilePath);
+          return TransferResult.SUCCESS;
+        }
+      }
+
+      log.debug("전송 시작: {} -> {}", filePath, targetDir);
+      String cloudChecksums = cloudEntry != null ? cloudEntry.getChecksums() : null;
+      AtomicReference<ChecksumResult> checksum = new AtomicReference<>();
+      // PUT 은 대상 파일 전체를 교체하므로 GET + PUT 중계를 처음부터 다시 시도해도 결과가 같음
+      retryPolicy.run("파일 전송", progress::isCancelled, () -> {
+        AtomicReference<ProgressInputStream> counted = new AtomicReference<>();
+        long requestStart = System.nanoTime();
+        try {
+          cloudClient.get(cloudFilePathEncodedUrl, (response, cloudStream) -> {
+            long streamStart = trace.markFirstByte(requestStart);
+            // GET 응답의 길이를 PUT 의 Content-Length 로 사용 (모르면 chunked 전송)
+            long contentLength = response.getEntity().getContentLength();
+            // 체크섬은 중계 읽기 스레드에서 계산 (PROPFIND 체크섬, GET 응답 헤더 체크섬 순으로 비교 대상 선택)
+            ChecksumVerifier.StreamingDigest digest = null;
+            if (checksumVerifier.isEnabled()) {
+              List<String> serverChecksums = new ArrayList<>(ChecksumVerifier.fromResponseHeaders(response));
+              serverChecksums.addFirst(cloudChecksums);
+              digest = checksumVerifier.start(serverChecksums);
+            }
+            counted.set(new ProgressInputStream(cloudStream, progress, transferMetrics.getDownloadedBytes()));
+            TransferRelay.RelayStats relayStats = transferRelay.relay(counted.get(), digest, relayed -> {
+              try {
+                nasClient.put(nasFilePathEncodedUrl, relayed, null, true, contentLength);
+              } catch (IOException e) {
+                throw RetryPolicy.blame(WebDavEndpoint.NAS, e);
+              }
+            });
+            progress.addRelayStats(relayStats);
+            trace.recordStream(streamStart, relayStats.getBytes(), false);
+            log.debug("중계 대기 시간 [{}] 클라우드: {}ms, NAS: {}ms", fileName,
+                TimeUnit.NANOSECONDS.toMillis(relayStats.getWriterStallNanos()), TimeUnit.NANOSECONDS.toMillis(relayStats.getReaderStallNanos()));
+            if (digest != null) {
+              checksum.set(digest.finish());
+            }
+          });
+        } catch (IOException | RuntimeException e) {
+          // 실패한 시도에서 읽은 바이트는 진행률에서 제외 (재시도하면 처음부터 다시 전송)
+          ProgressInputStream failedStream = counted.get();
+          if (failedStream != null) {
+            progress.addTransferredBytes(-failedStream.getCount());
+          }
+          throw e;
+        }
+      }, WebDavEndpoint.CLOUD, WebDavEndpoint.NAS);
+      recordChecksum(nasFilePath, nasFilePathEncodedUrl, checksum.get(), progress);
+      log.debug("파일 전송 성공: {}", nasFilePath);
+      return TransferResult.SUCCESS;
+    } finally {
+      listingCache.invalidate(WebDavEndpoint.NAS, normalizeTargetDir);
+    }
+  }
+
+  /**
+   * 체크섬 결과 기록, 클라우드 체크섬과 다르면 실패 처리
+   *
+   * @param nasEncodedUrl 불일치 시 삭제할 NAS 파일 URL (이미 최종 경로에 기록된 경우, 아니면 null)
+   * @throws CustomException 체크섬 불일치
+   */
+  private void recordChecksum(String nasFilePath, String nasEncodedUrl, ChecksumResult checksum, TransferProgress progress) {
+    if (checksum == null) {
+      return;
+    }
+    progress.recordChecksum(nasFilePath, checksum);
+    if (!checksum.isMismatch()) {
+      log.debug("체크섬 [{}] {} (검증: {})", nasFilePath, checksum, checksum.getVerified());
+      return;
+    }
+    log.error("전송한 파일의 체크섬이 클라우드와 다릅니다 ({}): {}", checksum.getVerifiedAlgorithm(), nasFilePath);
+    if (nasEncodedUrl != null) {
+      try {
+        nasClient.delete(nasEncodedUrl);
+      } catch (IOException e) {
+        log.error("체크섬이 다른 NAS 파일 삭제 실패: {}", nasFilePath, e);
       }
     }
-    log.info("전송 시작: {} -> {}", filePath, targetDir);
-    try (InputStream inputStream = cloudClient.get(cloudFilePathEncodedUrl)) {
-      nasClient.put(nasFilePathEncodedUrl, inputStream);
+    throw new CustomException(ErrorCode.CHECKSUM_MISMATCH);
+  }
+
+  /**
+   * 리소스 하나의 속성 조회 (Depth: 0 PROPFIND), 일시적인 오류는 재시도
+   *
+   * @param cancelled 작업 취소 여부 (취소되면 재시도하지 않음)
+   * @return 리소스 항목 (존재하지 않으면 null)
+   */
+  private DavEntry findEntry(WebDavEndpoint endpoint, String encodedUrl, BooleanSupplier cancelled) throws IOException {
+    PooledSardine client = endpoint == WebDavEndpoint.CLOUD ? cloudClient : nasClient;
+    return retryPolicy.execute("속성 조회", cancelled, () -> findEntry(client, encodedUrl), endpoint);
+  }
+
+  /**
+   * 리소스 하나의 속성 조회 (Depth: 0 PROPFIND)
+   *
+   * @return 리소스 항목 (존재하지 않으면 null)
+   */
+  private DavEntry findEntry(PooledSardine client, String encodedUrl) throws IOException {
+    AtomicReference<DavEntry> found = new AtomicReference<>();
+    try {
+      client.propfind(encodedUrl, "0", entry -> found.compareAndSet(null, entry));
+    } catch (SardineException e) {
+      if (e.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+        return null;
+      }
+      throw e;
     }
-    log.info("파일 전송 성공: {}", nasFilePath);
-    return TransferResult.SUCCESS;
+    return found.get();
   }
 
   /**
@@ -218,8 +770,15 @@ public class WebDavClient {
    * @return 성공시 true, 실패시 false
    */
   public boolean createFolderIfNotExists(String folderPath, String targetDir) {
-    Sardine nasClient = createClient(nasUsername, nasPassword);
+    return createFolderIfNotExists(folderPath, targetDir, () -> false);
+  }
 
+  /**
+   * 폴더 생성, 존재 확인과 MKCOL 을 함께 재시도 (재시도 전에 다른 요청이 폴더를 만들었어도 다시 확인하므로 안전)
+   *
+   * @param cancelled 작업 취소 여부 (취소되면 재시도하지 않음)
+   */
+  private boolean createFolderIfNotExists(String folderPath, String targetDir, BooleanSupplier cancelled) {
     String normalizedFolder = FileUtil.normalizePath(folderPath); // 폴더 경로 정규화
     String normalizedTarget = FileUtil.normalizePath(targetDir); // NAS 타켓 경로 정규화
 
@@ -232,142 +791,114 @@ public class WebDavClient {
     String targetFolderEncodedFullUrl = FileUtil.buildNormalizedAndEncodedUrl(nasUrl, targetFolderPath); // NAS 폴더경로 Full URL
 
     try {
-      // 대상 폴더 생성
-      if (!nasClient.exists(targetFolderEncodedFullUrl)) {
-        log.info("NAS에 대상 폴더가 존재하지 않아 폴더를 생성합니다: NAS경로: {}, 생성할 폴더: {}", targetDir, targetFolderEncodedFullUrl);
-        nasClient.createDirectory(targetFolderEncodedFullUrl);
-        log.info("NAS에 폴더 생성 성공: 생성된 폴더 경로: {}", targetFolderEncodedFullUrl);
-        return true;
-      } else {
-        log.warn("이미 NAS에 대상 폴더가 존재하므로 건너뜁니다: {}", folderName);
-        return false;
-      }
+      return retryPolicy.execute("폴더 생성", cancelled, () -> {
+        // 대상 폴더 생성
+        if (!nasClient.exists(targetFolderEncodedFullUrl)) {
+          log.info("NAS에 대상 폴더가 존재하지 않아 폴더를 생성합니다: NAS경로: {}, 생성할 폴더: {}", targetDir, targetFolderEncodedFullUrl);
+          nasClient.createDirectory(targetFolderEncodedFullUrl);
+          listingCache.invalidate(WebDavEndpoint.NAS, normalizedTarget);
+          log.info("NAS에 폴더 생성 성공: 생성된 폴더 경로: {}", targetFolderEncodedFullUrl);
+          return true;
+        } else {
+          log.warn("이미 NAS에 대상 폴더가 존재하므로 건너뜁니다: {}", folderName);
+          return false;
+        }
+      }, WebDavEndpoint.NAS);
     } catch (IOException e) {
       log.error("폴더 생성 중 오류가 발생했습니다: {}", FileUtil.combineBaseAndPath(nasUrl, targetFolderPath), e);
       throw new CustomException(ErrorCode.DIRECTORY_CREATE_ERROR);
     }
   }
 
-  /**
-   * 폴더 내용을 재귀적으로 조회
-   */
-  private List<FolderItemDTO> listFolderContentsRecursively(Sardine client, String folderPath, String relativePath) {
-    List<FolderItemDTO> result = new ArrayList<>();
-
-    String normalizedFolderPath = FileUtil.normalizePath(folderPath);
-    log.info("재귀적 조회 대상 폴더: {}", normalizedFolderPath);
-    String cloudEncodedFullUrl = FileUtil.buildNormalizedAndEncodedUrl(cloudUrl, normalizedFolderPath);
-
-    List<DavResource> resources;
-    try {
-      resources = client.list(cloudEncodedFullUrl);
-    } catch (IOException e) {
-      log.error("DavResource 추출에 실패했습니다. 요청URL: {}", cloudEncodedFullUrl);
-      throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
-    }
-    for (DavResource resource : resources) {
-      // 현재 폴더 자체는 건너 뜀
-      if (FileUtil.buildNormalizedAndEncodedUrl(cloudUrl, FileUtil.normalizePath(resource.getHref().toString())).equalsIgnoreCase(cloudEncodedFullUrl)) {
-        log.info("현재 폴더는 건너뜁니다: {}", normalizedFolderPath);
-        continue;
-      }
-
-      String fileName = resource.getName();
-      String newRelativePath = relativePath.isEmpty() ? fileName : FileUtil.combineBaseAndPath(relativePath, fileName);
-      String fullPath = FileUtil.combineBaseAndPath(normalizedFolderPath, fileName);
-
-      FolderItemDTO folderItemDTO = FolderItemDTO.builder()
-          .fileName(fileName)
-          .relativePath(newRelativePath)
-          .fullPath(fullPath)
-          .isDirectory(resource.isDirectory())
-          .build();
-      result.add(folderItemDTO);
-
-      // 디렉토리면 재귀 호출
-      if (resource.isDirectory()) {
-        log.info("하위 폴더 조회를 진행합니다");
-        try {
-          result.addAll(listFolderContentsRecursively(client, fullPath, newRelativePath));
-        } catch (Exception e) {
-          log.error("하위 폴더 조회 실패: {}, 원인: {}", fullPath, e.getMessage());
-          throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
-        }
-      }
-    }
-    return result;
-  }
-
   /**
    * 클라우드 WebDAV 연결 상태 확인
    */
   public boolean isCloudConnected() {
-    return checkConnection(cloudUrl, cloudUsername, cloudPassword);
+    return checkConnection(cloudClient, cloudUrl);
   }
 
   /**
    * NAS WebDAV 연결 상태 확인
    */
   public boolean isNasConnected() {
-    return checkConnection(nasUrl, nasUsername, nasPassword);
+    return checkConnection(nasClient, nasUrl);
   }
 
-  private boolean checkConnection(String baseUrl, String user, String pass) {
-    Sardine client = createClient(user, pass);
+  private boolean checkConnection(PooledSardine client, String baseUrl) {
     try {
-      client.list(baseUrl);
+      client.propfind(baseUrl, "0", entry -> {
+      });
       return true;
     } catch (Exception e) {
       log.error("WebDAV 연결 실패 [{}]: {}", baseUrl, e.getMessage());
       return false;
-    } finally {
-      shutdownClient(client);
     }
   }
 
   /* --------------------- 공통 유틸 메서드 --------------------- */
 
-  private List<WebDavFileDTO> listFiles(String username, String password, String baseUrl, String rawPath) {
-    Sardine client = createClient(username, password);
+  private List<WebDavFileDTO> listFiles(WebDavEndpoint endpoint, PooledSardine client, String baseUrl, String rawPath) {
+    String normalizedPath = FileUtil.normalizePath(rawPath);
+    String fullEncodedUrl = FileUtil.buildNormalizedAndEncodedUrl(baseUrl, normalizedPath);
     try {
-      log.info("목록 조회 요청 URL: {}", FileUtil.combineBaseAndPath(baseUrl, rawPath));
-      String normalizedPath = FileUtil.normalizePath(rawPath);
-      String fullEncodedUrl = FileUtil.buildNormalizedAndEncodedUrl(baseUrl, normalizedPath);
-
-      return client.list(fullEncodedUrl).stream()
-          .filter(r -> !FileUtil.buildNormalizedAndEncodedUrl(baseUrl, FileUtil.normalizePath(r.getHref().toString())).equalsIgnoreCase(fullEncodedUrl))
-          .sorted(Comparator.comparing(DavResource::getName))
-          .map(r -> toDto(r, FileUtil.normalizePath(rawPath)))
-          .collect(Collectors.toList());
+      return listingCache.get(endpoint, normalizedPath, new ListingCache.ListingLoader() {
+        @Override
+        public ListingCache.Listing load() throws IOException {
+          log.info("목록 조회 요청 URL: {}", FileUtil.combineBaseAndPath(baseUrl, rawPath));
+          String basePath = FileUtil.extractDecodedPath(fullEncodedUrl);
+
+          // 응답을 스트리밍으로 파싱하면서 바로 DTO 로 변환 (현재 폴더 자체는 ETag 만 사용)
+          List<WebDavFileDTO> files = new ArrayList<>();
+          AtomicReference<String> etag = new AtomicReference<>();
+          client.propfind(fullEncodedUrl, "1", entry -> {
+            String relativePath = entry.relativePathFrom(basePath);
+            if (relativePath == null) {
+              return;
+            }
+            if (relativePath.isEmpty()) {
+              etag.set(entry.getEtag());
+            } else {
+              files.add(toDto(entry, normalizedPath));
+            }
+          });
+          files.sort(Comparator.comparing(WebDavFileDTO::getFileName));
+          return new ListingCache.Listing(files, etag.get());
+        }
+
+        @Override
+        public String loadEtag() throws IOException {
+          DavEntry directory = findEntry(client, fullEncodedUrl);
+          return directory != null ? directory.getEtag() : null;
+        }
+      });
     } catch (IOException e) {
       log.error("목록 조회 실패 [{}]", rawPath, e);
       throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
-    } finally {
-      shutdownClient(client);
     }
   }
 
-  private Sardine createClient(String user, String pass) {
-    return SardineFactory.begin(user, pass);
-  }
-
-  private void shutdownClient(Sardine client) {
-    try {
-      client.shutdown();
-    } catch (IOException e) {
-      log.warn("Sardine 클라이언트 종료 실패", e);
-    }
-  }
-
-  private WebDavFileDTO toDto(DavResource resource, String parentPath) {
-    String fileName = resource.getName();
+  /**
+   * PROPFIND 항목을 탐색기 목록 항목으로 변환 (목록 조회마다 항목 수만큼 호출, 벤치마크에서 직접 호출하므로 package-private)
+   */
+  static WebDavFileDTO toDto(DavEntry entry, String parentPath) {
+    String fileName = entry.getName();
     String path = FileUtil.combineBaseAndPath(parentPath, fileName);
     return WebDavFileDTO.builder()
         .fileName(fileName)
         .filePath(path)
-        .fileSize(resource.getContentLength() / 1024)
-        .isDirectory(resource.isDirectory())
-        .lastModified(resource.getModified() != null ? DATE_FORMAT.format(resource.getModified()) : "")
+        .fileSize(Math.max(0, entry.getContentLength()) / 1024)
+        .isDirectory(entry.isDirectory())
+        .lastModified(entry.getLastModified() != null ? DATE_FORMAT.format(entry.getLastModified()) : "")
         .build();
   }
+
+  /**
+   * 전송할 파일 하나 (결과 기록 이름, 클라우드 파일 경로, NAS 대상 디렉토리)
+   */
+  @RequiredArgsConstructor
+  private static class FileTarget {
+    private final String name;
+    private final String cloudPath;
+    private final String targetDir;
+  }
 }
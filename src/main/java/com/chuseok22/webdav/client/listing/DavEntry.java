@@ -0,0 +1,35 @@
+package com.chuseok22.webdav.client.listing;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * PROPFIND multistatus 응답의 response 항목 하나
+ */
+@Getter
+@Builder(toBuilder = true)
+public class DavEntry {
+  private String href; // 서버가 반환한 href (인코딩 된 상태)
+  private String path; // href 의 경로 부분 (디코딩, 후행 슬래시 제거)
+  private String name; // 경로의 마지막 세그먼트
+  private long contentLength; // 알 수 없으면 -1
+  private Instant lastModified; // 알 수 없으면 null
+  private String etag;
+  private String checksums; // 서버가 제공하는 체크섬 (oc:checksums, ex. "SHA1:... MD5:...", 없으면 null)
+  private boolean directory;
+
+  /**
+   * 기준 경로에 대한 상대 경로
+   *
+   * @param basePath 디코딩, 정규화된 기준 경로 (조회 요청 경로)
+   * @return 상대 경로 (기준 경로 자체이면 "", 기준 경로 밖이면 null)
+   */
+  public String relativePathFrom(String basePath) {
+    if (path.equals(basePath)) {
+      return "";
+    }
+    String prefix = basePath + "/";
+    return path.startsWith(prefix) ? path.substring(prefix.length()) : null;
+  }
+}
@@ -0,0 +1,135 @@
+package com.chuseok22.webdav.client.listing;
+
+import com.chuseok22.webdav.client.PooledSardine;
+import com.chuseok22.webdav.client.transfer.RetryPolicy;
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.global.util.FileUtil;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.github.sardine.impl.SardineException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpStatus;
+
+/**
+ * 전송 작업 하나 동안 사용하는 대상 디렉토리 목록 인덱스 (파일명 -> DavEntry)
+ * 디렉토리마다 Depth: 1 PROPFIND 를 한 번만 보내고, 이후 존재 여부와 크기 비교는 메모리에서 처리
+ * 같은 디렉토리를 여러 스레드가 동시에 요청하면 하나의 스레드만 조회하고 나머지는 결과를 기다림
+ * (조회 중 재시도 대기가 길어질 수 있으므로 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 ReentrantLock 사용)
+ * 일시적인 오류로 조회에 실패하면 재시도 정책에 따라 다시 조회
+ */
+@Slf4j
+public class DirectoryIndex {
+
+  private final PooledSardine client;
+  private final String baseUrl;
+  private final WebDavEndpoint endpoint;
+  private final RetryPolicy retryPolicy;
+  private final BooleanSupplier cancelled;
+  private final Map<String, Listing> listings = new ConcurrentHashMap<>();
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  /**
+   * @param cancelled 작업 취소 여부 (취소되면 재시도하지 않음)
+   */
+  public DirectoryIndex(PooledSardine client, String baseUrl, WebDavEndpoint endpoint, RetryPolicy retryPolicy, BooleanSupplier cancelled) {
+    this.client = client;
+    this.baseUrl = baseUrl;
+    this.endpoint = endpoint;
+    this.retryPolicy = retryPolicy;
+    this.cancelled = cancelled;
+  }
+
+  /**
+   * 디렉토리의 항목 조회 (처음 요청 시 PROPFIND)
+   *
+   * @param directoryPath 디렉토리 경로 (ex. /home/folder)
+   * @param fileName      파일명
+   * @return 항목 (없으면 null)
+   */
+  public DavEntry find(String directoryPath, String fileName) {
+    return listings.computeIfAbsent(FileUtil.normalizePath(directoryPath), Listing::new).get().get(fileName);
+  }
+
+  /**
+   * 방금 생성한 (비어있는) 디렉토리로 등록하여 조회 요청을 생략
+   */
+  public void markEmpty(String directoryPath) {
+    Listing listing = new Listing(FileUtil.normalizePath(directoryPath));
+    listing.entries = Collections.emptyMap();
+    listings.putIfAbsent(listing.directoryPath, listing);
+  }
+
+  /**
+   * 실제로 보낸 PROPFIND 요청 수
+   */
+  public int getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * 디렉토리 하나의 목록 (최초 get 호출 시 한 번만 조회)
+   */
+  private class Listing {
+    private final String directoryPath;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Map<String, DavEntry> entries;
+
+    private Listing(String directoryPath) {
+      this.directoryPath = directoryPath;
+    }
+
+    private Map<String, DavEntry> get() {
+      Map<String, DavEntry> result = entries;
+      if (result != null) {
+        return result;
+      }
+      lock.lock();
+      try {
+        if (entries == null) {
+          entries = load();
+        }
+        return entries;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private Map<String, DavEntry> load() {
+      String encodedUrl = FileUtil.buildNormalizedAndEncodedUrl(baseUrl, directoryPath);
+      String basePath = FileUtil.extractDecodedPath(encodedUrl);
+      Map<String, DavEntry> loaded = new HashMap<>();
+      try {
+        retryPolicy.run("대상 디렉토리 목록 조회", cancelled, () -> {
+          requestCount.incrementAndGet();
+          loaded.clear();
+          client.propfind(encodedUrl, "1", entry -> {
+            String relativePath = entry.relativePathFrom(basePath);
+            if (relativePath != null && !relativePath.isEmpty()) {
+              loaded.put(entry.getName(), entry);
+            }
+          });
+        }, endpoint);
+      } catch (SardineException e) {
+        if (e.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+          log.debug("대상 디렉토리가 존재하지 않습니다: {}", directoryPath);
+          return Collections.emptyMap();
+        }
+        log.error("대상 디렉토리 목록 조회 실패: {}", directoryPath, e);
+        throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
+      } catch (IOException e) {
+        log.error("대상 디렉토리 목록 조회 실패: {}", directoryPath, e);
+        throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
+      }
+      log.debug("대상 디렉토리 목록 조회: {} ({}개)", directoryPath, loaded.size());
+      return loaded;
+    }
+  }
+}
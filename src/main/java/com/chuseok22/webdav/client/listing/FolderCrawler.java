@@ -0,0 +1,472 @@
+package com.chuseok22.webdav.client.listing;
+
+import com.chuseok22.webdav.client.PooledSardine;
+import com.chuseok22.webdav.client.transfer.RetryPolicy;
+import com.chuseok22.webdav.dto.response.FolderItemDTO;
+import com.chuseok22.webdav.dto.response.ListingSummaryDTO;
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.global.util.FileUtil;
+import com.chuseok22.webdav.vo.ListingMode;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.github.sardine.impl.SardineException;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라우드 폴더 트리 탐색
+ * 1. 서버가 Depth: infinity PROPFIND 를 허용하면 한 번의 요청으로 전체 트리를 스트리밍 조회
+ * 2. 거부하면 (최초 1회 확인 후 기억) 형제 디렉토리의 Depth: 1 PROPFIND 를 동시에 요청하는 병렬 너비 우선 탐색 (최대 max-in-flight 개)
+ *    재시도 후에도 항목을 받기 전에 실패하면 이번 조회만 병렬 탐색으로 진행 (지원 여부는 기억하지 않음)
+ * 어느 방식이든 발견한 항목을 즉시 Listener 로 전달하여 전체 트리 조회가 끝나기 전에 전송을 시작할 수 있도록 함
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FolderCrawler {
+
+  // Depth: infinity 조회 종료 표시
+  private static final FolderItemDTO END_OF_STREAM = FolderItemDTO.builder().build();
+
+  @Qualifier("cloudSardine")
+  private final PooledSardine cloudClient;
+  @Qualifier("transferTaskExecutor")
+  private final ExecutorService transferTaskExecutor;
+  private final RetryPolicy retryPolicy;
+
+  @Value("${webdav.cloud.url}")
+  private String cloudUrl;
+  @Value("${webdav.listing.max-in-flight}")
+  private int maxInFlight;
+  @Value("${webdav.listing.depth-infinity-enabled}")
+  private boolean depthInfinityEnabled;
+  @Value("${webdav.listing.stream-buffer-size}")
+  private int streamBufferSize;
+
+  // Depth: infinity 지원 여부 (null: 아직 확인하지 않음)
+  private volatile Boolean depthInfinitySupported;
+  // 조회 방식별 최근 결과 (방식 간 소요 시간 비교용)
+  private final Map<ListingMode, ListingSummaryDTO> lastSummaries = new ConcurrentHashMap<>();
+
+  /**
+   * 폴더 하위 전체 탐색 (모든 디렉토리 조회가 끝날 때까지 블로킹)
+   * 디렉토리는 항상 그 하위 항목보다 먼저 Listener.onDirectory 로 전달되므로, 파일이 전달되는 시점에는 상위 폴더 처리가 끝나 있음
+   *
+   * @param folderPath 탐색할 클라우드 폴더 경로
+   * @param listener   발견한 디렉토리, 파일을 전달받을 Listener (여러 스레드에서 동시에 호출될 수 있음)
+   * @return 조회 방식과 소요 시간
+   */
+  public ListingSummaryDTO crawl(String folderPath, Listener listener) {
+    String normalizedFolderPath = FileUtil.normalizePath(folderPath);
+    Long fallbackProbeMillis = null;
+
+    if (depthInfinityEnabled && !Boolean.FALSE.equals(depthInfinitySupported)) {
+      long startNanos = System.nanoTime();
+      try {
+        int[] counts = crawlDepthInfinity(normalizedFolderPath, listener);
+        depthInfinitySupported = true;
+        return summarize(ListingMode.DEPTH_INFINITY, startNanos, 1, counts[0], counts[1], null);
+      } catch (DepthInfinityFailedException e) {
+        fallbackProbeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (isDepthRefusal(e.statusCode)) {
+          depthInfinitySupported = false;
+          log.warn("클라우드가 Depth: infinity PROPFIND 를 거부했습니다 (status {}). 디렉토리별 병렬 조회로 전환합니다", e.statusCode);
+        } else {
+          log.warn("Depth: infinity 폴더 조회에 실패했습니다. 이번 조회는 디렉토리별 병렬 조회로 진행합니다: {}", e.getCause().getMessage());
+        }
+      }
+    }
+
+    long startNanos = System.nanoTime();
+    Crawl crawl = new Crawl(listener);
+    crawl.schedule(normalizedFolderPath, "");
+    crawl.await();
+    return summarize(ListingMode.PARALLEL_DEPTH_ONE, startNanos, crawl.directoryCount.get(), crawl.directoryCount.get() - 1, crawl.fileCount.get(),
+        fallbackProbeMillis);
+  }
+
+  /**
+   * Depth: infinity 단일 요청으로 전체 트리 조회
+   * 응답 파싱 스레드는 항목을 제한된 크기의 큐에 넣기만 하고, Listener 호출은 현재 스레드에서 순서대로 처리
+   * (전송 대기로 Listener 가 느려져도 응답 읽기가 멈추지 않도록 큐 크기만큼 완충)
+   * 일시적인 오류는 재시도하되, 항목을 하나라도 전달한 뒤에는 중복 전달을 막기 위해 재시도하지 않음
+   *
+   * @return {디렉토리 수, 파일 수}
+   * @throws DepthInfinityFailedException 항목을 반환하기 전에 요청이 거부되었거나 재시도 후에도 실패한 경우
+   */
+  private int[] crawlDepthInfinity(String folderPath, Listener listener) {
+    String url = FileUtil.buildNormalizedAndEncodedUrl(cloudUrl, folderPath);
+    String basePath = FileUtil.extractDecodedPath(url);
+    BlockingQueue<FolderItemDTO> queue = new ArrayBlockingQueue<>(streamBufferSize);
+    AtomicBoolean stopped = new AtomicBoolean();
+    AtomicBoolean emitted = new AtomicBoolean();
+    AtomicReference<Exception> readFailure = new AtomicReference<>();
+    Set<String> announcedDirectories = new HashSet<>();
+    log.info("Depth: infinity 폴더 조회: {}", folderPath);
+
+    transferTaskExecutor.execute(() -> {
+      // 항목을 전달한 뒤에는 재시도하지 않음
+      BooleanSupplier noRetry = () -> emitted.get() || stopped.get() || listener.isCancelled();
+      try {
+        retryPolicy.run("Depth: infinity 폴더 조회", noRetry, () -> cloudClient.propfind(url, "infinity", entry -> {
+          String relativePath = entry.relativePathFrom(basePath);
+          if (relativePath == null || relativePath.isEmpty()) {
+            return; // 조회 대상 폴더 자체
+          }
+          emitted.set(true);
+          // 서버가 하위 항목을 상위 폴더보다 먼저 반환해도 상위 폴더가 먼저 전달되도록 보장
+          int slash = relativePath.indexOf('/');
+          while (slash > 0) {
+            String ancestor = relativePath.substring(0, slash);
+            if (announcedDirectories.add(ancestor)) {
+              enqueue(queue, stopped, toFolderItem(folderPath, ancestor, true, 0, null, null));
+            }
+            slash = relativePath.indexOf('/', slash + 1);
+          }
+          if (entry.isDirectory()) {
+            if (announcedDirectories.add(relativePath)) {
+              enqueue(queue, stopped, toFolderItem(folderPath, relativePath, true, 0, entry.getEtag(), entry.getLastModified()));
+            }
+          } else {
+            enqueue(queue, stopped, toFolderItem(folderPath, relativePath, false, Math.max(0, entry.getContentLength()), entry.getEtag(),
+                entry.getLastModified()));
+          }
+        }), WebDavEndpoint.CLOUD);
+      } catch (Exception e) {
+        readFailure.set(e);
+      } finally {
+        enqueueEnd(queue);
+      }
+    });
+
+    int directoryCount = 0;
+    int fileCount = 0;
+    RuntimeException listenerFailure = null;
+    // Listener 가 건너뛰기로 한 디렉토리 (하위 항목은 전달하지 않음)
+    Set<String> skippedDirectories = new HashSet<>();
+    try {
+      FolderItemDTO item;
+      while ((item = queue.take()) != END_OF_STREAM) {
+        if (listenerFailure != null || listener.isCancelled()) {
+          stopped.set(true);
+          continue; // 파싱 스레드가 종료될 때까지 남은 항목은 버림
+        }
+        if (isUnderSkippedDirectory(item.getRelativePath(), skippedDirectories)) {
+          continue;
+        }
+        try {
+          if (item.isDirectory()) {
+            directoryCount++;
+            listener.onDirectory(item);
+            if (!listener.shouldDescend(item)) {
+              skippedDirectories.add(item.getRelativePath());
+            }
+          } else {
+            fileCount++;
+            listener.onFile(item);
+          }
+        } catch (RuntimeException e) {
+          listenerFailure = e;
+          stopped.set(true);
+        }
+      }
+    } catch (InterruptedException e) {
+      stopped.set(true);
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+    }
+
+    if (listenerFailure != null) {
+      throw listenerFailure;
+    }
+    Exception failure = readFailure.get();
+    if (failure != null && !stopped.get()) {
+      if (failure instanceof CustomException customException) {
+        throw customException;
+      }
+      if (!emitted.get()) {
+        throw new DepthInfinityFailedException(failure);
+      }
+      log.error("Depth: infinity 폴더 조회에 실패했습니다. 요청URL: {}", url, failure);
+      throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
+    }
+    log.info("폴더 조회 완료 (Depth: infinity): 디렉토리 {}개, 파일 {}개", directoryCount, fileCount);
+    return new int[]{directoryCount, fileCount};
+  }
+
+  /**
+   * 상위 디렉토리 중 건너뛰기로 한 디렉토리가 있는지 여부
+   */
+  private static boolean isUnderSkippedDirectory(String relativePath, Set<String> skippedDirectories) {
+    if (skippedDirectories.isEmpty()) {
+      return false;
+    }
+    int slash = relativePath.lastIndexOf('/');
+    while (slash > 0) {
+      String ancestor = relativePath.substring(0, slash);
+      if (skippedDirectories.contains(ancestor)) {
+        return true;
+      }
+      slash = ancestor.lastIndexOf('/');
+    }
+    return false;
+  }
+
+  private static FolderItemDTO toFolderItem(String folderPath, String relativePath, boolean directory, long fileSize, String etag,
+      Instant lastModified) {
+    return FolderItemDTO.builder()
+        .fileName(relativePath.substring(relativePath.lastIndexOf('/') + 1))
+        .relativePath(relativePath)
+        .fullPath(FileUtil.combineBaseAndPath(folderPath, relativePath))
+        .fileSize(fileSize)
+        .etag(etag)
+        .lastModified(lastModified)
+        .isDirectory(directory)
+        .build();
+  }
+
+  private static void enqueue(BlockingQueue<FolderItemDTO> queue, AtomicBoolean stopped, FolderItemDTO item) {
+    try {
+      while (!queue.offer(item, 1, TimeUnit.SECONDS)) {
+        if (stopped.get()) {
+          throw new CancellationException("폴더 조회가 중단되었습니다");
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("폴더 조회가 중단되었습니다");
+    }
+    if (stopped.get()) {
+      throw new CancellationException("폴더 조회가 중단되었습니다");
+    }
+  }
+
+  private static void enqueueEnd(BlockingQueue<FolderItemDTO> queue) {
+    try {
+      queue.put(END_OF_STREAM);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Depth: infinity 미지원으로 판단하는 응답 코드 (403 propfind-finite-depth, 400, 405, 501, 507)
+   */
+  private static boolean isDepthRefusal(int statusCode) {
+    return statusCode == 400 || statusCode == 403 || statusCode == 405 || statusCode == 501 || statusCode == 507;
+  }
+
+  private ListingSummaryDTO summarize(ListingMode mode, long startNanos, int requestCount, int directoryCount, int fileCount, Long fallbackProbeMillis) {
+    long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    double entriesPerSecond = (directoryCount + fileCount) * 1000d / Math.max(1, durationMillis);
+    ListingMode otherMode = mode == ListingMode.DEPTH_INFINITY ? ListingMode.PARALLEL_DEPTH_ONE : ListingMode.DEPTH_INFINITY;
+    ListingSummaryDTO other = lastSummaries.get(otherMode);
+
+    ListingSummaryDTO summary = ListingSummaryDTO.builder()
+        .mode(mode)
+        .durationMillis(durationMillis)
+        .requestCount(requestCount)
+        .directoryCount(directoryCount)
+        .fileCount(fileCount)
+        .entriesPerSecond(entriesPerSecond)
+        .fallbackProbeMillis(fallbackProbeMillis)
+        .otherModeEntriesPerSecond(other == null ? null : other.getEntriesPerSecond())
+        .build();
+    lastSummaries.put(mode, summary);
+    log.info("폴더 조회 방식: {}, 소요 시간: {}ms, 요청 수: {}, 초당 항목 수: {}", mode.getProperty(), durationMillis, requestCount, String.format("%.1f", entriesPerSecond));
+    return summary;
+  }
+
+  /**
+   * 탐색 결과 수신
+   */
+  public interface Listener {
+
+    void onDirectory(FolderItemDTO directory);
+
+    void onFile(FolderItemDTO file);
+
+    /**
+     * true 반환 시 더 이상 하위 디렉토리를 조회하지 않음
+     */
+    default boolean isCancelled() {
+      return false;
+    }
+
+    /**
+     * onDirectory 직후 호출, false 반환 시 해당 디렉토리의 하위 항목을 조회, 전달하지 않음 (변경 없는 하위 트리 건너뛰기)
+     * Depth: infinity 조회에서는 요청 수는 줄지 않고 하위 항목 전달만 생략됨
+     */
+    default boolean shouldDescend(FolderItemDTO directory) {
+      return true;
+    }
+  }
+
+  private class Crawl {
+
+    private final Listener listener;
+    private final Semaphore inFlight = new Semaphore(maxInFlight, true);
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger directoryCount = new AtomicInteger();
+    private final AtomicInteger fileCount = new AtomicInteger();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition completed = lock.newCondition();
+
+    private Crawl(Listener listener) {
+      this.listener = listener;
+    }
+
+    private void schedule(String folderPath, String relativePath) {
+      if (failure.get() != null || listener.isCancelled()) {
+        return;
+      }
+      pending.incrementAndGet();
+      try {
+        transferTaskExecutor.execute(() -> {
+          try {
+            visit(folderPath, relativePath);
+          } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+          } finally {
+            complete();
+          }
+        });
+      } catch (RuntimeException e) {
+        failure.compareAndSet(null, e);
+        complete();
+      }
+    }
+
+    private void visit(String folderPath, String relativePath) {
+      if (failure.get() != null || listener.isCancelled()) {
+        return;
+      }
+      log.debug("폴더 조회: {}", folderPath);
+      String cloudEncodedFullUrl = FileUtil.buildNormalizedAndEncodedUrl(cloudUrl, folderPath);
+      String basePath = FileUtil.extractDecodedPath(cloudEncodedFullUrl);
+      List<FolderItemDTO> children = list(cloudEncodedFullUrl, basePath, folderPath, relativePath);
+      directoryCount.incrementAndGet();
+
+      for (FolderItemDTO child : children) {
+        if (child.isDirectory()) {
+          listener.onDirectory(child);
+          if (listener.shouldDescend(child)) {
+            schedule(child.getFullPath(), child.getRelativePath());
+          }
+        } else {
+          fileCount.incrementAndGet();
+          listener.onFile(child);
+        }
+      }
+    }
+
+    /**
+     * 디렉토리 하나의 Depth: 1 PROPFIND (동시 요청 수 제한, Listener 처리 중에는 permit 을 잡지 않음)
+     * 응답을 스트리밍으로 파싱하여 필요한 필드만 가진 FolderItemDTO 로 바로 변환
+     * 일시적인 오류는 재시도 (백오프 대기 중에는 엔드포인트 permit 을 반납)
+     */
+    private List<FolderItemDTO> list(String url, String basePath, String folderPath, String relativePath) {
+      try {
+        inFlight.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+      }
+      try {
+        return retryPolicy.execute("폴더 조회", listener::isCancelled, () -> propfindChildren(url, basePath, folderPath, relativePath),
+            WebDavEndpoint.CLOUD);
+      } catch (IOException e) {
+        log.error("폴더 조회에 실패했습니다. 요청URL: {}", url, e);
+        throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
+      } finally {
+        inFlight.release();
+      }
+    }
+
+    private List<FolderItemDTO> propfindChildren(String url, String basePath, String folderPath, String relativePath) throws IOException {
+      List<FolderItemDTO> children = new ArrayList<>();
+      cloudClient.propfind(url, "1", entry -> {
+        String childRelativePath = entry.relativePathFrom(basePath);
+        // 현재 폴더 자체는 건너 뜀
+        if (childRelativePath == null || childRelativePath.isEmpty()) {
+          return;
+        }
+        String fileName = entry.getName();
+        children.add(FolderItemDTO.builder()
+            .fileName(fileName)
+            .relativePath(relativePath.isEmpty() ? fileName : FileUtil.combineBaseAndPath(relativePath, fileName))
+            .fullPath(FileUtil.combineBaseAndPath(folderPath, fileName))
+            .fileSize(entry.isDirectory() ? 0 : Math.max(0, entry.getContentLength()))
+            .etag(entry.getEtag())
+            .lastModified(entry.getLastModified())
+            .isDirectory(entry.isDirectory())
+            .build());
+      });
+      return children;
+    }
+
+    private void await() {
+      lock.lock();
+      try {
+        while (pending.get() > 0) {
+          completed.await();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+      } finally {
+        lock.unlock();
+      }
+      log.info("폴더 조회 완료: 디렉토리 {}개, 파일 {}개", directoryCount.get(), fileCount.get());
+      RuntimeException e = failure.get();
+      if (e != null) {
+        throw e;
+      }
+    }
+
+    private void complete() {
+      if (pending.decrementAndGet() == 0) {
+        lock.lock();
+        try {
+          completed.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+
+  private static class DepthInfinityFailedException extends RuntimeException {
+
+    private final int statusCode; // 응답 코드 (응답을 받지 못했으면 0)
+
+    private DepthInfinityFailedException(Exception cause) {
+      super("Depth: infinity PROPFIND 실패", cause);
+      this.statusCode = cause instanceof SardineException sardineException ? sardineException.getStatusCode() : 0;
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package com.chuseok22.webdav.client.listing;
+
+import com.chuseok22.webdav.dto.response.WebDavFileDTO;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탐색기 화면용 디렉토리 목록 캐시 (엔드포인트 + 정규화된 경로 -> 목록)
+ * 1. ttl 이내: 서버에 확인하지 않고 캐시 사용
+ * 2. ttl 경과: 디렉토리 ETag 만 Depth: 0 으로 조회하여 같으면 캐시 연장 (max-age 까지), 다르거나 ETag 가 없으면 전체 목록 재조회
+ * 3. 이 애플리케이션이 NAS 디렉토리에 기록하면 해당 디렉토리 항목을 바로 제거
+ * 최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * 조회 결과는 webdav.listing.cache 지표 (endpoint, result=hit, revalidated, miss) 로 기록
+ */
+@Slf4j
+@Component
+public class ListingCache {
+
+  private final boolean enabled;
+  private final int maxListingSize;
+  private final long ttlNanos;
+  private final long maxAgeNanos;
+  private final Map<String, Entry> entries;
+  // 엔드포인트별 무효화 횟수 (조회 중에 무효화된 목록은 저장하지 않음)
+  private final Map<WebDavEndpoint, AtomicLong> invalidations = new EnumMap<>(WebDavEndpoint.class);
+  private final Map<WebDavEndpoint, Counter> hits = new EnumMap<>(WebDavEndpoint.class);
+  private final Map<WebDavEndpoint, Counter> revalidations = new EnumMap<>(WebDavEndpoint.class);
+  private final Map<WebDavEndpoint, Counter> misses = new EnumMap<>(WebDavEndpoint.class);
+
+  public ListingCache(
+      @Value("${webdav.listing-cache.enabled}") boolean enabled,
+      @Value("${webdav.listing-cache.max-entries}") int maxEntries,
+      @Value("${webdav.listing-cache.max-listing-size}") int maxListingSize,
+      @Value("${webdav.listing-cache.ttl-millis}") long ttlMillis,
+      @Value("${webdav.listing-cache.max-age-millis}") long maxAgeMillis,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.maxListingSize = maxListingSize;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMillis);
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+    for (WebDavEndpoint endpoint : WebDavEndpoint.values()) {
+      invalidations.put(endpoint, new AtomicLong());
+      hits.put(endpoint, lookupCounter(meterRegistry, endpoint, "hit"));
+      revalidations.put(endpoint, lookupCounter(meterRegistry, endpoint, "revalidated"));
+      misses.put(endpoint, lookupCounter(meterRegistry, endpoint, "miss"));
+    }
+  }
+
+  private static Counter lookupCounter(MeterRegistry meterRegistry, WebDavEndpoint endpoint, String result) {
+    return Counter.builder("webdav.listing.cache")
+        .description("디렉토리 목록 캐시 조회 결과")
+        .tags("endpoint", endpoint.name().toLowerCase(Locale.ROOT), "result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시된 목록 조회 (없거나 만료되었으면 loader 로 조회 후 저장)
+   *
+   * @param path   정규화된 디렉토리 경로
+   * @param loader 전체 목록, 디렉토리 ETag 조회
+   * @return 변경 불가능한 목록
+   */
+  public List<WebDavFileDTO> get(WebDavEndpoint endpoint, String path, ListingLoader loader) throws IOException {
+    if (!enabled) {
+      return loader.load().getFiles();
+    }
+    String key = endpoint.name() + ":" + path;
+    long invalidationCount = invalidations.get(endpoint).get();
+    List<WebDavFileDTO> cached = lookup(endpoint, key, invalidationCount, loader);
+    if (cached != null) {
+      return cached;
+    }
+
+    Listing listing = loader.load();
+    List<WebDavFileDTO> files = List.copyOf(listing.getFiles());
+    if (isCacheable(files.size())) {
+      long loadedAt = System.nanoTime();
+      store(endpoint, key, invalidationCount, new Entry(files, listing.getEtag(), loadedAt, loadedAt));
+    }
+    return files;
+  }
+
+  /**
+   * 목록 전체를 다시 조회하지 않고 사용할 수 있는 캐시 목록 조회 (get 과 같은 ttl, ETag 재검증 규칙)
+   * null 이면 호출한 쪽에서 직접 조회하고 beginLoad, put 으로 저장
+   *
+   * @param loader 디렉토리 ETag 조회 (ttl 이 지난 경우에만 호출)
+   * @return 변경 불가능한 목록 (없거나 만료되었거나 ETag 가 다르면 null)
+   */
+  public List<WebDavFileDTO> getIfValid(WebDavEndpoint endpoint, String path, EtagLoader loader) throws IOException {
+    if (!enabled) {
+      return null;
+    }
+    String key = endpoint.name() + ":" + path;
+    return lookup(endpoint, key, invalidations.get(endpoint).get(), loader);
+  }
+
+  /**
+   * 캐시를 거치지 않고 조회를 시작할 때 호출 (조회 결과를 put 으로 저장할 때 사용)
+   *
+   * @return 조회 시작 시점의 무효화 횟수
+   */
+  public long beginLoad(WebDavEndpoint endpoint) {
+    return invalidations.get(endpoint).get();
+  }
+
+  /**
+   * 캐시를 거치지 않고 조회한 목록 저장 (beginLoad 이후 무효화되었으면 저장하지 않음)
+   *
+   * @param loadMark beginLoad 반환 값
+   */
+  public void put(WebDavEndpoint endpoint, String path, long loadMark, Listing listing) {
+    if (!enabled || !isCacheable(listing.getFiles().size())) {
+      return;
+    }
+    long now = System.nanoTime();
+    store(endpoint, endpoint.name() + ":" + path, loadMark, new Entry(List.copyOf(listing.getFiles()), listing.getEtag(), now, now));
+  }
+
+  /**
+   * 캐시에 저장할 수 있는 목록 크기인지 여부 (매우 큰 디렉토리는 스트리밍 조회만 사용)
+   */
+  public boolean isCacheable(int size) {
+    return size <= maxListingSize;
+  }
+
+  /**
+   * 디렉토리 목록 캐시 제거 (이 애플리케이션이 해당 디렉토리에 파일, 폴더를 기록한 경우)
+   *
+   * @param path 정규화된 디렉토리 경로
+   */
+  public void invalidate(WebDavEndpoint endpoint, String path) {
+    if (!enabled) {
+      return;
+    }
+    invalidations.get(endpoint).incrementAndGet();
+    synchronized (entries) {
+      entries.remove(endpoint.name() + ":" + path);
+    }
+  }
+
+  /**
+   * ttl 이내면 캐시 목록, ttl 이 지났으면 디렉토리 ETag 가 같을 때만 캐시 연장 (max-age 까지)
+   *
+   * @return 캐시 목록 (사용할 수 없으면 miss 로 기록하고 null)
+   */
+  private List<WebDavFileDTO> lookup(WebDavEndpoint endpoint, String key, long invalidationCount, EtagLoader loader) throws IOException {
+    Entry cached;
+    synchronized (entries) {
+      cached = entries.get(key);
+    }
+
+    long now = System.nanoTime();
+    if (cached != null && now - cached.loadedAt < maxAgeNanos) {
+      if (now - cached.validatedAt < ttlNanos) {
+        log.debug("목록 캐시 사용: {}", key);
+        hits.get(endpoint).increment();
+        return cached.files;
+      }
+      if (cached.etag != null && cached.etag.equals(loader.loadEtag())) {
+        log.debug("목록 캐시 재검증 (ETag 동일): {}", key);
+        store(endpoint, key, invalidationCount, new Entry(cached.files, cached.etag, cached.loadedAt, System.nanoTime()));
+        revalidations.get(endpoint).increment();
+        return cached.files;
+      }
+    }
+    misses.get(endpoint).increment();
+    return null;
+  }
+
+  private void store(WebDavEndpoint endpoint, String key, long invalidationCount, Entry entry) {
+    synchronized (entries) {
+      if (invalidations.get(endpoint).get() == invalidationCount) {
+        entries.put(key, entry);
+      }
+    }
+  }
+
+  /**
+   * 캐시 재검증용 디렉토리 ETag 조회
+   */
+  @FunctionalInterface
+  public interface EtagLoader {
+
+    /**
+     * 디렉토리 ETag (Depth: 0, 없으면 null)
+     */
+    String loadEtag() throws IOException;
+  }
+
+  /**
+   * 디렉토리 목록 조회
+   */
+  public interface ListingLoader extends EtagLoader {
+
+    /**
+     * 전체 목록 (Depth: 1)
+     */
+    Listing load() throws IOException;
+  }
+
+  /**
+   * 조회한 디렉토리 목록
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static class Listing {
+    private final List<WebDavFileDTO> files; // 디렉토리 하위 항목
+    private final String etag; // 디렉토리 ETag (없으면 null, 재검증하지 않음)
+  }
+
+  private static class Entry {
+    private final List<WebDavFileDTO> files;
+    private final String etag;
+    private final long loadedAt;
+    private final long validatedAt;
+
+    private Entry(List<WebDavFileDTO> files, String etag, long loadedAt, long validatedAt) {
+      this.files = files;
+      this.etag = etag;
+      this.loadedAt = loadedAt;
+      this.validatedAt = validatedAt;
+    }
+  }
+}
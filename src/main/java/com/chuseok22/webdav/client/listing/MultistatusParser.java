@@ -0,0 +1,245 @@
+package com.chuseok22.webdav.client.listing;
+
+import com.chuseok22.webdav.global.util.FileUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StAX 기반 PROPFIND multistatus 응답 파서
+ * 응답 전체를 DOM / 객체 그래프로 만들지 않고, response 항목을 읽는 즉시 Consumer 로 전달함
+ * propstat 의 status 가 2xx 인 속성만 사용하고 (404 등으로 응답된 속성은 값이 있어도 무시), response 자체의 status 가 2xx 가 아니면 항목을 전달하지 않음
+ */
+@UtilityClass
+@Slf4j
+public class MultistatusParser {
+
+  private static final String DAV_NAMESPACE = "DAV:";
+  // ownCloud / Nextcloud 확장 속성 (체크섬)
+  private static final String OC_NAMESPACE = "http://owncloud.org/ns";
+
+  /**
+   * 조회에 필요한 속성만 요청하는 PROPFIND 본문
+   * oc:checksums 를 지원하지 않는 서버는 404 propstat 으로 응답하며, 해당 propstat 의 속성은 파싱 시 무시됨
+   */
+  public static final String PROPFIND_BODY = """
+      <?xml version="1.0" encoding="utf-8"?>
+      <d:propfind xmlns:d="DAV:" xmlns:oc="http://owncloud.org/ns">
+        <d:prop>
+          <d:resourcetype/>
+          <d:getcontentlength/>
+          <d:getlastmodified/>
+          <d:getetag/>
+          <oc:checksums/>
+        </d:prop>
+      </d:propfind>
+      """;
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+  /**
+   * multistatus 응답 파싱
+   *
+   * @param inputStream 응답 본문
+   * @param consumer    response 항목마다 호출
+   */
+  public static void parse(InputStream inputStream, Consumer<DavEntry> consumer) throws IOException {
+    XMLStreamReader reader = null;
+    try {
+      reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+      EntryBuilder entry = null;
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT && DAV_NAMESPACE.equals(reader.getNamespaceURI())) {
+          String localName = reader.getLocalName();
+          if ("response".equals(localName)) {
+            entry = new EntryBuilder();
+          } else if (entry != null) {
+            PropertyValues properties = entry.currentProperties();
+            switch (localName) {
+              case "href" -> entry.href = reader.getElementText().trim();
+              case "propstat" -> entry.propstat = new PropertyValues();
+              case "status" -> entry.recordStatus(reader.getElementText());
+              case "getcontentlength" -> properties.contentLength = parseLength(reader.getElementText());
+              case "getlastmodified" -> properties.lastModified = parseDate(reader.getElementText());
+              case "getetag" -> properties.etag = reader.getElementText().trim();
+              case "collection" -> properties.directory = true;
+              default -> {
+              }
+            }
+          }
+        } else if (event == XMLStreamConstants.START_ELEMENT && entry != null
+            && OC_NAMESPACE.equals(reader.getNamespaceURI()) && "checksum".equals(reader.getLocalName())) {
+          String checksums = reader.getElementText().trim();
+          entry.currentProperties().checksums = checksums.isEmpty() ? null : checksums;
+        } else if (event == XMLStreamConstants.END_ELEMENT && entry != null && DAV_NAMESPACE.equals(reader.getNamespaceURI())) {
+          if ("propstat".equals(reader.getLocalName())) {
+            entry.endPropstat();
+          } else if ("response".equals(reader.getLocalName())) {
+            if (entry.href != null && entry.successful) {
+              consumer.accept(entry.build());
+            }
+            entry = null;
+          }
+        }
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("PROPFIND 응답 파싱에 실패했습니다", e);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException e) {
+          log.debug("XMLStreamReader 종료 실패: {}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  private static long parseLength(String text) {
+    try {
+      return Long.parseLong(text.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static Instant parseDate(String text) {
+    String value = text.trim();
+    if (value.isEmpty()) {
+      return null;
+    }
+    try {
+      return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+    } catch (DateTimeParseException e) {
+      log.debug("getlastmodified 형식을 해석할 수 없습니다: {}", value);
+      return null;
+    }
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    // 외부 엔티티 처리 비활성화 (XXE 방지)
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * status 가 "HTTP/1.1 2xx ..." 형태인지 (형식을 알 수 없으면 성공으로 간주)
+   */
+  private static boolean isSuccessStatus(String statusLine) {
+    String[] parts = statusLine.trim().split("\\s+", 3);
+    if (parts.length < 2) {
+      return true;
+    }
+    try {
+      int statusCode = Integer.parseInt(parts[1]);
+      return statusCode >= 200 && statusCode < 300;
+    } catch (NumberFormatException e) {
+      return true;
+    }
+  }
+
+  /**
+   * propstat 하나의 속성 값
+   */
+  private static class PropertyValues {
+    private long contentLength = -1;
+    private Instant lastModified;
+    private String etag;
+    private String checksums;
+    private boolean directory;
+    private boolean successful = true;
+
+    /**
+     * 값이 있는 속성만 덮어씀 (propstat 이 여러 개여도 서로 지우지 않도록)
+     */
+    private void merge(PropertyValues other) {
+      if (other.contentLength >= 0) {
+        contentLength = other.contentLength;
+      }
+      if (other.lastModified != null) {
+        lastModified = other.lastModified;
+      }
+      if (other.etag != null) {
+        etag = other.etag;
+      }
+      if (other.checksums != null) {
+        checksums = other.checksums;
+      }
+      directory |= other.directory;
+    }
+  }
+
+  private static class EntryBuilder {
+
+    private String href;
+    // status 가 2xx 인 propstat 의 속성
+    private final PropertyValues properties = new PropertyValues();
+    // 읽는 중인 propstat (status 를 읽기 전까지 보관)
+    private PropertyValues propstat;
+    // response 자체의 status (propstat 밖의 status)
+    private boolean successful = true;
+
+    /**
+     * 속성을 기록할 대상 (propstat 밖의 속성은 바로 반영)
+     */
+    private PropertyValues currentProperties() {
+      return propstat != null ? propstat : properties;
+    }
+
+    private void recordStatus(String statusLine) {
+      if (propstat != null) {
+        propstat.successful = isSuccessStatus(statusLine);
+      } else {
+        successful = isSuccessStatus(statusLine);
+      }
+    }
+
+    private void endPropstat() {
+      if (propstat != null && propstat.successful) {
+        properties.merge(propstat);
+      }
+      propstat = null;
+    }
+
+    private DavEntry build() {
+      String path = FileUtil.normalizePath(FileUtil.decodePath(stripSchemeAndHost(href)));
+      return DavEntry.builder()
+          .href(href)
+          .path(path)
+          .name(path.substring(path.lastIndexOf('/') + 1))
+          .contentLength(properties.contentLength)
+          .lastModified(properties.lastModified)
+          .etag(properties.etag)
+          .checksums(properties.checksums)
+          .directory(properties.directory)
+          .build();
+    }
+
+    /**
+     * 절대 URL 형태의 href 에서 경로 부분만 추출
+     */
+    private static String stripSchemeAndHost(String href) {
+      int schemeEnd = href.indexOf("://");
+      if (schemeEnd < 0) {
+        return href;
+      }
+      int pathStart = href.indexOf('/', schemeEnd + 3);
+      return pathStart < 0 ? "/" : href.substring(pathStart);
+    }
+  }
+}
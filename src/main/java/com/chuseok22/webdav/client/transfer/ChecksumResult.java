@@ -0,0 +1,28 @@
+package com.chuseok22.webdav.client.transfer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 전송한 파일 하나의 체크섬 계산, 검증 결과
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ChecksumResult {
+  private String algorithm; // 설정 알고리즘 (ex. SHA-256)
+  private String value; // 설정 알고리즘으로 계산한 값 (hex)
+  private String verifiedAlgorithm; // 서버 체크섬과 비교한 알고리즘 (비교하지 않았으면 null)
+  private Boolean verified; // 서버 체크섬 일치 여부 (서버가 체크섬을 제공하지 않았으면 null)
+
+  /**
+   * 서버 체크섬과 비교했고 값이 다른 경우
+   */
+  public boolean isMismatch() {
+    return Boolean.FALSE.equals(verified);
+  }
+
+  @Override
+  public String toString() {
+    return algorithm + ":" + value;
+  }
+}
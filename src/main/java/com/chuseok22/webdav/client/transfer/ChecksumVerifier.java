@@ -0,0 +1,178 @@
+package com.chuseok22.webdav.client.transfer;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 중 스트리밍 체크섬 계산 및 서버 체크섬 비교
+ * 중계되는 바이트를 그대로 digest 에 반영하므로 파일을 다시 읽지 않음
+ * 서버 체크섬: PROPFIND oc:checksums 속성, GET 응답의 OC-Checksum / Content-MD5 헤더 (ownCloud, Nextcloud 등)
+ */
+@Slf4j
+@Component
+public class ChecksumVerifier {
+
+  private static final String OC_CHECKSUM_HEADER = "OC-Checksum";
+  private static final String CONTENT_MD5_HEADER = "Content-MD5";
+  // 서버 체크섬 표기 -> MessageDigest 알고리즘 이름 (ADLER32 등 지원하지 않는 형식은 무시)
+  private static final Map<String, String> SERVER_ALGORITHMS = Map.of(
+      "MD5", "MD5",
+      "SHA1", "SHA-1",
+      "SHA-1", "SHA-1",
+      "SHA256", "SHA-256",
+      "SHA-256", "SHA-256",
+      "SHA512", "SHA-512",
+      "SHA-512", "SHA-512");
+
+  private final boolean enabled;
+  private final String algorithm;
+
+  public ChecksumVerifier(
+      @Value("${webdav.verify.enabled}") boolean enabled,
+      @Value("${webdav.verify.algorithm}") String algorithm) {
+    this.enabled = enabled;
+    this.algorithm = algorithm;
+    if (enabled) {
+      // 지원하지 않는 알고리즘이면 기동 시 실패
+      newDigest(algorithm);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 스트리밍 체크섬 계산 시작
+   *
+   * @param serverChecksums 서버가 알려준 체크섬 ("SHA1:hex MD5:hex" 형식, null 허용), 설정 알고리즘과 같은 값을 우선 비교
+   */
+  public StreamingDigest start(List<String> serverChecksums) {
+    Map<String, String> expected = new LinkedHashMap<>();
+    for (String checksums : serverChecksums) {
+      parse(checksums).forEach(expected::putIfAbsent);
+    }
+    if (expected.containsKey(algorithm)) {
+      return new StreamingDigest(algorithm, expected.get(algorithm));
+    }
+    Map.Entry<String, String> other = expected.entrySet().stream().findFirst().orElse(null);
+    return other == null ? new StreamingDigest(null, null) : new StreamingDigest(other.getKey(), other.getValue());
+  }
+
+  /**
+   * 두 서버 체크섬이 같은 알고리즘으로 서로 다른 값을 가지는지 (크기가 같아도 내용이 다른 파일 판별)
+   * 공통 알고리즘이 없으면 false
+   */
+  public boolean isContentDifferent(String checksums, String otherChecksums) {
+    if (checksums == null || otherChecksums == null) {
+      return false;
+    }
+    Map<String, String> other = parse(otherChecksums);
+    for (Map.Entry<String, String> entry : parse(checksums).entrySet()) {
+      String otherValue = other.get(entry.getKey());
+      if (otherValue != null) {
+        return !otherValue.equals(entry.getValue());
+      }
+    }
+    return false;
+  }
+
+  /**
+   * GET 응답 헤더의 체크섬 (OC-Checksum, Content-MD5)
+   */
+  public static List<String> fromResponseHeaders(HttpResponse response) {
+    List<String> checksums = new ArrayList<>();
+    for (Header header : response.getHeaders(OC_CHECKSUM_HEADER)) {
+      checksums.add(header.getValue());
+    }
+    Header contentMd5 = response.getFirstHeader(CONTENT_MD5_HEADER);
+    if (contentMd5 != null) {
+      try {
+        checksums.add("MD5:" + HexFormat.of().formatHex(Base64.getDecoder().decode(contentMd5.getValue().trim())));
+      } catch (IllegalArgumentException e) {
+        log.debug("Content-MD5 형식을 해석할 수 없습니다: {}", contentMd5.getValue());
+      }
+    }
+    return checksums;
+  }
+
+  /**
+   * "SHA1:hex MD5:hex" 형식을 알고리즘 -> 값 (소문자 hex) 으로 변환
+   */
+  private static Map<String, String> parse(String checksums) {
+    Map<String, String> parsed = new LinkedHashMap<>();
+    if (checksums == null) {
+      return parsed;
+    }
+    for (String token : checksums.trim().split("[\\s,]+")) {
+      int colon = token.indexOf(':');
+      if (colon <= 0) {
+        continue;
+      }
+      String digestAlgorithm = SERVER_ALGORITHMS.get(token.substring(0, colon).toUpperCase(Locale.ROOT));
+      if (digestAlgorithm != null) {
+        parsed.putIfAbsent(digestAlgorithm, token.substring(colon + 1).toLowerCase(Locale.ROOT));
+      }
+    }
+    return parsed;
+  }
+
+  private static MessageDigest newDigest(String algorithm) {
+    try {
+      return MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("지원하지 않는 체크섬 알고리즘입니다: " + algorithm, e);
+    }
+  }
+
+  /**
+   * 파일 하나의 스트리밍 체크섬 (한 스레드에서만 갱신, 완료 후 finish 호출)
+   * 서버 체크섬 알고리즘이 설정 알고리즘과 다르면 비교용 digest 를 함께 계산
+   */
+  public class StreamingDigest {
+    private final MessageDigest digest = newDigest(algorithm);
+    private final MessageDigest verifyDigest;
+    private final String expectedAlgorithm;
+    private final String expectedValue;
+
+    private StreamingDigest(String expectedAlgorithm, String expectedValue) {
+      this.expectedAlgorithm = expectedAlgorithm;
+      this.expectedValue = expectedValue;
+      this.verifyDigest = expectedAlgorithm == null || expectedAlgorithm.equals(algorithm) ? null : newDigest(expectedAlgorithm);
+    }
+
+    public void update(byte[] bytes, int offset, int length) {
+      digest.update(bytes, offset, length);
+      if (verifyDigest != null) {
+        verifyDigest.update(bytes, offset, length);
+      }
+    }
+
+    public ChecksumResult finish() {
+      String value = HexFormat.of().formatHex(digest.digest());
+      Boolean verified = null;
+      if (expectedAlgorithm != null) {
+        String actual = verifyDigest != null ? HexFormat.of().formatHex(verifyDigest.digest()) : value;
+        verified = actual.equals(expectedValue);
+      }
+      return ChecksumResult.builder()
+          .algorithm(algorithm)
+          .value(value)
+          .verifiedAlgorithm(expectedAlgorithm)
+          .verified(verified)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔드포인트별 회로 차단기
+ * 재시도 가능한 오류 (과부하 응답, 연결 실패, 타임아웃) 가 연속으로 failure-threshold 번 발생하면 open-millis 동안 해당 엔드포인트 요청을 멈춤
+ * 멈춘 동안 전송 스레드는 실패 처리하지 않고 기다리므로 작업이 일시 중지되며, 시간이 지나면 요청 하나로 복구 여부를 확인 (성공 시 재개)
+ * 복구 확인을 맡은 요청은 결과를 recordSuccess, recordFailure, releaseProbe 중 하나로 반드시 알려야 하며,
+ * 알리지 못한 채 open-millis 가 지나면 다른 요청에 다시 맡김 (확인 요청 하나가 사라져도 엔드포인트가 멈춘 채로 남지 않음)
+ * 상태 지표: webdav.circuit.state (0: 정상, 1: 복구 확인 중, 2: 일시 중지)
+ */
+@Slf4j
+@Component
+public class EndpointCircuitBreaker {
+
+  // 일시 중지 중 취소 여부를 확인하는 주기
+  private static final long WAIT_SLICE_MILLIS = 1000;
+
+  private final int failureThreshold;
+  private final long openNanos;
+  private final Map<WebDavEndpoint, Circuit> circuits = new EnumMap<>(WebDavEndpoint.class);
+
+  public EndpointCircuitBreaker(
+      @Value("${webdav.circuit-breaker.failure-threshold}") int failureThreshold,
+      @Value("${webdav.circuit-breaker.open-millis}") long openMillis,
+      MeterRegistry meterRegistry) {
+    this.failureThreshold = failureThreshold;
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    for (WebDavEndpoint endpoint : WebDavEndpoint.values()) {
+      Circuit circuit = new Circuit(endpoint);
+      circuits.put(endpoint, circuit);
+      Gauge.builder("webdav.circuit.state", circuit, c -> c.getState().ordinal())
+          .description("엔드포인트 회로 차단기 상태 (0: 정상, 1: 복구 확인 중, 2: 일시 중지)")
+          .tag("endpoint", endpoint.name().toLowerCase(Locale.ROOT))
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * 요청 전에 호출, 엔드포인트가 일시 중지 상태면 재개될 때까지 대기
+   *
+   * @param cancelled 대기 중 취소 여부 (취소되면 대기를 멈추고 실패 처리)
+   * @return 이 요청이 복구 확인을 맡았는지 여부 (true 면 요청 후 결과를 반드시 기록)
+   * @throws CustomException 대기 중 취소 또는 인터럽트
+   */
+  public boolean awaitPermission(WebDavEndpoint endpoint, BooleanSupplier cancelled) {
+    return circuits.get(endpoint).awaitPermission(cancelled);
+  }
+
+  /**
+   * 엔드포인트가 응답함 (재시도 대상이 아닌 오류 응답 포함)
+   */
+  public void recordSuccess(WebDavEndpoint endpoint) {
+    circuits.get(endpoint).recordSuccess();
+  }
+
+  /**
+   * 재시도 가능한 오류 발생
+   */
+  public void recordFailure(WebDavEndpoint endpoint) {
+    circuits.get(endpoint).recordFailure();
+  }
+
+  /**
+   * 복구 확인을 맡은 요청이 엔드포인트 상태를 판단하지 못하고 끝남 (다른 엔드포인트 오류, 취소 등)
+   * 상태는 바꾸지 않고 다음 요청에 복구 확인을 맡김
+   */
+  public void releaseProbe(WebDavEndpoint endpoint) {
+    circuits.get(endpoint).releaseProbe();
+  }
+
+  /**
+   * 요청을 멈춘 (일시 중지, 복구 확인 중) 엔드포인트 목록
+   */
+  public List<WebDavEndpoint> getPausedEndpoints() {
+    List<WebDavEndpoint> paused = new ArrayList<>();
+    circuits.forEach((endpoint, circuit) -> {
+      if (circuit.getState() != State.CLOSED) {
+        paused.add(endpoint);
+      }
+    });
+    return paused;
+  }
+
+  private enum State {
+    CLOSED,
+    HALF_OPEN,
+    OPEN,
+  }
+
+  private class Circuit {
+    private final WebDavEndpoint endpoint;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition resumed = lock.newCondition();
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    // 복구 확인 요청이 진행 중인지 (HALF_OPEN 에서 하나만 허용)
+    private boolean probing;
+    private long probeStartedAt;
+
+    private Circuit(WebDavEndpoint endpoint) {
+      this.endpoint = endpoint;
+    }
+
+    private State getState() {
+      return state;
+    }
+
+    private boolean awaitPermission(BooleanSupplier cancelled) {
+      if (state == State.CLOSED) {
+        return false;
+      }
+      lock.lock();
+      try {
+        while (true) {
+          if (state == State.CLOSED) {
+            return false;
+          }
+          long now = System.nanoTime();
+          if (state == State.OPEN && now - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            probing = false;
+          }
+          if (state == State.HALF_OPEN && probing && now - probeStartedAt >= openNanos) {
+            log.warn("[{}] 복구 확인 요청의 결과가 없어 다른 요청으로 다시 확인합니다", endpoint.getProperty());
+            probing = false;
+          }
+          if (state == State.HALF_OPEN && !probing) {
+            probing = true;
+            probeStartedAt = now;
+            log.info("[{}] 요청 재개 가능 여부를 확인합니다", endpoint.getProperty());
+            return true;
+          }
+          if (cancelled.getAsBoolean()) {
+            throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+          }
+          resumed.await(WAIT_SLICE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void recordSuccess() {
+      if (state == State.CLOSED && consecutiveFailures == 0) {
+        return;
+      }
+      lock.lock();
+      try {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+          state = State.CLOSED;
+          probing = false;
+          log.info("[{}] 응답이 정상화되어 요청을 재개합니다", endpoint.getProperty());
+          resumed.signalAll();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void releaseProbe() {
+      lock.lock();
+      try {
+        if (state == State.HALF_OPEN && probing) {
+          probing = false;
+          resumed.signalAll();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void recordFailure() {
+      lock.lock();
+      try {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+          state = State.OPEN;
+          openedAt = System.nanoTime();
+          probing = false;
+          log.warn("[{}] 연속 실패 {}회, {}초 동안 요청을 일시 중지합니다", endpoint.getProperty(), consecutiveFailures,
+              TimeUnit.NANOSECONDS.toSeconds(openNanos));
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
+import com.chuseok22.webdav.vo.TransferResult;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 하나의 전송 구간별 소요 시간 (전송 스레드에서만 갱신, 종료 후 finish 로 기록용 DTO 생성)
+ * 구간: NAS 존재 여부 확인 (probe) -> 클라우드 조회 및 비교 (compare) -> 클라우드 첫 응답 (firstByte) -> 본문 중계, NAS PUT (stream)
+ */
+public class FileTransferTrace {
+
+  private final String file;
+  private final String targetDir;
+  private final LocalDateTime startedAt = LocalDateTime.now();
+  private final long startNanos = System.nanoTime();
+  private long probeNanos;
+  private long compareNanos;
+  private long firstByteNanos = -1;
+  private long streamNanos;
+  private long bytes = -1;
+  private boolean largeFile;
+
+  public FileTransferTrace(String file, String targetDir) {
+    this.file = file;
+    this.targetDir = targetDir;
+  }
+
+  /**
+   * @param fromNanos 구간 시작 시각 (System.nanoTime)
+   */
+  public void addProbe(long fromNanos) {
+    probeNanos += System.nanoTime() - fromNanos;
+  }
+
+  public void addCompare(long fromNanos) {
+    compareNanos += System.nanoTime() - fromNanos;
+  }
+
+  /**
+   * 클라우드 GET 응답 헤더 수신
+   *
+   * @param requestNanos GET 요청 시작 시각
+   * @return 수신 시각 (본문 중계 구간 시작)
+   */
+  public long markFirstByte(long requestNanos) {
+    long now = System.nanoTime();
+    firstByteNanos = now - requestNanos;
+    return now;
+  }
+
+  /**
+   * 본문 전송 완료
+   *
+   * @param fromNanos 본문 전송 시작 시각
+   * @param bytes     전송한 바이트 수
+   * @param largeFile 대용량 (Range 분할) 전송 여부
+   */
+  public void recordStream(long fromNanos, long bytes, boolean largeFile) {
+    this.streamNanos = System.nanoTime() - fromNanos;
+    this.bytes = bytes;
+    this.largeFile = largeFile;
+  }
+
+  /**
+   * @param error 예외로 끝난 경우 예외 (아니면 null)
+   */
+  public FileTraceDTO finish(TransferResult result, Throwable error) {
+    boolean streamed = bytes >= 0;
+    return FileTraceDTO.builder()
+        .file(file)
+        .targetDir(targetDir)
+        .result(result)
+        .error(error != null ? error.getClass().getSimpleName() : null)
+        .largeFile(largeFile)
+        .startedAt(startedAt)
+        .totalMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+        .probeMillis(TimeUnit.NANOSECONDS.toMillis(probeNanos))
+        .compareMillis(TimeUnit.NANOSECONDS.toMillis(compareNanos))
+        .firstByteMillis(firstByteNanos >= 0 ? TimeUnit.NANOSECONDS.toMillis(firstByteNanos) : null)
+        .streamMillis(TimeUnit.NANOSECONDS.toMillis(streamNanos))
+        .bytes(streamed ? bytes : null)
+        .bytesPerSecond(streamed && streamNanos > 0 ? (long) (bytes * 1_000_000_000d / streamNanos) : null)
+        .build();
+  }
+}
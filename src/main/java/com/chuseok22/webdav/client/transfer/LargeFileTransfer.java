@@ -0,0 +1,495 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.client.PooledSardine;
+import com.chuseok22.webdav.client.listing.DavEntry;
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.github.sardine.impl.SardineException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대용량 파일 이어받기 전송
+ * 1. 클라우드 파일을 청크 단위 Range GET 으로 다운로드하여 미리 크기를 할당한 로컬 스풀 파일의 해당 위치에 기록 (positional write)
+ *    서버가 Accept-Ranges 를 알리면 여러 커넥션 (segments) 이 서로 다른 청크를 동시에 다운로드, 알리지 않으면 대용량 전송을 사용하지 않음
+ * 2. 완료된 청크 목록을 체크포인트 파일에 저장, 실패 후 재시도 (같은 작업 또는 이후 작업) 시 남은 청크만 다운로드 (원본 크기, ETag 가 바뀌었으면 처음부터)
+ * 3. 스풀 파일을 NAS 임시 파일(.part)로 PUT 한 뒤 MOVE 로 최종 이름으로 교체 (업로드 실패 시 다운로드 없이 스풀에서 다시 업로드)
+ *    청크 GET, PUT, MOVE 는 각각 재시도 정책으로 재시도 (MOVE 실패 시 업로드를 반복하지 않음)
+ *    업로드 중 중계 읽기 스레드에서 체크섬을 계산하고, 클라우드 체크섬과 다르면 MOVE 하지 않음 (기존 NAS 파일 유지)
+ * WebDAV 는 부분 PUT 이 표준이 아니므로 이어받기 지점은 로컬 스풀에 둠
+ * 스풀, 체크포인트는 (원본 URL, 대상 URL) 마다 하나이며, 같은 원본을 같은 대상으로 보내는 전송이 겹치면 먼저 시작한 전송이 끝날 때까지 대기
+ * 시작 시 보관 기간이 지난 스풀, 체크포인트 (중단 후 다시 전송하지 않은 파일) 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LargeFileTransfer {
+
+  private static final String PART_SUFFIX = ".part";
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final String SPOOL_EXTENSION = ".spool";
+  private static final String CHECKPOINT_EXTENSION = ".checkpoint";
+
+  @Qualifier("cloudSardine")
+  private final PooledSardine cloudClient;
+  @Qualifier("nasSardine")
+  private final PooledSardine nasClient;
+  @Qualifier("transferTaskExecutor")
+  private final ExecutorService transferTaskExecutor;
+  private final TransferRelay transferRelay;
+  private final ChecksumVerifier checksumVerifier;
+  private final TransferMetrics transferMetrics;
+  private final RetryPolicy retryPolicy;
+
+  @Value("${webdav.large-file.enabled}")
+  private boolean enabled;
+  @Value("${webdav.large-file.threshold-bytes}")
+  private long thresholdBytes;
+  @Value("${webdav.large-file.chunk-size-bytes}")
+  private long chunkSizeBytes;
+  @Value("${webdav.large-file.segments}")
+  private int segments;
+  @Value("${webdav.large-file.spool-dir}")
+  private String spoolDir;
+  @Value("${webdav.large-file.spool-retention-hours}")
+  private long spoolRetentionHours;
+
+  // 스풀 키 -> 사용 중인 전송 (같은 스풀을 동시에 쓰지 않도록)
+  private final Map<String, SpoolLock> spoolLocks = new ConcurrentHashMap<>();
+
+  // 클라우드 서버의 Range 지원 여부 (null: 아직 확인하지 않음)
+  private volatile Boolean rangeSupported;
+
+  /**
+   * 대용량 전송 방식 사용 여부 (활성화 상태에서 크기가 기준 이상)
+   */
+  public boolean isLargeFile(long fileSize) {
+    return enabled && fileSize >= thresholdBytes;
+  }
+
+  /**
+   * 대용량 전송 방식 활성화 여부
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 클라우드 서버가 Range 요청을 지원하는지 여부 (최초 1회 HEAD 응답의 Accept-Ranges 로 확인 후 기억)
+   *
+   * @param cloudEncodedUrl 확인에 사용할 파일 URL
+   */
+  public boolean supportsRanges(String cloudEncodedUrl) {
+    Boolean supported = rangeSupported;
+    if (supported == null) {
+      try {
+        supported = cloudClient.acceptsRanges(cloudEncodedUrl);
+      } catch (IOException e) {
+        log.warn("Accept-Ranges 확인 실패, 이번 파일은 일반 전송을 사용합니다: {}", e.getMessage());
+        return false;
+      }
+      rangeSupported = supported;
+      log.info("클라우드 서버 Range 지원 여부: {}", supported);
+    }
+    return supported;
+  }
+
+  /**
+   * 대용량 파일 전송 (클라우드 -> 로컬 스풀 -> NAS)
+   *
+   * @param cloudEncodedUrl 클라우드 파일 URL (인코딩 된 상태)
+   * @param nasEncodedUrl   NAS 최종 파일 URL (인코딩 된 상태)
+   * @param cloudEntry      클라우드 파일 속성 (크기, ETag, 수정일 - 체크포인트 유효성 확인용)
+   * @param progress        다운로드한 바이트 수를 누적
+   * @return 체크섬 결과 (검증 비활성화 시 null, 클라우드 체크섬과 다르면 NAS 파일을 교체하지 않음)
+   */
+  public ChecksumResult transfer(String cloudEncodedUrl, String nasEncodedUrl, DavEntry cloudEntry, TransferProgress progress) throws IOException {
+    Path directory = Paths.get(spoolDir);
+    Files.createDirectories(directory);
+    // 원본 URL, 대상 URL 별 스풀 파일 이름 (같은 원본을 다른 대상으로 보내는 작업과 스풀을 공유하지 않음)
+    String key = LineFields.sha256Hex(cloudEncodedUrl + "\n" + nasEncodedUrl);
+    Path spoolPath = directory.resolve(key + SPOOL_EXTENSION);
+    Path checkpointPath = directory.resolve(key + CHECKPOINT_EXTENSION);
+
+    SpoolLock spoolLock = acquireSpool(key, cloudEntry);
+    try {
+      long size = cloudEntry.getContentLength();
+      int chunkCount = (int) ((size + chunkSizeBytes - 1) / chunkSizeBytes);
+      BitSet completed = restoreCheckpoint(checkpointPath, spoolPath, cloudEncodedUrl, cloudEntry);
+      if (completed.isEmpty()) {
+        // 스풀 파일을 원본 크기로 미리 할당 (청크를 순서와 관계없이 제 위치에 기록)
+        try (RandomAccessFile file = new RandomAccessFile(spoolPath.toFile(), "rw")) {
+          file.setLength(size);
+        }
+      } else {
+        long completedBytes = completed.stream().mapToLong(index -> chunkLength(index, size)).sum();
+        log.info("이전에 받은 {}MB ({}/{} 청크) 이후부터 이어서 다운로드합니다: {}",
+            completedBytes / (1024 * 1024), completed.cardinality(), chunkCount, cloudEntry.getPath());
+        progress.addTransferredBytes(completedBytes);
+      }
+
+      new SegmentedDownload(cloudEncodedUrl, cloudEntry, spoolPath, checkpointPath, chunkCount, completed, progress).run();
+      ChecksumResult checksum = upload(spoolPath, nasEncodedUrl, size, cloudEntry, progress);
+
+      // 체크섬 불일치여도 스풀 내용을 신뢰할 수 없으므로 삭제 (다음 시도는 처음부터 다운로드)
+      Files.deleteIfExists(spoolPath);
+      Files.deleteIfExists(checkpointPath);
+      return checksum;
+    } finally {
+      releaseSpool(key, spoolLock);
+    }
+  }
+
+  /**
+   * 보관 기간이 지난 스풀, 체크포인트 삭제 (작업 재개 전에 실행)
+   * 이어받기 중인 파일은 청크마다 두 파일이 갱신되므로 수정 시각이 보관 기간 이내
+   */
+  @EventListener(ApplicationStartedEvent.class)
+  public void deleteStaleSpoolFiles() {
+    Path directory = Paths.get(spoolDir);
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    Instant threshold = Instant.now().minus(Duration.ofHours(spoolRetentionHours));
+    int deleted = 0;
+    try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*{" + SPOOL_EXTENSION + "," + CHECKPOINT_EXTENSION + "*}")) {
+      for (Path path : paths) {
+        try {
+          if (Files.getLastModifiedTime(path).toInstant().isBefore(threshold)) {
+            Files.deleteIfExists(path);
+            deleted++;
+          }
+        } catch (IOException e) {
+          log.warn("오래된 스풀 파일 삭제 실패: {}", path, e);
+        }
+      }
+    } catch (IOException e) {
+      log.error("스풀 디렉토리 조회 실패: {}", directory, e);
+    }
+    if (deleted > 0) {
+      log.info("보관 기간 ({}시간) 이 지난 스풀, 체크포인트 파일 {}개를 삭제했습니다", spoolRetentionHours, deleted);
+    }
+  }
+
+  /**
+   * 스풀 사용 시작 (같은 스풀을 사용하는 전송이 있으면 끝날 때까지 대기)
+   */
+  private SpoolLock acquireSpool(String key, DavEntry cloudEntry) {
+    SpoolLock spoolLock = spoolLocks.compute(key, (k, current) -> {
+      SpoolLock result = current != null ? current : new SpoolLock();
+      result.users++;
+      return result;
+    });
+    if (!spoolLock.lock.tryLock()) {
+      log.info("같은 파일을 같은 대상으로 전송 중인 작업이 끝날 때까지 대기합니다: {}", cloudEntry.getPath());
+      try {
+        spoolLock.lock.lockInterruptibly();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        releaseUser(key);
+        throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+      }
+    }
+    return spoolLock;
+  }
+
+  private void releaseSpool(String key, SpoolLock spoolLock) {
+    spoolLock.lock.unlock();
+    releaseUser(key);
+  }
+
+  private void releaseUser(String key) {
+    spoolLocks.compute(key, (k, current) -> --current.users == 0 ? null : current);
+  }
+
+  private long chunkLength(int index, long size) {
+    return Math.min(chunkSizeBytes, size - index * chunkSizeBytes);
+  }
+
+  /**
+   * 남은 청크를 segments 개의 커넥션으로 나누어 동시에 다운로드
+   * 각 세그먼트는 다음 남은 청크를 가져가 다운로드하며, 청크가 끝날 때마다 스풀 파일을 fsync 한 뒤 체크포인트를 갱신
+   */
+  private class SegmentedDownload {
+    private final String url;
+    private final DavEntry cloudEntry;
+    private final Path spoolPath;
+    private final Path checkpointPath;
+    private final BitSet completed;
+    private final TransferProgress progress;
+    private final int[] pendingChunks;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    private SegmentedDownload(String url, DavEntry cloudEntry, Path spoolPath, Path checkpointPath, int chunkCount, BitSet completed,
+        TransferProgress progress) {
+      this.url = url;
+      this.cloudEntry = cloudEntry;
+      this.spoolPath = spoolPath;
+      this.checkpointPath = checkpointPath;
+      this.completed = completed;
+      this.progress = progress;
+      this.pendingChunks = IntStream.range(0, chunkCount).filter(index -> !completed.get(index)).toArray();
+    }
+
+    private void run() throws IOException {
+      // 세그먼트의 청크 요청은 클라우드 동시 요청 permit 을 나누어 쓰므로, 커넥션 풀 크기를 넘는 세그먼트는 대기만 함
+      int segmentCount = Math.max(1, Math.min(Math.min(segments, pendingChunks.length),
+          cloudClient.getConnectionManager().getDefaultMaxPerRoute()));
+      try (FileChannel channel = FileChannel.open(spoolPath, StandardOpenOption.WRITE)) {
+        List<Future<?>> futures = new ArrayList<>();
+        // 첫 세그먼트는 호출 스레드에서 실행
+        for (int i = 1; i < segmentCount; i++) {
+          futures.add(transferTaskExecutor.submit(() -> downloadSegment(channel)));
+        }
+        downloadSegment(channel);
+        for (Future<?> future : futures) {
+          awaitSegment(future);
+        }
+      }
+
+      Exception exception = failure.get();
+      if (exception instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (exception instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+    }
+
+    private void downloadSegment(FileChannel channel) {
+      int next;
+      while (failure.get() == null && (next = nextChunk.getAndIncrement()) < pendingChunks.length) {
+        if (progress.isCancelled()) {
+          log.warn("전송이 취소되어 다운로드를 중단합니다 (다음 전송 시 이어받기): {}", cloudEntry.getPath());
+          failure.compareAndSet(null, new CustomException(ErrorCode.TRANSFER_INTERRUPTED));
+          return;
+        }
+        int index = pendingChunks[next];
+        long start = index * chunkSizeBytes;
+        long end = start + chunkLength(index, cloudEntry.getContentLength()) - 1;
+        try {
+          downloadChunk(channel, url, start, end, progress);
+          channel.force(false);
+          markCompleted(index);
+        } catch (IOException | RuntimeException e) {
+          failure.compareAndSet(null, e);
+          return;
+        }
+      }
+    }
+
+    private void markCompleted(int index) throws IOException {
+      synchronized (completed) {
+        completed.set(index);
+        saveCheckpoint(checkpointPath, url, cloudEntry, completed);
+      }
+    }
+
+    private void awaitSegment(Future<?> future) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failure.compareAndSet(null, new CustomException(ErrorCode.TRANSFER_INTERRUPTED));
+      } catch (ExecutionException e) {
+        failure.compareAndSet(null, e.getCause() instanceof Exception cause ? cause : new IllegalStateException(e.getCause()));
+      }
+    }
+  }
+
+  /**
+   * 청크 하나 다운로드 (일시적인 오류는 같은 청크를 재시도), 응답 본문을 스풀 파일의 해당 위치에 기록
+   * 실패한 시도에서 받은 바이트는 진행률에서 제외 (다운로드 바이트 지표는 실제 수신량이므로 그대로 둠)
+   */
+  private void downloadChunk(FileChannel channel, String url, long start, long end, TransferProgress progress) throws IOException {
+    retryPolicy.run("청크 다운로드 (" + start + "-" + end + ")", progress::isCancelled, () -> {
+      AtomicReference<ProgressInputStream> counted = new AtomicReference<>();
+      try {
+        cloudClient.getRange(url, start, end, inputStream -> {
+          counted.set(new ProgressInputStream(inputStream, progress, transferMetrics.getDownloadedBytes()));
+          long written = copy(counted.get(), channel, start);
+          if (written != end - start + 1) {
+            throw new IOException("Range 응답 크기가 다릅니다 (요청: " + (end - start + 1) + ", 수신: " + written + ")");
+          }
+        });
+      } catch (IOException | RuntimeException e) {
+        ProgressInputStream failedStream = counted.get();
+        if (failedStream != null) {
+          progress.addTransferredBytes(-failedStream.getCount());
+        }
+        throw e;
+      }
+    }, WebDavEndpoint.CLOUD);
+  }
+
+  /**
+   * 스풀 파일을 NAS 임시 파일로 업로드한 뒤 최종 이름으로 이동
+   * 검증 활성화 시 업로드하는 바이트로 체크섬을 계산하고, 클라우드 체크섬과 다르면 이동하지 않고 임시 파일을 삭제
+   * PUT 과 MOVE 를 따로 재시도하므로 MOVE 가 실패해도 임시 파일을 다시 업로드하지 않음
+   *
+   * @return 체크섬 결과 (검증 비활성화 시 null)
+   */
+  private ChecksumResult upload(Path spoolPath, String nasEncodedUrl, long size, DavEntry cloudEntry, TransferProgress progress)
+      throws IOException {
+    String partUrl = nasEncodedUrl + PART_SUFFIX;
+    // 시도마다 체크섬을 처음부터 다시 계산
+    ChecksumResult checksum = retryPolicy.execute("대용량 파일 업로드", progress::isCancelled, () -> {
+      try (InputStream inputStream = Files.newInputStream(spoolPath)) {
+        ChecksumVerifier.StreamingDigest digest = checksumVerifier.isEnabled()
+            ? checksumVerifier.start(List.of(Objects.requireNonNullElse(cloudEntry.getChecksums(), "")))
+            : null;
+        transferRelay.relay(inputStream, digest, relayed -> nasClient.put(partUrl, relayed, "application/octet-stream", true, size));
+        return digest != null ? digest.finish() : null;
+      }
+    }, WebDavEndpoint.NAS);
+    if (checksum != null && checksum.isMismatch()) {
+      log.error("대용량 파일 체크섬이 클라우드와 다릅니다 ({}): {}", checksum.getVerifiedAlgorithm(), cloudEntry.getPath());
+      deleteQuietly(partUrl);
+      return checksum;
+    }
+    move(partUrl, nasEncodedUrl, progress);
+    return checksum;
+  }
+
+  /**
+   * 임시 파일을 최종 이름으로 이동 (일시적인 오류는 MOVE 만 재시도)
+   * 이전 시도의 MOVE 가 서버에서는 처리되고 응답만 받지 못한 경우, 재시도가 404 를 받으므로 임시 파일이 없으면 이동 완료로 판단
+   */
+  private void move(String partUrl, String nasEncodedUrl, TransferProgress progress) throws IOException {
+    AtomicInteger attempts = new AtomicInteger();
+    retryPolicy.run("임시 파일 이름 변경", progress::isCancelled, () -> {
+      try {
+        nasClient.move(partUrl, nasEncodedUrl, true);
+      } catch (SardineException e) {
+        if (attempts.get() > 0 && e.getStatusCode() == HttpStatus.SC_NOT_FOUND && !nasClient.exists(partUrl)) {
+          log.info("이전 이름 변경 요청이 처리되어 있습니다: {}", nasEncodedUrl);
+          return;
+        }
+        throw e;
+      } finally {
+        attempts.incrementAndGet();
+      }
+    }, WebDavEndpoint.NAS);
+  }
+
+  /**
+   * 지정 위치부터 기록 (채널의 현재 위치를 사용하지 않으므로 여러 세그먼트가 하나의 채널을 공유 가능)
+   */
+  private static long copy(InputStream inputStream, FileChannel channel, long position) throws IOException {
+    ReadableByteChannel source = Channels.newChannel(inputStream);
+    ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+    long written = 0;
+    while (source.read(buffer) != -1) {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        written += channel.write(buffer, position + written);
+      }
+      buffer.clear();
+    }
+    return written;
+  }
+
+  /**
+   * 체크포인트의 완료 청크 목록 (원본이나 청크 크기가 바뀌었거나 체크포인트가 없으면 빈 목록)
+   */
+  private BitSet restoreCheckpoint(Path checkpointPath, Path spoolPath, String url, DavEntry cloudEntry) {
+    if (!Files.exists(checkpointPath) || !Files.exists(spoolPath)) {
+      return new BitSet();
+    }
+    Properties checkpoint = new Properties();
+    try (InputStream inputStream = Files.newInputStream(checkpointPath)) {
+      checkpoint.load(inputStream);
+      boolean sameSource = url.equals(checkpoint.getProperty("url"))
+          && String.valueOf(cloudEntry.getContentLength()).equals(checkpoint.getProperty("size"))
+          && String.valueOf(chunkSizeBytes).equals(checkpoint.getProperty("chunkSize"))
+          && Objects.equals(cloudEntry.getEtag(), checkpoint.getProperty("etag"))
+          && Objects.equals(String.valueOf(cloudEntry.getLastModified()), checkpoint.getProperty("lastModified"))
+          && Files.size(spoolPath) == cloudEntry.getContentLength();
+      if (!sameSource) {
+        log.info("원본 파일이 변경되어 처음부터 다시 다운로드합니다: {}", cloudEntry.getPath());
+        return new BitSet();
+      }
+      return BitSet.valueOf(Base64.getDecoder().decode(checkpoint.getProperty("completed", "")));
+    } catch (IOException | IllegalArgumentException e) {
+      log.warn("체크포인트를 읽을 수 없어 처음부터 다운로드합니다: {}", checkpointPath, e);
+      return new BitSet();
+    }
+  }
+
+  /**
+   * 완료 청크 목록 저장 (임시 파일에 기록 후 원자적으로 교체)
+   */
+  private void saveCheckpoint(Path checkpointPath, String url, DavEntry cloudEntry, BitSet completed) throws IOException {
+    Properties checkpoint = new Properties();
+    checkpoint.setProperty("url", url);
+    checkpoint.setProperty("size", String.valueOf(cloudEntry.getContentLength()));
+    checkpoint.setProperty("chunkSize", String.valueOf(chunkSizeBytes));
+    if (cloudEntry.getEtag() != null) {
+      checkpoint.setProperty("etag", cloudEntry.getEtag());
+    }
+    checkpoint.setProperty("lastModified", String.valueOf(cloudEntry.getLastModified()));
+    checkpoint.setProperty("completed", Base64.getEncoder().encodeToString(completed.toByteArray()));
+
+    Path tempPath = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+    try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
+      checkpoint.store(outputStream, null);
+    }
+    Files.move(tempPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * 스풀 하나의 잠금과 사용 (대기 포함) 중인 전송 수 (0 이 되면 맵에서 제거, spoolLocks.compute 안에서만 변경)
+   */
+  private static class SpoolLock {
+    private final ReentrantLock lock = new ReentrantLock();
+    private int users;
+  }
+
+  private void deleteQuietly(String url) {
+    try {
+      nasClient.delete(url);
+    } catch (IOException e) {
+      log.warn("NAS 임시 파일 삭제 실패: {}", e.getMessage());
+    }
+  }
+}
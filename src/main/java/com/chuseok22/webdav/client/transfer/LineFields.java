@@ -0,0 +1,71 @@
+package com.chuseok22.webdav.client.transfer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 전송 상태 로컬 파일 (매니페스트, 동기화 인덱스, 스풀) 용 도우미
+ * 탭 구분 한 줄 레코드의 값 이스케이프와 경로별 로컬 파일 이름 생성
+ */
+@UtilityClass
+class LineFields {
+
+  /**
+   * 탭 구분 한 줄 레코드에 기록할 값 이스케이프
+   * 역슬래시, 탭, 줄바꿈을 \\, \t, \n, \r 로 변환
+   */
+  String escape(String value) {
+    StringBuilder builder = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\' -> builder.append("\\\\");
+        case '\t' -> builder.append("\\t");
+        case '\n' -> builder.append("\\n");
+        case '\r' -> builder.append("\\r");
+        default -> builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  /**
+   * escape 로 이스케이프한 값 복원
+   */
+  String unescape(String value) {
+    if (value.indexOf('\\') < 0) {
+      return value;
+    }
+    StringBuilder builder = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\' && i + 1 < value.length()) {
+        char next = value.charAt(++i);
+        builder.append(switch (next) {
+          case 't' -> '\t';
+          case 'n' -> '\n';
+          case 'r' -> '\r';
+          default -> next;
+        });
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  /**
+   * 문자열의 SHA-256 (16진수), 경로별 로컬 파일 이름 생성용
+   */
+  String sha256Hex(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
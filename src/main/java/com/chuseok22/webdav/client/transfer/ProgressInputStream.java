@@ -0,0 +1,47 @@
+package com.chuseok22.webdav.client.transfer;
+
+import io.micrometer.core.instrument.Counter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.Getter;
+
+/**
+ * 읽은 바이트 수를 TransferProgress 와 전송량 지표에 누적하는 InputStream
+ */
+public class ProgressInputStream extends FilterInputStream {
+
+  private final TransferProgress progress;
+  private final Counter bytesCounter;
+  // 이 스트림에서 읽은 바이트 수 (전송 실패 시 진행률에서 제외하기 위해 사용)
+  @Getter
+  private volatile long count;
+
+  public ProgressInputStream(InputStream in, TransferProgress progress, Counter bytesCounter) {
+    super(in);
+    this.progress = progress;
+    this.bytesCounter = bytesCounter;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = super.read();
+    if (b != -1) {
+      count++;
+      progress.addTransferredBytes(1);
+      bytesCounter.increment();
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = super.read(b, off, len);
+    if (n > 0) {
+      count += n;
+      progress.addTransferredBytes(n);
+      bytesCounter.increment(n);
+    }
+    return n;
+  }
+}
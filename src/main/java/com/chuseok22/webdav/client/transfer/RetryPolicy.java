@@ -0,0 +1,225 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.client.transfer.TransferConcurrencyLimiter.Permit;
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.github.sardine.impl.SardineException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+import javax.net.ssl.SSLException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등 WebDAV 요청 (PROPFIND, GET + PUT 중계, MKCOL) 재시도
+ * 재시도 가능한 오류면 지수 백오프 (full jitter: 0 ~ min(max-delay, base-delay x 2^(시도-1)) 사이 무작위) 후 다시 시도
+ * 시도마다 엔드포인트 회로 차단기를 거치므로, 엔드포인트가 일시 중지 상태면 재개될 때까지 기다림
+ * 시도하는 동안만 엔드포인트별 동시 요청 permit 을 잡고, 백오프 대기 중에는 반납
+ * 재시도 지표: webdav.retries (endpoint, outcome=retried, exhausted)
+ */
+@Slf4j
+@Component
+public class RetryPolicy {
+
+  // 일시적인 서버 상태로 판단하는 응답 코드 (나머지 4xx, 5xx 는 다시 요청해도 같은 결과)
+  private static final Set<Integer> RETRYABLE_STATUSES = Set.of(408, 425, 429, 500, 502, 503, 504);
+
+  private final EndpointCircuitBreaker circuitBreaker;
+  private final TransferConcurrencyLimiter concurrencyLimiter;
+  private final MeterRegistry meterRegistry;
+  private final int maxAttempts;
+  private final long baseDelayMillis;
+  private final long maxDelayMillis;
+
+  public RetryPolicy(
+      EndpointCircuitBreaker circuitBreaker,
+      TransferConcurrencyLimiter concurrencyLimiter,
+      MeterRegistry meterRegistry,
+      @Value("${webdav.retry.max-attempts}") int maxAttempts,
+      @Value("${webdav.retry.base-delay-millis}") long baseDelayMillis,
+      @Value("${webdav.retry.max-delay-millis}") long maxDelayMillis) {
+    this.circuitBreaker = circuitBreaker;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.meterRegistry = meterRegistry;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.baseDelayMillis = baseDelayMillis;
+    this.maxDelayMillis = maxDelayMillis;
+  }
+
+  /**
+   * 재시도하며 요청 실행
+   *
+   * @param operation 로그용 작업 이름
+   * @param cancelled 취소 여부 (취소되면 더 이상 재시도하지 않음)
+   * @param endpoints 요청을 보내는 엔드포인트 (모두 재개 상태일 때 permit 을 얻어 시도), 실패 원인을 알 수 없으면 첫 엔드포인트의 실패로 기록
+   * @throws IOException 재시도 대상이 아니거나 최대 시도 횟수를 넘은 경우 마지막 오류
+   */
+  public <T> T execute(String operation, BooleanSupplier cancelled, IoCall<T> call, WebDavEndpoint... endpoints) throws IOException {
+    for (int attempt = 1; ; attempt++) {
+      // 이번 시도가 복구 확인을 맡은 엔드포인트 (시도가 끝나면 결과를 기록하거나 반납)
+      Set<WebDavEndpoint> probes = awaitPermissions(endpoints, cancelled);
+      IOException failure;
+      WebDavEndpoint failedEndpoint = endpoints[0];
+      try {
+        try (Permit ignored = concurrencyLimiter.acquire(endpoints)) {
+          T result = call.call();
+          for (WebDavEndpoint endpoint : endpoints) {
+            circuitBreaker.recordSuccess(endpoint);
+            probes.remove(endpoint);
+          }
+          return result;
+        } catch (EndpointIOException e) {
+          failure = e.getCause();
+          failedEndpoint = e.getEndpoint();
+        } catch (IOException e) {
+          failure = e;
+        }
+
+        boolean retryable = isRetryable(failure);
+        if (retryable) {
+          circuitBreaker.recordFailure(failedEndpoint);
+        } else {
+          // 응답 코드를 받았으므로 엔드포인트는 동작 중
+          circuitBreaker.recordSuccess(failedEndpoint);
+        }
+        probes.remove(failedEndpoint);
+        if (!retryable) {
+          throw failure;
+        }
+      } finally {
+        // 실패 원인이 아닌 엔드포인트는 상태를 알 수 없으므로 복구 확인을 다음 요청에 넘김
+        probes.forEach(circuitBreaker::releaseProbe);
+      }
+
+      if (attempt >= maxAttempts || cancelled.getAsBoolean()) {
+        countRetry(failedEndpoint, "exhausted");
+        throw failure;
+      }
+      long delayMillis = backoffMillis(attempt);
+      countRetry(failedEndpoint, "retried");
+      log.warn("[{}] {} 실패, {}ms 후 재시도 ({}/{}): {}", failedEndpoint.getProperty(), operation, delayMillis, attempt, maxAttempts - 1,
+          failure.getMessage());
+      sleep(delayMillis);
+    }
+  }
+
+  public void run(String operation, BooleanSupplier cancelled, IoRunnable call, WebDavEndpoint... endpoints) throws IOException {
+    execute(operation, cancelled, () -> {
+      call.run();
+      return null;
+    }, endpoints);
+  }
+
+  /**
+   * 다시 요청하면 성공할 수 있는 오류인지
+   * HTTP 응답: 408, 425, 429, 500, 502, 503, 504 만 재시도
+   * 응답을 받지 못함: 연결 실패, 타임아웃, 연결 끊김은 재시도 (인증서 오류, 스레드 인터럽트는 제외)
+   */
+  public static boolean isRetryable(IOException e) {
+    if (e instanceof SardineException sardineException) {
+      return RETRYABLE_STATUSES.contains(sardineException.getStatusCode());
+    }
+    if (e instanceof SSLException) {
+      return false;
+    }
+    if (e instanceof InterruptedIOException) {
+      return e instanceof SocketTimeoutException || e instanceof ConnectTimeoutException;
+    }
+    return true;
+  }
+
+  /**
+   * 여러 엔드포인트를 거치는 요청에서 실패한 엔드포인트를 알 수 있으면 표시
+   * 응답 코드를 받았거나 연결 자체가 실패한 경우만 표시 (그 외에는 상대 쪽 스트림 오류일 수 있음)
+   */
+  public static IOException blame(WebDavEndpoint endpoint, IOException e) {
+    if (e instanceof SardineException || e instanceof ConnectException || e instanceof ConnectTimeoutException
+        || e instanceof NoHttpResponseException) {
+      return new EndpointIOException(endpoint, e);
+    }
+    return e;
+  }
+
+  /**
+   * 모든 엔드포인트가 재개 상태가 될 때까지 대기
+   * 대기 중 취소되면 이미 맡은 복구 확인을 반납
+   *
+   * @return 복구 확인을 맡은 엔드포인트
+   */
+  private Set<WebDavEndpoint> awaitPermissions(WebDavEndpoint[] endpoints, BooleanSupplier cancelled) {
+    Set<WebDavEndpoint> probes = EnumSet.noneOf(WebDavEndpoint.class);
+    try {
+      for (WebDavEndpoint endpoint : endpoints) {
+        if (circuitBreaker.awaitPermission(endpoint, cancelled)) {
+          probes.add(endpoint);
+        }
+      }
+      return probes;
+    } catch (RuntimeException e) {
+      probes.forEach(circuitBreaker::releaseProbe);
+      throw e;
+    }
+  }
+
+  /**
+   * 시도 횟수별 대기 시간 (0 ~ min(max-delay, base-delay x 2^(attempt-1)) 사이 무작위)
+   */
+  long backoffMillis(int attempt) {
+    long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+    return ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+
+  private void countRetry(WebDavEndpoint endpoint, String outcome) {
+    meterRegistry.counter("webdav.retries", "endpoint", endpoint.name().toLowerCase(Locale.ROOT), "outcome", outcome).increment();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+    }
+  }
+
+  @FunctionalInterface
+  public interface IoCall<T> {
+    T call() throws IOException;
+  }
+
+  @FunctionalInterface
+  public interface IoRunnable {
+    void run() throws IOException;
+  }
+
+  /**
+   * 실패한 엔드포인트가 표시된 오류 (execute 밖으로는 원래 오류를 던짐)
+   */
+  @Getter
+  public static class EndpointIOException extends IOException {
+    private final WebDavEndpoint endpoint;
+
+    private EndpointIOException(WebDavEndpoint endpoint, IOException cause) {
+      super(cause.getMessage(), cause);
+      this.endpoint = endpoint;
+    }
+
+    @Override
+    public synchronized IOException getCause() {
+      return (IOException) super.getCause();
+    }
+  }
+}
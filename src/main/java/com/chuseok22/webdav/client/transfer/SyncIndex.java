@@ -0,0 +1,221 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.dto.response.FolderItemDTO;
+import com.chuseok22.webdav.global.util.FileUtil;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동기화 모드용 로컬 인덱스 (원본 폴더 + 대상 경로마다 파일 하나)
+ * 마지막 동기화 시점의 클라우드 항목 (상대 경로, 크기, 수정일, ETag) 을 보관하고, 새로 조회한 항목과 비교하여 변경된 파일만 전송
+ * 디렉토리 ETag 가 같으면 하위 트리 전체를 변경 없음으로 처리 가능 (서버가 하위 변경 시 상위 ETag 를 갱신하는 경우에만 사용)
+ *
+ * 파일 형식 (한 줄에 항목 하나, 탭 구분): 종류(F/D) 크기 수정일(epoch ms) ETag 상대경로 (루트 디렉토리는 빈 경로)
+ * 저장 시 임시 파일에 기록 후 원자적으로 교체하므로 중간에 종료되어도 이전 인덱스가 유지됨
+ */
+@Slf4j
+public class SyncIndex {
+
+  private static final char FILE_RECORD = 'F';
+  private static final char DIRECTORY_RECORD = 'D';
+  private static final String EMPTY = "-";
+  private static final String EXTENSION = ".index";
+  public static final String ROOT = "";
+
+  private final Path path;
+  // 상대 경로 순으로 정렬 (하위 트리 범위 조회용)
+  private final NavigableMap<String, Entry> entries = new TreeMap<>();
+  // 이번 동기화에서 확인한 디렉토리 ETag (실패 없이 끝난 경우에만 반영)
+  private final Map<String, String> pendingDirectoryEtags = new HashMap<>();
+  // ETag 비교로 건너뛴 하위 트리의 파일 수, 크기 (개별 파일은 조회하지 않으므로 따로 집계)
+  private int skippedSubtreeFileCount;
+  private long skippedSubtreeBytes;
+
+  private SyncIndex(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * 원본 서버, 원본 폴더, 대상 서버, 대상 경로 조합마다 인덱스 파일 하나
+   *
+   * @param directory 인덱스 저장 디렉토리
+   */
+  public static Path resolvePath(Path directory, String cloudUrl, String folderPath, String nasUrl, String serverPath) {
+    String key = String.join("|", cloudUrl, FileUtil.normalizePath(folderPath), nasUrl, FileUtil.normalizePath(serverPath));
+    return directory.resolve(LineFields.sha256Hex(key) + EXTENSION);
+  }
+
+  /**
+   * 인덱스 파일 읽기 (없으면 빈 인덱스, 첫 동기화는 전체 전송)
+   */
+  public static SyncIndex load(Path path) throws IOException {
+    SyncIndex index = new SyncIndex(path);
+    if (!Files.exists(path)) {
+      log.info("동기화 인덱스가 없어 전체 파일을 확인합니다: {}", path.getFileName());
+      return index;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length < 5) {
+          continue;
+        }
+        Entry entry = new Entry(
+            fields[0].charAt(0) == DIRECTORY_RECORD,
+            Long.parseLong(fields[1]),
+            EMPTY.equals(fields[2]) ? null : Instant.ofEpochMilli(Long.parseLong(fields[2])),
+            EMPTY.equals(fields[3]) ? null : LineFields.unescape(fields[3]));
+        index.entries.put(LineFields.unescape(fields[4]), entry);
+      }
+    }
+    log.info("동기화 인덱스 로드: {} ({}개 항목)", path.getFileName(), index.entries.size());
+    return index;
+  }
+
+  /**
+   * 마지막 동기화 이후 변경이 없는 파일인지 확인 (변경 없으면 이번 동기화에서 확인한 것으로 표시)
+   * ETag 를 양쪽 모두 알면 크기 + ETag, 아니면 크기 + 수정일로 비교
+   */
+  public synchronized boolean isUnchanged(FolderItemDTO file) {
+    Entry previous = entries.get(file.getRelativePath());
+    if (previous == null || previous.directory || previous.size != file.getFileSize()) {
+      return false;
+    }
+    boolean same = previous.etag != null && file.getEtag() != null
+        ? sameEtag(previous.etag, file.getEtag())
+        : previous.lastModified != null && previous.lastModified.equals(file.getLastModified());
+    if (same) {
+      previous.seen = true;
+    }
+    return same;
+  }
+
+  /**
+   * 디렉토리 확인, ETag 가 마지막 동기화와 같으면 하위 트리 전체를 이번 동기화에서 확인한 것으로 표시
+   *
+   * @param relativePath 디렉토리 상대 경로 (루트는 ROOT)
+   * @param etag         현재 디렉토리 ETag (모르면 null, 항상 변경된 것으로 처리)
+   * @param shortCircuit 하위 트리 건너뛰기 사용 여부 (false 이면 ETag 만 기록하고 항상 false 반환)
+   * @return 하위 트리를 건너뛰어도 되는지 여부
+   */
+  public synchronized boolean isSubtreeUnchanged(String relativePath, String etag, boolean shortCircuit) {
+    if (etag != null) {
+      pendingDirectoryEtags.put(relativePath, etag);
+    }
+    Entry previous = entries.computeIfAbsent(relativePath, key -> new Entry(true, 0, null, null));
+    previous.seen = true;
+    if (!shortCircuit || etag == null || !sameEtag(previous.etag, etag)) {
+      return false;
+    }
+    // 하위 항목 (relativePath/ 로 시작하는 경로) 전체
+    NavigableMap<String, Entry> subtree = relativePath.isEmpty()
+        ? entries
+        : entries.subMap(relativePath + "/", true, relativePath + "/\uffff", true);
+    for (Entry entry : subtree.values()) {
+      entry.seen = true;
+      if (!entry.directory) {
+        skippedSubtreeFileCount++;
+        skippedSubtreeBytes += entry.size;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 전송 완료 (또는 NAS 에 이미 같은 파일이 있음) 파일 기록
+   */
+  public synchronized void recordTransferred(FolderItemDTO file) {
+    Entry entry = new Entry(false, file.getFileSize(), file.getLastModified(), file.getEtag());
+    entry.seen = true;
+    entries.put(file.getRelativePath(), entry);
+  }
+
+  /**
+   * 전송 실패 파일은 인덱스에서 제거하여 다음 동기화에서 다시 전송
+   */
+  public synchronized void recordFailed(FolderItemDTO file) {
+    entries.remove(file.getRelativePath());
+  }
+
+  /**
+   * 인덱스 저장 (임시 파일에 기록 후 교체)
+   *
+   * @param complete 전체 트리 확인 및 전송이 실패 없이 끝났는지 여부
+   *                 true 이면 이번에 확인하지 못한 (클라우드에서 삭제된) 항목을 제거하고 디렉토리 ETag 를 갱신
+   *                 false 이면 디렉토리 ETag 는 이전 값을 유지하여 다음 동기화에서 하위 트리를 다시 확인
+   */
+  public synchronized void save(boolean complete) throws IOException {
+    if (complete) {
+      entries.values().removeIf(entry -> !entry.seen);
+      pendingDirectoryEtags.forEach((relativePath, etag) ->
+          entries.computeIfAbsent(relativePath, key -> new Entry(true, 0, null, null)).etag = etag);
+    }
+    Files.createDirectories(path.getParent());
+    Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+    try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+      for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+        Entry entry = mapEntry.getValue();
+        writer.write(entry.directory ? DIRECTORY_RECORD : FILE_RECORD);
+        writer.write('\t');
+        writer.write(String.valueOf(entry.size));
+        writer.write('\t');
+        writer.write(entry.lastModified != null ? String.valueOf(entry.lastModified.toEpochMilli()) : EMPTY);
+        writer.write('\t');
+        writer.write(entry.etag != null ? LineFields.escape(entry.etag) : EMPTY);
+        writer.write('\t');
+        writer.write(LineFields.escape(mapEntry.getKey()));
+        writer.write('\n');
+      }
+    }
+    try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    }
+    Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    log.info("동기화 인덱스 저장: {} ({}개 항목, 전체 확인: {})", path.getFileName(), entries.size(), complete);
+  }
+
+  public synchronized int getSkippedSubtreeFileCount() {
+    return skippedSubtreeFileCount;
+  }
+
+  public synchronized long getSkippedSubtreeBytes() {
+    return skippedSubtreeBytes;
+  }
+
+  private static class Entry {
+    private final boolean directory;
+    private final long size;
+    private final Instant lastModified;
+    private String etag;
+    private boolean seen;
+
+    private Entry(boolean directory, long size, Instant lastModified, String etag) {
+      this.directory = directory;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.etag = etag;
+    }
+  }
+
+  /**
+   * 두 ETag 가 같은지 비교 (약한 ETag 접두사 무시)
+   */
+  private static boolean sameEtag(String a, String b) {
+    return Objects.equals(a == null ? null : a.replaceFirst("^W/", ""), b == null ? null : b.replaceFirst("^W/", ""));
+  }
+}
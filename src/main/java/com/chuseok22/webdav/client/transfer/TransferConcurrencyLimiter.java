@@ -0,0 +1,361 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpStatus;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 동시성 제한
+ * 1. 전체 동시 전송 수 (global)
+ * 2. 엔드포인트(클라우드, NAS)별 동시 요청 수 (adaptive.enabled 이면 관찰한 처리량, 응답 시간, 오류에 따라 조정)
+ *    요청마다 커넥션을 하나씩 사용하므로 최대값은 커넥션 풀의 호스트별 최대 커넥션 수 이내로 제한
+ *
+ * 엔드포인트별 조정 (window-millis 주기, AIMD)
+ * - 과부하 응답 (429, 503, 504) 또는 타임아웃 발생: 제한 x backoff-ratio (감소)
+ * - 짧은 구간 응답 시간이 장기 평균의 latency-tolerance 배를 넘음: 제한 - 1
+ * - 제한만큼 사용 중이고 처리량이 줄지 않았으며 응답 시간이 유지됨: 제한 + 1 (설정한 최대 동시성까지)
+ * 응답 시간은 본문 전송 시간이 포함되지 않는 요청 (PUT 제외) 만 사용
+ */
+@Component
+@Slf4j
+public class TransferConcurrencyLimiter {
+
+  private static final String CONCURRENCY_LIMIT = "webdav.concurrency.limit";
+  private static final String CONCURRENCY_DECISIONS = "webdav.concurrency.decisions";
+  // 장기 평균 응답 시간 지수이동평균 가중치 (조정 주기마다 반영)
+  private static final double LATENCY_ALPHA = 0.1;
+
+  private final Semaphore globalPermits;
+  private final Map<WebDavEndpoint, EndpointLimit> endpointLimits = new EnumMap<>(WebDavEndpoint.class);
+  private final boolean adaptiveEnabled;
+  private final double backoffRatio;
+  private final double latencyTolerance;
+  private final double throughputTolerance;
+
+  public TransferConcurrencyLimiter(
+      @Value("${webdav.transfer.max-concurrency}") int maxConcurrency,
+      @Value("${webdav.transfer.cloud-max-concurrency}") int cloudMaxConcurrency,
+      @Value("${webdav.transfer.nas-max-concurrency}") int nasMaxConcurrency,
+      @Value("${webdav.pool.max-per-route}") int poolMaxPerRoute,
+      @Value("${webdav.transfer.adaptive.enabled}") boolean adaptiveEnabled,
+      @Value("${webdav.transfer.adaptive.initial-concurrency}") int initialConcurrency,
+      @Value("${webdav.transfer.adaptive.min-concurrency}") int minConcurrency,
+      @Value("${webdav.transfer.adaptive.backoff-ratio}") double backoffRatio,
+      @Value("${webdav.transfer.adaptive.latency-tolerance}") double latencyTolerance,
+      @Value("${webdav.transfer.adaptive.throughput-tolerance}") double throughputTolerance,
+      TransferMetrics transferMetrics,
+      MeterRegistry meterRegistry) {
+    this.globalPermits = new Semaphore(maxConcurrency, true);
+    this.adaptiveEnabled = adaptiveEnabled;
+    this.backoffRatio = backoffRatio;
+    this.latencyTolerance = latencyTolerance;
+    this.throughputTolerance = throughputTolerance;
+    int cloudLimit = limitByPool(WebDavEndpoint.CLOUD, cloudMaxConcurrency, poolMaxPerRoute);
+    int nasLimit = limitByPool(WebDavEndpoint.NAS, nasMaxConcurrency, poolMaxPerRoute);
+    this.endpointLimits.put(WebDavEndpoint.CLOUD, new EndpointLimit(WebDavEndpoint.CLOUD, cloudLimit,
+        adaptiveEnabled ? initialConcurrency : cloudLimit, minConcurrency, transferMetrics.getDownloadedBytes()::count, meterRegistry));
+    this.endpointLimits.put(WebDavEndpoint.NAS, new EndpointLimit(WebDavEndpoint.NAS, nasLimit,
+        adaptiveEnabled ? initialConcurrency : nasLimit, minConcurrency, transferMetrics.getUploadedBytes()::count, meterRegistry));
+    log.info("전송 동시성 제한: 전체={}, 클라우드={}, NAS={}, 자동 조정={}", maxConcurrency, cloudLimit, nasLimit, adaptiveEnabled);
+  }
+
+  /**
+   * 전체 동시 전송 permit 획득 (작업 제출 시점에 호출하여 제출 자체를 제한)
+   */
+  public void acquireGlobal() {
+    try {
+      globalPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+    }
+  }
+
+  public void releaseGlobal() {
+    globalPermits.release();
+  }
+
+  /**
+   * 엔드포인트별 permit 획득 (요청 하나를 보내는 동안 보유, RetryPolicy 가 시도마다 획득)
+   * 클라우드 GET 본문을 NAS PUT 으로 중계하는 요청은 두 커넥션을 함께 사용하므로 두 엔드포인트를 함께 획득
+   * 교착 상태를 막기 위해 항상 enum 순서대로 획득하고 역순으로 반환
+   *
+   * @param endpoints 요청을 보낼 엔드포인트 목록
+   * @return try-with-resources 로 반환하는 permit
+   */
+  public Permit acquire(WebDavEndpoint... endpoints) {
+    WebDavEndpoint[] ordered = endpoints.clone();
+    Arrays.sort(ordered);
+    Deque<EndpointLimit> acquired = new ArrayDeque<>(ordered.length);
+    try {
+      for (WebDavEndpoint endpoint : ordered) {
+        EndpointLimit limit = endpointLimits.get(endpoint);
+        limit.acquire();
+        acquired.push(limit);
+      }
+    } catch (InterruptedException e) {
+      acquired.forEach(EndpointLimit::release);
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.TRANSFER_INTERRUPTED);
+    }
+    return () -> acquired.forEach(EndpointLimit::release);
+  }
+
+  /**
+   * WebDAV 응답 수신 (MeteredRequestExecutor 에서 호출)
+   *
+   * @param elapsedNanos 요청 전송부터 응답 헤더 수신까지
+   */
+  public void onResponse(WebDavEndpoint endpoint, String method, int statusCode, long elapsedNanos) {
+    if (!adaptiveEnabled) {
+      return;
+    }
+    EndpointLimit limit = endpointLimits.get(endpoint);
+    if (statusCode == HttpStatus.SC_TOO_MANY_REQUESTS || statusCode == HttpStatus.SC_SERVICE_UNAVAILABLE
+        || statusCode == HttpStatus.SC_GATEWAY_TIMEOUT) {
+      limit.recordOverload();
+    } else if (!"PUT".equals(method)) {
+      limit.recordLatency(elapsedNanos);
+    }
+  }
+
+  /**
+   * 응답을 받지 못한 요청 (연결, 응답 대기 타임아웃만 과부하로 처리)
+   */
+  public void onIoError(WebDavEndpoint endpoint, IOException e) {
+    if (adaptiveEnabled && (e instanceof ConnectTimeoutException || e instanceof SocketTimeoutException)) {
+      endpointLimits.get(endpoint).recordOverload();
+    }
+  }
+
+  /**
+   * 엔드포인트별 동시성 제한 조정
+   */
+  @Scheduled(fixedDelayString = "${webdav.transfer.adaptive.window-millis}")
+  public void adjust() {
+    if (!adaptiveEnabled) {
+      return;
+    }
+    for (EndpointLimit limit : endpointLimits.values()) {
+      limit.adjust();
+    }
+  }
+
+  /**
+   * 동시 요청 수 최대값을 커넥션 풀 크기 이내로 제한 (초과분은 풀에서 커넥션을 기다리다 타임아웃)
+   */
+  private static int limitByPool(WebDavEndpoint endpoint, int maxConcurrency, int poolMaxPerRoute) {
+    if (maxConcurrency <= poolMaxPerRoute) {
+      return maxConcurrency;
+    }
+    log.warn("[{}] 동시 요청 수 최대값 ({}) 이 커넥션 풀 크기 (max-per-route: {}) 보다 커서 풀 크기로 제한합니다",
+        endpoint.getProperty(), maxConcurrency, poolMaxPerRoute);
+    return poolMaxPerRoute;
+  }
+
+  private static Counter decisionCounter(MeterRegistry meterRegistry, String endpoint, String decision) {
+    return Counter.builder(CONCURRENCY_DECISIONS)
+        .description("동시성 제한 조정 결과 (increase, decrease: 응답 시간 증가, backoff: 과부하 응답, hold)")
+        .tags("endpoint", endpoint, "decision", decision)
+        .register(meterRegistry);
+  }
+
+  @FunctionalInterface
+  public interface Permit extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  /**
+   * 엔드포인트 하나의 크기를 바꿀 수 있는 동시성 제한 (제한이 줄어들면 사용 중인 permit 이 반환될 때까지 새로 획득하지 못함)
+   */
+  private class EndpointLimit {
+    private final WebDavEndpoint endpoint;
+    private final int maxLimit;
+    private final int minLimit;
+    // 엔드포인트 누적 전송 바이트 (처리량 계산용)
+    private final DoubleSupplier transferredBytes;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+    private final Counter increases;
+    private final Counter decreases;
+    private final Counter backoffs;
+    private final Counter holds;
+
+    // lock 으로 보호
+    private int limit;
+    private int inFlight;
+    private int peakInFlight;
+    private int overloadCount;
+    private long latencySumNanos;
+    private int latencyCount;
+
+    // adjust 에서만 갱신 (스케줄러 스레드)
+    private double longTermLatencyNanos;
+    private long lastAdjustNanos = System.nanoTime();
+    private double lastBytes;
+    private double lastThroughput;
+
+    private EndpointLimit(WebDavEndpoint endpoint, int maxLimit, int initialLimit, int minLimit, DoubleSupplier transferredBytes,
+        MeterRegistry meterRegistry) {
+      this.endpoint = endpoint;
+      this.maxLimit = maxLimit;
+      this.minLimit = Math.max(1, Math.min(minLimit, maxLimit));
+      this.limit = Math.max(this.minLimit, Math.min(initialLimit, maxLimit));
+      this.transferredBytes = transferredBytes;
+      this.lastBytes = transferredBytes.getAsDouble();
+      String tag = endpoint.name().toLowerCase(Locale.ROOT);
+      Gauge.builder(CONCURRENCY_LIMIT, this, EndpointLimit::getLimit)
+          .description("엔드포인트별 현재 동시성 제한")
+          .tag("endpoint", tag)
+          .register(meterRegistry);
+      Gauge.builder("webdav.transfer.active", this, EndpointLimit::getInFlight)
+          .description("엔드포인트별 진행 중인 요청 수")
+          .tag("endpoint", tag)
+          .register(meterRegistry);
+      this.increases = decisionCounter(meterRegistry, tag, "increase");
+      this.decreases = decisionCounter(meterRegistry, tag, "decrease");
+      this.backoffs = decisionCounter(meterRegistry, tag, "backoff");
+      this.holds = decisionCounter(meterRegistry, tag, "hold");
+    }
+
+    private void acquire() throws InterruptedException {
+      lock.lockInterruptibly();
+      try {
+        while (inFlight >= limit) {
+          available.await();
+        }
+        inFlight++;
+        peakInFlight = Math.max(peakInFlight, inFlight);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void release() {
+      lock.lock();
+      try {
+        inFlight--;
+        available.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void recordOverload() {
+      lock.lock();
+      try {
+        overloadCount++;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void recordLatency(long elapsedNanos) {
+      lock.lock();
+      try {
+        latencySumNanos += elapsedNanos;
+        latencyCount++;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private int getLimit() {
+      lock.lock();
+      try {
+        return limit;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private int getInFlight() {
+      lock.lock();
+      try {
+        return inFlight;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void adjust() {
+      long now = System.nanoTime();
+      double bytes = transferredBytes.getAsDouble();
+      double elapsedSec = (now - lastAdjustNanos) / 1_000_000_000d;
+      double throughput = elapsedSec > 0 ? (bytes - lastBytes) / elapsedSec : 0;
+      lastAdjustNanos = now;
+      lastBytes = bytes;
+
+      lock.lock();
+      try {
+        int previousLimit = limit;
+        double windowLatencyNanos = latencyCount > 0 ? (double) latencySumNanos / latencyCount : 0;
+        boolean saturated = peakInFlight >= limit;
+        boolean latencyRising = longTermLatencyNanos > 0 && windowLatencyNanos > longTermLatencyNanos * latencyTolerance;
+
+        if (overloadCount > 0) {
+          limit = Math.max(minLimit, (int) (limit * backoffRatio));
+          backoffs.increment();
+        } else if (latencyRising) {
+          limit = Math.max(minLimit, limit - 1);
+          decreases.increment();
+        } else if (saturated && limit < maxLimit && throughput >= lastThroughput * (1 - throughputTolerance)) {
+          limit++;
+          increases.increment();
+          available.signal();
+        } else {
+          holds.increment();
+        }
+
+        if (limit != previousLimit) {
+          if (overloadCount > 0) {
+            log.info("[{}] 과부하 응답 {}건, 동시성 제한 감소: {} -> {}", endpoint.getProperty(), overloadCount, previousLimit, limit);
+          } else {
+            log.debug("[{}] 동시성 제한 조정: {} -> {} (응답 시간 {}ms, 평균 {}ms, 처리량 {}KB/s)", endpoint.getProperty(), previousLimit, limit,
+                (long) (windowLatencyNanos / 1_000_000), (long) (longTermLatencyNanos / 1_000_000), (long) (throughput / 1024));
+          }
+        }
+
+        if (latencyCount > 0) {
+          longTermLatencyNanos = longTermLatencyNanos == 0
+              ? windowLatencyNanos
+              : LATENCY_ALPHA * windowLatencyNanos + (1 - LATENCY_ALPHA) * longTermLatencyNanos;
+        }
+        // 사용량이 제한에 못 미친 구간의 처리량은 비교 기준으로 쓰지 않음
+        if (saturated) {
+          lastThroughput = throughput;
+        }
+        overloadCount = 0;
+        latencySumNanos = 0;
+        latencyCount = 0;
+        peakInFlight = inFlight;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
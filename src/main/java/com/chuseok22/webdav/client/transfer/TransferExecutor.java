@@ -0,0 +1,90 @@
+package com.chuseok22.webdav.client.transfer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 단위 전송 작업을 병렬로 실행
+ * 전체 동시성 permit 을 얻은 뒤에만 작업을 제출하므로 대기 중인 작업 수가 제한됨
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TransferExecutor {
+
+  @Qualifier("transferTaskExecutor")
+  private final ExecutorService transferTaskExecutor;
+  private final TransferConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * 새 전송 배치 생성
+   */
+  public Batch newBatch() {
+    return new Batch();
+  }
+
+  /**
+   * 하나의 전송 요청(다중 파일, 폴더)에 속한 작업 묶음
+   */
+  public class Batch {
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition completed = lock.newCondition();
+
+    /**
+     * 작업 제출 (동시성 한도에 도달하면 permit 을 얻을 때까지 블로킹)
+     */
+    public void submit(Runnable task) {
+      concurrencyLimiter.acquireGlobal();
+      pending.incrementAndGet();
+      try {
+        transferTaskExecutor.execute(() -> {
+          try {
+            task.run();
+          } catch (Exception e) {
+            log.error("전송 작업 실행 중 예상치 못한 오류가 발생했습니다", e);
+          } finally {
+            concurrencyLimiter.releaseGlobal();
+            complete();
+          }
+        });
+      } catch (RuntimeException e) {
+        concurrencyLimiter.releaseGlobal();
+        complete();
+        throw e;
+      }
+    }
+
+    /**
+     * 제출한 모든 작업이 끝날 때까지 대기
+     */
+    public void await() throws InterruptedException {
+      lock.lock();
+      try {
+        while (pending.get() > 0) {
+          completed.await();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void complete() {
+      if (pending.decrementAndGet() == 0) {
+        lock.lock();
+        try {
+          completed.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+}
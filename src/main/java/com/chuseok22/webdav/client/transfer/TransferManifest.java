@@ -0,0 +1,384 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.dto.response.FolderItemDTO;
+import com.chuseok22.webdav.global.util.FileUtil;
+import com.chuseok22.webdav.vo.TransferResult;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폴더 전송 작업의 디스크 매니페스트 (추가 전용, 한 줄에 레코드 하나, 탭 구분)
+ * H: 헤더 (작업 ID, 덮어쓰기 여부, 원본 경로, 대상 경로)
+ * F: 조회된 파일 (번호, 크기, ETag, 상대 경로)
+ * E: 폴더 조회 완료
+ * S / U / X: 파일 전송 성공 / 중복 / 실패 (번호, 크기)
+ *
+ * 기록은 버퍼에만 쓰고 sync() 호출 시 (주기적으로) 한 번에 fsync
+ * 재시작 시 recover() 로 완료된 파일만 남긴 새 매니페스트로 압축한 뒤 남은 파일부터 이어서 전송
+ * 파일 목록을 힙에 올리지 않고 스트리밍으로 읽으며, 파일마다 유지하는 것은 완료 여부 비트와 완료 경로 해시 (8 byte) 뿐
+ */
+@Slf4j
+public class TransferManifest implements Closeable {
+
+  private static final String VERSION = "1";
+  private static final char HEADER_RECORD = 'H';
+  private static final char FILE_RECORD = 'F';
+  private static final char ENUMERATION_COMPLETE_RECORD = 'E';
+  private static final char SUCCESS_RECORD = 'S';
+  private static final char DUPLICATE_RECORD = 'U';
+  private static final char FAILURE_RECORD = 'X';
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+  @Getter
+  private final Path path;
+  @Getter
+  private final Header header;
+  private final FileChannel channel;
+  private final Writer writer;
+  private int nextIndex;
+  private boolean dirty;
+
+  // 복구 상태
+  private final boolean enumerationComplete;
+  private final int recoveredFileCount;
+  private final long recoveredTotalBytes;
+  private final int recoveredCompletedCount;
+  private final long recoveredCompletedBytes;
+  private final long[] completedPathHashes; // 정렬됨, 폴더 재조회 시 완료 파일 건너뛰기용
+
+  private TransferManifest(Path path, Header header, RecoveryState state) throws IOException {
+    this.path = path;
+    this.header = header;
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    this.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+    this.nextIndex = state.fileCount;
+    this.enumerationComplete = state.enumerationComplete;
+    this.recoveredFileCount = state.fileCount;
+    this.recoveredTotalBytes = state.totalBytes;
+    this.recoveredCompletedCount = state.completedCount;
+    this.recoveredCompletedBytes = state.completedBytes;
+    this.completedPathHashes = state.completedPathHashes;
+  }
+
+  /**
+   * 새 작업의 매니페스트 생성
+   */
+  public static TransferManifest create(Path path, Header header) throws IOException {
+    Files.createDirectories(path.getParent());
+    Files.deleteIfExists(path);
+    TransferManifest manifest = new TransferManifest(path, header, new RecoveryState());
+    manifest.writeHeader();
+    manifest.sync();
+    return manifest;
+  }
+
+  /**
+   * 중단된 작업의 매니페스트 복구
+   * 1. 전체를 한 번 읽어 완료된 파일 번호와 폴더 조회 완료 여부 확인
+   * 2. 완료된 파일 (폴더 조회가 끝났다면 전체 파일) 만 번호를 다시 매겨 새 파일에 기록한 뒤 원자적으로 교체
+   */
+  public static TransferManifest recover(Path path) throws IOException {
+    truncateIncompleteLine(path);
+    Header header = readHeader(path);
+
+    // 1. 완료된 파일 번호 수집
+    BitSet completed = new BitSet();
+    boolean enumerationComplete = false;
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty()) {
+          continue;
+        }
+        char type = line.charAt(0);
+        if (type == ENUMERATION_COMPLETE_RECORD) {
+          enumerationComplete = true;
+        } else if (type == SUCCESS_RECORD || type == DUPLICATE_RECORD) {
+          completed.set(Integer.parseInt(split(line)[1]));
+        }
+      }
+    }
+
+    // 2. 압축된 매니페스트 작성
+    Path compactPath = path.resolveSibling(path.getFileName() + ".compact");
+    RecoveryState state = new RecoveryState();
+    state.enumerationComplete = enumerationComplete;
+    long[] hashes = new long[Math.max(16, completed.cardinality())];
+    int hashCount = 0;
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        BufferedWriter compactWriter = Files.newBufferedWriter(compactPath, StandardCharsets.UTF_8)) {
+      compactWriter.write(headerLine(header));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty() || line.charAt(0) != FILE_RECORD) {
+          continue;
+        }
+        String[] fields = split(line);
+        int oldIndex = Integer.parseInt(fields[1]);
+        boolean done = completed.get(oldIndex);
+        if (!done && !enumerationComplete) {
+          // 폴더를 다시 조회할 것이므로 미완료 파일은 버림
+          continue;
+        }
+        long size = Long.parseLong(fields[2]);
+        int index = state.fileCount++;
+        state.totalBytes += size;
+        compactWriter.write(line(FILE_RECORD, String.valueOf(index), fields[2], fields[3], fields[4]));
+        if (done) {
+          compactWriter.write(line(SUCCESS_RECORD, String.valueOf(index), fields[2]));
+          state.completedCount++;
+          state.completedBytes += size;
+          hashes[hashCount++] = hash(LineFields.unescape(fields[4]));
+        }
+      }
+      if (enumerationComplete) {
+        compactWriter.write(line(ENUMERATION_COMPLETE_RECORD));
+      }
+    }
+    try (FileChannel compactChannel = FileChannel.open(compactPath, StandardOpenOption.WRITE)) {
+      compactChannel.force(true);
+    }
+    Files.move(compactPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    long[] completedPathHashes = Arrays.copyOf(hashes, hashCount);
+    Arrays.sort(completedPathHashes);
+    state.completedPathHashes = completedPathHashes;
+    log.info("매니페스트 복구: {} (파일: {}, 완료: {}, 폴더 조회 완료: {})", path.getFileName(), state.fileCount, state.completedCount, enumerationComplete);
+    return new TransferManifest(path, header, state);
+  }
+
+  /**
+   * 매니페스트 헤더만 읽기
+   */
+  public static Header readHeader(Path path) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line = reader.readLine();
+      if (line == null || line.isEmpty() || line.charAt(0) != HEADER_RECORD) {
+        throw new IOException("매니페스트 헤더가 없습니다: " + path);
+      }
+      String[] fields = split(line);
+      return Header.builder()
+          .jobId(LineFields.unescape(fields[2]))
+          .overwrite(Boolean.parseBoolean(fields[3]))
+          .sourcePath(LineFields.unescape(fields[4]))
+          .targetPath(LineFields.unescape(fields[5]))
+          .build();
+    }
+  }
+
+  /**
+   * 조회된 파일 기록
+   *
+   * @return 파일 번호 (복구 전 이미 완료된 파일이면 -1, 전송하지 않음)
+   */
+  public synchronized int recordFile(FolderItemDTO file) throws IOException {
+    if (completedPathHashes.length > 0 && Arrays.binarySearch(completedPathHashes, hash(file.getRelativePath())) >= 0) {
+      return -1;
+    }
+    int index = nextIndex++;
+    append(line(FILE_RECORD, String.valueOf(index), String.valueOf(file.getFileSize()), file.getEtag() != null ? LineFields.escape(file.getEtag()) : "-",
+        LineFields.escape(file.getRelativePath())));
+    return index;
+  }
+
+  public synchronized void recordEnumerationComplete() throws IOException {
+    append(line(ENUMERATION_COMPLETE_RECORD));
+  }
+
+  public synchronized void recordResult(int index, TransferResult result, long size) throws IOException {
+    char type = switch (result) {
+      case SUCCESS -> SUCCESS_RECORD;
+      case DUPLICATE -> DUPLICATE_RECORD;
+      default -> FAILURE_RECORD;
+    };
+    append(line(type, String.valueOf(index), String.valueOf(size)));
+  }
+
+  /**
+   * 아직 완료되지 않은 파일을 순서대로 전달 (폴더 조회가 완료된 매니페스트에서만 사용, 스트리밍으로 읽음)
+   *
+   * @param folderPath 원본 폴더 경로 (전체 경로 계산용)
+   */
+  public void forEachPendingFile(String folderPath, PendingFileConsumer consumer) throws IOException {
+    sync();
+    BitSet completed = new BitSet();
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isEmpty() && (line.charAt(0) == SUCCESS_RECORD || line.charAt(0) == DUPLICATE_RECORD)) {
+          completed.set(Integer.parseInt(split(line)[1]));
+        }
+      }
+    }
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty() || line.charAt(0) != FILE_RECORD) {
+          continue;
+        }
+        String[] fields = split(line);
+        int index = Integer.parseInt(fields[1]);
+        if (completed.get(index)) {
+          continue;
+        }
+        String relativePath = LineFields.unescape(fields[4]);
+        consumer.accept(FolderItemDTO.builder()
+            .fileName(relativePath.substring(relativePath.lastIndexOf('/') + 1))
+            .relativePath(relativePath)
+            .fullPath(FileUtil.combineBaseAndPath(folderPath, relativePath))
+            .fileSize(Long.parseLong(fields[2]))
+            .etag("-".equals(fields[3]) ? null : LineFields.unescape(fields[3]))
+            .isDirectory(false)
+            .build(), index);
+      }
+    }
+  }
+
+  /**
+   * 버퍼에 쌓인 기록을 디스크에 반영 (fsync)
+   */
+  public synchronized void sync() throws IOException {
+    if (!dirty || !channel.isOpen()) {
+      return;
+    }
+    writer.flush();
+    channel.force(false);
+    dirty = false;
+  }
+
+  public boolean isEnumerationComplete() {
+    return enumerationComplete;
+  }
+
+  public int getRecoveredFileCount() {
+    return recoveredFileCount;
+  }
+
+  public long getRecoveredTotalBytes() {
+    return recoveredTotalBytes;
+  }
+
+  public int getRecoveredCompletedCount() {
+    return recoveredCompletedCount;
+  }
+
+  public long getRecoveredCompletedBytes() {
+    return recoveredCompletedBytes;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (!channel.isOpen()) {
+      return;
+    }
+    sync();
+    writer.close();
+  }
+
+  private void writeHeader() throws IOException {
+    append(headerLine(header));
+  }
+
+  private void append(String line) throws IOException {
+    writer.write(line);
+    dirty = true;
+  }
+
+  private static String headerLine(Header header) {
+    return line(HEADER_RECORD, VERSION, LineFields.escape(header.getJobId()), String.valueOf(header.isOverwrite()), LineFields.escape(header.getSourcePath()),
+        LineFields.escape(header.getTargetPath()));
+  }
+
+  private static String line(char type, String... fields) {
+    StringBuilder builder = new StringBuilder().append(type);
+    for (String field : fields) {
+      builder.append('\t').append(field);
+    }
+    return builder.append('\n').toString();
+  }
+
+  private static String[] split(String line) {
+    return line.split("\t", -1);
+  }
+
+  /**
+   * 비정상 종료로 마지막 줄이 잘린 경우 마지막 줄바꿈 이후를 제거 (이후 추가 기록과 섞이지 않도록)
+   */
+  private static void truncateIncompleteLine(Path path) throws IOException {
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocate(4096);
+      long end = fileChannel.size();
+      while (end > 0) {
+        int length = (int) Math.min(buffer.capacity(), end);
+        buffer.clear().limit(length);
+        fileChannel.read(buffer, end - length);
+        for (int i = length - 1; i >= 0; i--) {
+          if (buffer.get(i) == '\n') {
+            long newSize = end - length + i + 1;
+            if (newSize < fileChannel.size()) {
+              log.warn("매니페스트의 잘린 마지막 줄을 제거합니다: {}", path.getFileName());
+              fileChannel.truncate(newSize);
+            }
+            return;
+          }
+        }
+        end -= length;
+      }
+      fileChannel.truncate(0);
+    }
+  }
+
+  /**
+   * 상대 경로의 64bit FNV-1a 해시
+   */
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  /**
+   * 매니페스트 헤더 (작업 재개에 필요한 요청 정보)
+   */
+  @Getter
+  @Builder
+  public static class Header {
+    private String jobId;
+    private String sourcePath;
+    private String targetPath;
+    private boolean overwrite;
+  }
+
+  @FunctionalInterface
+  public interface PendingFileConsumer {
+    void accept(FolderItemDTO file, int index) throws IOException;
+  }
+
+  private static class RecoveryState {
+    private boolean enumerationComplete;
+    private int fileCount;
+    private long totalBytes;
+    private int completedCount;
+    private long completedBytes;
+    private long[] completedPathHashes = new long[0];
+  }
+}
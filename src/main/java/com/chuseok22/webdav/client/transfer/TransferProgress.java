@@ -0,0 +1,380 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
+import com.chuseok22.webdav.dto.response.ListingSummaryDTO;
+import com.chuseok22.webdav.dto.response.TransferFileEventDTO;
+import com.chuseok22.webdav.dto.response.TransferResultDTO;
+import com.chuseok22.webdav.vo.TransferResult;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 병렬 전송 진행 상황 및 결과 집계 (thread-safe)
+ */
+public class TransferProgress {
+
+  // 처리량 지수이동평균 가중치
+  private static final double THROUGHPUT_ALPHA = 0.3;
+  // 아직 전달되지 않은 파일 단위 이벤트 최대 보관 수 (초과분은 버리고 개수만 집계)
+  private static final int MAX_PENDING_FILE_EVENTS = 1000;
+  // 작업 종료 시 보고하는 가장 느린 파일 수
+  private static final int SLOWEST_FILE_COUNT = 10;
+  private static final Comparator<FileTraceDTO> BY_TOTAL_MILLIS = Comparator.comparingLong(FileTraceDTO::getTotalMillis);
+
+  private final AtomicInteger totalCount = new AtomicInteger();
+  private final AtomicInteger successCount = new AtomicInteger();
+  private final AtomicInteger unchangedCount = new AtomicInteger();
+  private final AtomicLong totalBytes = new AtomicLong();
+  private final AtomicLong transferredBytes = new AtomicLong();
+  private final AtomicLong cloudWaitNanos = new AtomicLong();
+  private final AtomicLong nasWaitNanos = new AtomicLong();
+  private final Queue<String> duplicatedFiles = new ConcurrentLinkedQueue<>();
+  private final Queue<String> failedFiles = new ConcurrentLinkedQueue<>();
+  // NAS 파일 경로 -> 체크섬 ("알고리즘:hex")
+  private final Map<String, String> checksums = new ConcurrentHashMap<>();
+  private final AtomicInteger verifiedCount = new AtomicInteger();
+  private final AtomicInteger checksumMismatchCount = new AtomicInteger();
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+  private volatile boolean enumerating;
+  private volatile ListingSummaryDTO listingSummary;
+  private final Queue<TransferFileEventDTO> pendingFileEvents = new ArrayBlockingQueue<>(MAX_PENDING_FILE_EVENTS);
+  private final AtomicInteger droppedFileEvents = new AtomicInteger();
+  // 가장 느린 파일 (가장 빠른 항목이 머리에 오는 힙, SLOWEST_FILE_COUNT 개 유지)
+  private final PriorityQueue<FileTraceDTO> slowestFiles = new PriorityQueue<>(SLOWEST_FILE_COUNT + 1, BY_TOTAL_MILLIS);
+
+  // 처리량 샘플링 상태 (sampleThroughput 에서만 갱신)
+  private long lastSampleNanos;
+  private long lastSampleBytes;
+  private int lastSampleFiles;
+  private volatile double bytesPerSecond;
+  private volatile double filesPerSecond;
+
+  // 진행 로그 출력 상태 (sampleProgressLog 에서만 갱신, 다음 출력 시각은 잠금 없이 먼저 확인)
+  private volatile long nextProgressLogNanos;
+  private long lastProgressLogNanos;
+  private long lastProgressLogBytes;
+
+  public TransferProgress(int totalCount) {
+    this.totalCount.set(totalCount);
+  }
+
+  public void addTotal(int count) {
+    totalCount.addAndGet(count);
+  }
+
+  public void addTotalBytes(long bytes) {
+    totalBytes.addAndGet(bytes);
+  }
+
+  public void addTransferredBytes(long bytes) {
+    transferredBytes.addAndGet(bytes);
+  }
+
+  /**
+   * 이전 실행에서 완료된 파일 반영 (작업 재개 시)
+   */
+  public void restoreCompleted(int count, long bytes) {
+    successCount.addAndGet(count);
+    transferredBytes.addAndGet(bytes);
+  }
+
+  /**
+   * 동기화 모드에서 마지막 동기화 이후 변경이 없어 확인 없이 건너뛴 파일 (완료된 파일 수에 포함)
+   */
+  public void recordUnchanged(int count) {
+    unchangedCount.addAndGet(count);
+  }
+
+  /**
+   * 중계 구간별 대기 시간 누적
+   */
+  public void addRelayStats(TransferRelay.RelayStats stats) {
+    cloudWaitNanos.addAndGet(stats.getWriterStallNanos());
+    nasWaitNanos.addAndGet(stats.getReaderStallNanos());
+  }
+
+  /**
+   * @param file  전송한 파일
+   * @param bytes 파일 크기 (모르면 null)
+   * @return 누적 성공 파일 수
+   */
+  public int recordSuccess(String file, Long bytes) {
+    int count = successCount.incrementAndGet();
+    addFileEvent(file, TransferResult.SUCCESS, bytes);
+    return count;
+  }
+
+  public void recordDuplicate(String file) {
+    duplicatedFiles.add(file);
+    addFileEvent(file, TransferResult.DUPLICATE, null);
+  }
+
+  public void recordFailure(String file) {
+    failedFiles.add(file);
+    addFileEvent(file, TransferResult.FAIL, null);
+  }
+
+  /**
+   * 전송한 파일의 체크섬 기록 (서버 체크섬과 비교했으면 일치, 불일치 수 집계)
+   *
+   * @param nasFilePath NAS 파일 경로
+   */
+  public void recordChecksum(String nasFilePath, ChecksumResult checksum) {
+    if (checksum.isMismatch()) {
+      checksumMismatchCount.incrementAndGet();
+      return;
+    }
+    checksums.put(nasFilePath, checksum.toString());
+    if (Boolean.TRUE.equals(checksum.getVerified())) {
+      verifiedCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * 파일 하나의 구간별 소요 시간 기록 (가장 느린 파일만 유지)
+   */
+  public void recordTrace(FileTraceDTO trace) {
+    synchronized (slowestFiles) {
+      if (slowestFiles.size() < SLOWEST_FILE_COUNT) {
+        slowestFiles.add(trace);
+      } else if (trace.getTotalMillis() > slowestFiles.peek().getTotalMillis()) {
+        slowestFiles.poll();
+        slowestFiles.add(trace);
+      }
+    }
+  }
+
+  /**
+   * 가장 느린 파일 (전체 소요 시간이 긴 순)
+   */
+  public List<FileTraceDTO> getSlowestFiles() {
+    List<FileTraceDTO> traces;
+    synchronized (slowestFiles) {
+      traces = new ArrayList<>(slowestFiles);
+    }
+    traces.sort(BY_TOTAL_MILLIS.reversed());
+    return traces;
+  }
+
+  /**
+   * 마지막 호출 이후 처리된 파일 이벤트를 가져옴 (여러 파일 이벤트를 하나의 진행 이벤트로 묶기 위해 사용)
+   *
+   * @param maxEvents 가져올 최대 이벤트 수 (초과분은 버려짐)
+   * @param consumer  가져온 이벤트 목록과 버려진 이벤트 수를 전달받음
+   */
+  public void drainFileEvents(int maxEvents, FileEventConsumer consumer) {
+    List<TransferFileEventDTO> events = new ArrayList<>();
+    TransferFileEventDTO event;
+    while ((event = pendingFileEvents.poll()) != null) {
+      if (events.size() < maxEvents) {
+        events.add(event);
+      } else {
+        droppedFileEvents.incrementAndGet();
+      }
+    }
+    consumer.accept(events, droppedFileEvents.getAndSet(0));
+  }
+
+  /**
+   * 전송할 파일 목록 조회 시작 (조회 중에는 전체 파일 수가 계속 늘어나므로 남은 시간을 계산하지 않음)
+   */
+  public void beginEnumeration() {
+    enumerating = true;
+  }
+
+  public void endEnumeration() {
+    enumerating = false;
+  }
+
+  public boolean isEnumerating() {
+    return enumerating;
+  }
+
+  /**
+   * 폴더 조회 방식 및 소요 시간 기록
+   */
+  public void setListingSummary(ListingSummaryDTO listingSummary) {
+    this.listingSummary = listingSummary;
+  }
+
+  public ListingSummaryDTO getListingSummary() {
+    return listingSummary;
+  }
+
+  /**
+   * 전송 취소 요청 (진행 중인 파일은 마저 처리하고, 이후 파일은 제출하지 않음)
+   */
+  public void cancel() {
+    cancelled.set(true);
+  }
+
+  public boolean isCancelled() {
+    return cancelled.get();
+  }
+
+  /**
+   * 직전 샘플 이후 처리량 계산 (주기적으로 호출)
+   */
+  public synchronized void sampleThroughput() {
+    long now = System.nanoTime();
+    long bytes = transferredBytes.get();
+    int files = getCompletedCount();
+    if (lastSampleNanos != 0) {
+      double elapsedSec = (now - lastSampleNanos) / 1_000_000_000d;
+      if (elapsedSec > 0) {
+        bytesPerSecond = smooth(bytesPerSecond, (bytes - lastSampleBytes) / elapsedSec);
+        filesPerSecond = smooth(filesPerSecond, (files - lastSampleFiles) / elapsedSec);
+      }
+    }
+    lastSampleNanos = now;
+    lastSampleBytes = bytes;
+    lastSampleFiles = files;
+  }
+
+  /**
+   * 진행 로그 출력 시점 확인 (마지막 출력 후 interval 이 지났으면 다음 출력 시각을 갱신)
+   *
+   * @return 출력 시점이면 직전 출력 이후 처리량 (bytes/s, 첫 출력은 0), 아니면 -1
+   */
+  public long sampleProgressLog(long intervalNanos) {
+    long now = System.nanoTime();
+    if (now - nextProgressLogNanos < 0) {
+      return -1;
+    }
+    synchronized (this) {
+      if (now - nextProgressLogNanos < 0) {
+        return -1;
+      }
+      long bytes = transferredBytes.get();
+      long bytesPerSecond = lastProgressLogNanos == 0 || now == lastProgressLogNanos
+          ? 0
+          : (long) ((bytes - lastProgressLogBytes) * 1_000_000_000d / (now - lastProgressLogNanos));
+      nextProgressLogNanos = now + intervalNanos;
+      lastProgressLogNanos = now;
+      lastProgressLogBytes = bytes;
+      return bytesPerSecond;
+    }
+  }
+
+  /**
+   * 남은 예상 시간 (초), 계산할 수 없거나 파일 목록 조회 중이면 null
+   * 전체 바이트 수를 알면 바이트 처리량 기준, 모르면 파일 처리량 기준으로 계산
+   */
+  public Long getEtaSeconds() {
+    if (enumerating) {
+      return null;
+    }
+    long total = totalBytes.get();
+    if (total > 0 && bytesPerSecond > 0) {
+      return (long) Math.ceil(Math.max(0, total - transferredBytes.get()) / bytesPerSecond);
+    }
+    if (filesPerSecond > 0) {
+      return (long) Math.ceil(Math.max(0, totalCount.get() - getCompletedCount()) / filesPerSecond);
+    }
+    return null;
+  }
+
+  public int getTotalCount() {
+    return totalCount.get();
+  }
+
+  public int getSuccessCount() {
+    return successCount.get();
+  }
+
+  public int getUnchangedCount() {
+    return unchangedCount.get();
+  }
+
+  public int getDuplicatedCount() {
+    return duplicatedFiles.size();
+  }
+
+  public int getFailedCount() {
+    return failedFiles.size();
+  }
+
+  /**
+   * 처리 완료된 파일 수 (성공 + 변경 없음 + 중복 + 실패)
+   */
+  public int getCompletedCount() {
+    return successCount.get() + unchangedCount.get() + duplicatedFiles.size() + failedFiles.size();
+  }
+
+  public long getTotalBytes() {
+    return totalBytes.get();
+  }
+
+  public long getTransferredBytes() {
+    return transferredBytes.get();
+  }
+
+  public long getCloudWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(cloudWaitNanos.get());
+  }
+
+  public long getNasWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(nasWaitNanos.get());
+  }
+
+  public double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  public List<String> getFailedFiles() {
+    return new ArrayList<>(failedFiles);
+  }
+
+  public int getVerifiedCount() {
+    return verifiedCount.get();
+  }
+
+  public int getChecksumMismatchCount() {
+    return checksumMismatchCount.get();
+  }
+
+  public Map<String, String> getChecksums() {
+    return Map.copyOf(checksums);
+  }
+
+  public TransferResultDTO toResultDTO() {
+    return TransferResultDTO.builder()
+        .successCount(successCount.get())
+        .totalCount(totalCount.get())
+        .failedFiles(getFailedFiles())
+        .checksums(getChecksums())
+        .build();
+  }
+
+  private void addFileEvent(String file, TransferResult result, Long bytes) {
+    TransferFileEventDTO event = TransferFileEventDTO.builder()
+        .file(file)
+        .result(result)
+        .bytes(bytes)
+        .build();
+    if (!pendingFileEvents.offer(event)) {
+      droppedFileEvents.incrementAndGet();
+    }
+  }
+
+  private static double smooth(double previous, double current) {
+    return previous == 0 ? current : THROUGHPUT_ALPHA * current + (1 - THROUGHPUT_ALPHA) * previous;
+  }
+
+  @FunctionalInterface
+  public interface FileEventConsumer {
+
+    void accept(List<TransferFileEventDTO> events, int droppedCount);
+  }
+}
@@ -0,0 +1,38 @@
+package com.chuseok22.webdav.client.transfer;
+
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다중 파일, 폴더 전송 진행 로그 (파일마다 INFO 로그를 남기지 않고 주기마다 누적 진행 상황을 한 줄로 출력)
+ * 파일별 상세 (구간별 소요 시간, 결과) 는 TransferTraceRecorder 에서 확인
+ */
+@Slf4j
+@Component
+public class TransferProgressLogger {
+
+  private final long intervalNanos;
+
+  public TransferProgressLogger(@Value("${webdav.logging.progress-interval-millis}") long intervalMillis) {
+    this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+  }
+
+  /**
+   * 파일 하나 처리 후 호출 (마지막 출력 후 주기가 지났을 때만 출력)
+   */
+  public void fileCompleted(TransferProgress progress) {
+    if (!log.isInfoEnabled()) {
+      return;
+    }
+    long bytesPerSecond = progress.sampleProgressLog(intervalNanos);
+    if (bytesPerSecond < 0) {
+      return;
+    }
+    log.info("전송 진행: {}/{} (성공 {}, 변경 없음 {}, 중복 {}, 실패 {}), {}MB, {}MB/s",
+        progress.getCompletedCount(), progress.getTotalCount(),
+        progress.getSuccessCount(), progress.getUnchangedCount(), progress.getDuplicatedCount(), progress.getFailedCount(),
+        progress.getTransferredBytes() / (1024 * 1024), String.format("%.1f", bytesPerSecond / (1024d * 1024)));
+  }
+}
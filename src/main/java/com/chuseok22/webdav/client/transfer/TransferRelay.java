@@ -0,0 +1,290 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
+import io.micrometer.core.instrument.Counter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라우드 GET 과 NAS PUT 사이의 중계 버퍼
+ * 읽기 스레드가 원본 스트림을 힙 버퍼 (byte[]) 링에 채우고, PUT 을 수행하는 스레드는 채워진 버퍼를 읽어 전송
+ * 양쪽 스트림이 byte[] 기반이므로 배열에 바로 읽고 쓰며 중간 복사를 하지 않음
+ * 두 쪽이 독립적으로 진행되므로 클라우드 읽기 지연이 NAS 쓰기를 바로 멈추지 않음 (링이 빌 때까지)
+ * 버퍼는 전송이 끝나면 풀에 반환하여 다음 전송에서 재사용
+ */
+@Slf4j
+@Component
+public class TransferRelay {
+
+  // 읽기 종료 표시
+  private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+  private static final long READER_STOP_TIMEOUT_SECONDS = 5;
+
+  private final ExecutorService transferTaskExecutor;
+  private final int bufferCount;
+  private final int bufferSize;
+  private final int maxPooledBuffers;
+  // 쓰기 쪽 (NAS PUT) 이 읽어 간 바이트
+  private final Counter uploadedBytes;
+  private final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pooledBufferCount = new AtomicInteger();
+
+  public TransferRelay(
+      @Qualifier("transferTaskExecutor") ExecutorService transferTaskExecutor,
+      @Value("${webdav.relay.buffer-count}") int bufferCount,
+      @Value("${webdav.relay.buffer-size}") int bufferSize,
+      @Value("${webdav.transfer.max-concurrency}") int maxConcurrency,
+      TransferMetrics transferMetrics) {
+    this.transferTaskExecutor = transferTaskExecutor;
+    this.uploadedBytes = transferMetrics.getUploadedBytes();
+    this.bufferCount = bufferCount;
+    this.bufferSize = bufferSize;
+    this.maxPooledBuffers = bufferCount * maxConcurrency;
+  }
+
+  /**
+   * 원본 스트림을 중계하여 sink 에 전달 (sink 가 반환될 때까지 블로킹)
+   *
+   * @param source 원본 스트림 (읽기 스레드에서 읽음, 닫는 것은 호출자 책임)
+   * @param sink   중계된 스트림을 소비 (ex. NAS PUT), 호출 스레드에서 실행
+   * @return 구간별 대기 시간
+   */
+  public RelayStats relay(InputStream source, RelaySink sink) throws IOException {
+    return relay(source, null, sink);
+  }
+
+  /**
+   * 원본 스트림을 중계하면서 체크섬 계산 (읽기 스레드에서 버퍼를 채울 때마다 반영하므로 쓰기 쪽 지연 없음)
+   *
+   * @param digest 체크섬 (null 이면 계산하지 않음), 반환 이후 finish 호출
+   */
+  public RelayStats relay(InputStream source, ChecksumVerifier.StreamingDigest digest, RelaySink sink) throws IOException {
+    Relay relay = new Relay(source, digest);
+    try {
+      sink.accept(relay.output);
+    } finally {
+      relay.close();
+    }
+    relay.output.throwIfFailed();
+    return relay.stats;
+  }
+
+  /**
+   * 중계된 스트림 소비
+   */
+  @FunctionalInterface
+  public interface RelaySink {
+    void accept(InputStream inputStream) throws IOException;
+  }
+
+  /**
+   * 구간별 대기 시간
+   * readerStallNanos: 읽기 스레드가 빈 버퍼를 기다린 시간 (NAS 쓰기가 느림)
+   * writerStallNanos: 쓰기 스레드가 채워진 버퍼를 기다린 시간 (클라우드 읽기가 느림)
+   */
+  @Getter
+  public static class RelayStats {
+    private volatile long readerStallNanos;
+    private volatile long writerStallNanos;
+    private volatile long bytes;
+  }
+
+  private ByteBuffer borrowBuffer() {
+    ByteBuffer buffer = bufferPool.poll();
+    if (buffer == null) {
+      return ByteBuffer.wrap(new byte[bufferSize]);
+    }
+    pooledBufferCount.decrementAndGet();
+    buffer.clear();
+    return buffer;
+  }
+
+  private void returnBuffer(ByteBuffer buffer) {
+    if (buffer == null || buffer == END_OF_STREAM) {
+      return;
+    }
+    if (pooledBufferCount.incrementAndGet() <= maxPooledBuffers) {
+      bufferPool.offer(buffer);
+    } else {
+      pooledBufferCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * 전송 하나의 중계 (버퍼 링, 읽기 스레드, 출력 스트림)
+   */
+  private class Relay {
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(bufferCount);
+    private final BlockingQueue<ByteBuffer> filled = new ArrayBlockingQueue<>(bufferCount + 1);
+    private final RelayStats stats = new RelayStats();
+    private final RelayInputStream output = new RelayInputStream();
+    private final Future<?> reader;
+    private final CountDownLatch readerDone = new CountDownLatch(1);
+    private final ChecksumVerifier.StreamingDigest digest;
+    private volatile IOException readFailure;
+
+    private Relay(InputStream source, ChecksumVerifier.StreamingDigest digest) {
+      this.digest = digest;
+      for (int i = 0; i < bufferCount; i++) {
+        free.add(borrowBuffer());
+      }
+      this.reader = transferTaskExecutor.submit(() -> read(source));
+    }
+
+    /**
+     * 읽기 스레드: 빈 버퍼를 받아 원본을 채운 뒤 전달
+     */
+    private void read(InputStream source) {
+      ByteBuffer buffer = null;
+      try {
+        while (true) {
+          long waitStart = System.nanoTime();
+          buffer = free.take();
+          stats.readerStallNanos += System.nanoTime() - waitStart;
+
+          // 버퍼가 가득 차거나 원본이 끝날 때까지 배열에 바로 채움
+          byte[] array = buffer.array();
+          int length = 0;
+          int read = 0;
+          while (length < array.length && (read = source.read(array, length, array.length - length)) != -1) {
+            length += read;
+            // 쓰기 쪽이 먼저 끝나 중단된 경우 (close 에서 인터럽트) 남은 원본을 읽지 않음
+            if (Thread.currentThread().isInterrupted()) {
+              throw new InterruptedException();
+            }
+          }
+          buffer.clear().limit(length);
+          if (length > 0) {
+            stats.bytes += length;
+            if (digest != null) {
+              digest.update(array, 0, length);
+            }
+            filled.put(buffer);
+          } else {
+            free.add(buffer);
+          }
+          buffer = null;
+          if (read == -1) {
+            break;
+          }
+        }
+      } catch (IOException e) {
+        readFailure = e;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        if (buffer != null) {
+          free.add(buffer);
+        }
+        filled.add(END_OF_STREAM);
+        readerDone.countDown();
+      }
+    }
+
+    /**
+     * 읽기 스레드 종료 후 버퍼를 풀에 반환
+     */
+    private void close() {
+      // 쓰기 쪽이 먼저 끝난 경우 (PUT 실패 등) 읽기 스레드를 중단
+      reader.cancel(true);
+      try {
+        if (!readerDone.await(READER_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+          // 아직 버퍼를 사용 중일 수 있으므로 풀에 반환하지 않음
+          log.warn("중계 읽기 스레드가 종료되지 않아 버퍼를 반환하지 않습니다");
+          return;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      List<ByteBuffer> buffers = new ArrayList<>();
+      free.drainTo(buffers);
+      filled.drainTo(buffers);
+      buffers.add(output.current);
+      output.current = null;
+      buffers.forEach(TransferRelay.this::returnBuffer);
+    }
+
+    /**
+     * 쓰기 쪽 스트림: 채워진 버퍼를 순서대로 읽고, 다 읽은 버퍼는 읽기 스레드에 돌려줌
+     */
+    private class RelayInputStream extends InputStream {
+      private ByteBuffer current;
+      private boolean finished;
+
+      @Override
+      public int read() throws IOException {
+        if (!nextBuffer()) {
+          return -1;
+        }
+        uploadedBytes.increment();
+        return current.get() & 0xFF;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+          return 0;
+        }
+        if (!nextBuffer()) {
+          return -1;
+        }
+        int n = Math.min(len, current.remaining());
+        current.get(b, off, n);
+        uploadedBytes.increment(n);
+        return n;
+      }
+
+      private boolean nextBuffer() throws IOException {
+        if (current != null && current.hasRemaining()) {
+          return true;
+        }
+        if (finished) {
+          return false;
+        }
+        if (current != null) {
+          free.add(current);
+          current = null;
+        }
+        try {
+          long waitStart = System.nanoTime();
+          ByteBuffer next = filled.take();
+          stats.writerStallNanos += System.nanoTime() - waitStart;
+          if (next == END_OF_STREAM) {
+            finished = true;
+            throwIfFailed();
+            return false;
+          }
+          current = next;
+          return true;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("중계 버퍼 대기 중 인터럽트가 발생했습니다", e);
+        }
+      }
+
+      private void throwIfFailed() throws IOException {
+        if (readFailure != null) {
+          throw readFailure;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.chuseok22.webdav.client.transfer;
+
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 전송한 파일의 구간별 소요 시간 보관 (고정 크기 링 버퍼, 가득 차면 가장 오래된 기록부터 덮어씀)
+ * DEBUG 로그 없이 느린 파일, 병목 구간을 확인하기 위한 용도 (작업별 가장 느린 파일은 TransferProgress 에서 집계)
+ */
+@Component
+public class TransferTraceRecorder {
+
+  private final boolean enabled;
+  private final FileTraceDTO[] buffer;
+  // 지금까지 기록한 수 (다음 기록 위치 = written % buffer.length)
+  private long written;
+
+  public TransferTraceRecorder(
+      @Value("${webdav.trace.enabled}") boolean enabled,
+      @Value("${webdav.trace.capacity}") int capacity) {
+    this.enabled = enabled;
+    this.buffer = new FileTraceDTO[Math.max(1, capacity)];
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public synchronized void record(FileTraceDTO trace) {
+    if (!enabled) {
+      return;
+    }
+    buffer[(int) (written % buffer.length)] = trace;
+    written++;
+  }
+
+  /**
+   * 최근 기록 (최신순)
+   */
+  public List<FileTraceDTO> getRecent(int limit) {
+    List<FileTraceDTO> traces = snapshot();
+    return traces.subList(0, Math.min(Math.max(0, limit), traces.size()));
+  }
+
+  /**
+   * 보관 중인 기록 중 전체 소요 시간이 긴 순
+   */
+  public List<FileTraceDTO> getSlowest(int limit) {
+    return snapshot().stream()
+        .sorted(Comparator.comparingLong(FileTraceDTO::getTotalMillis).reversed())
+        .limit(Math.max(0, limit))
+        .toList();
+  }
+
+  /**
+   * 보관 중인 기록 복사 (최신순)
+   */
+  private synchronized List<FileTraceDTO> snapshot() {
+    int size = (int) Math.min(written, buffer.length);
+    List<FileTraceDTO> traces = new ArrayList<>(size);
+    for (long i = written - 1; i >= written - size; i--) {
+      traces.add(buffer[(int) (i % buffer.length)]);
+    }
+    return traces;
+  }
+}
@@ -1,22 +1,36 @@
 package com.chuseok22.webdav.controller.api;
 
+import com.chuseok22.webdav.dto.request.FileListQueryDTO;
 import com.chuseok22.webdav.dto.request.FolderTransferDTO;
 import com.chuseok22.webdav.dto.request.MultipleFileTransferDTO;
 import com.chuseok22.webdav.dto.request.SingleFileTransferDTO;
+import com.chuseok22.webdav.dto.response.ExplorerListingDTO;
+import com.chuseok22.webdav.dto.response.FilePageDTO;
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
+import com.chuseok22.webdav.dto.response.TransferJobDTO;
 import com.chuseok22.webdav.dto.response.TransferResultDTO;
 import com.chuseok22.webdav.dto.response.WebDavFileDTO;
 import com.chuseok22.webdav.global.aop.log.LogMonitoringInvocation;
+import com.chuseok22.webdav.service.FileListingService;
 import com.chuseok22.webdav.service.FileTransferService;
+import com.chuseok22.webdav.service.TransferJobService;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/webdav")
@@ -24,7 +38,11 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "WebDAV API", description = "클라우드 -> NAS 파일 전송 API")
 public class WebDavController {
 
+  private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
   private final FileTransferService fileTransferService;
+  private final TransferJobService transferJobService;
+  private final FileListingService fileListingService;
 
   @LogMonitoringInvocation
   @GetMapping("/files/cloud")
@@ -38,6 +56,36 @@ public class WebDavController {
     return ResponseEntity.ok(fileTransferService.listNasFiles(path));
   }
 
+  @LogMonitoringInvocation
+  @GetMapping("/files/cloud/page")
+  public ResponseEntity<FilePageDTO> getCloudFilesPage(@ModelAttribute FileListQueryDTO query) {
+    return ResponseEntity.ok(fileListingService.listPage(WebDavEndpoint.CLOUD, query));
+  }
+
+  @LogMonitoringInvocation
+  @GetMapping("/files/nas/page")
+  public ResponseEntity<FilePageDTO> getNasFilesPage(@ModelAttribute FileListQueryDTO query) {
+    return ResponseEntity.ok(fileListingService.listPage(WebDavEndpoint.NAS, query));
+  }
+
+  @GetMapping(value = "/files/cloud/stream", produces = "application/x-ndjson")
+  public ResponseEntity<StreamingResponseBody> streamCloudFiles(@ModelAttribute FileListQueryDTO query) {
+    return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(fileListingService.stream(WebDavEndpoint.CLOUD, query));
+  }
+
+  @GetMapping(value = "/files/nas/stream", produces = "application/x-ndjson")
+  public ResponseEntity<StreamingResponseBody> streamNasFiles(@ModelAttribute FileListQueryDTO query) {
+    return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(fileListingService.stream(WebDavEndpoint.NAS, query));
+  }
+
+  @LogMonitoringInvocation
+  @GetMapping("/files")
+  public ResponseEntity<ExplorerListingDTO> getExplorerFiles(
+      @RequestParam(value = "cloudPath", required = false, defaultValue = "") String cloudPath,
+      @RequestParam(value = "serverPath", required = false, defaultValue = "") String serverPath) {
+    return ResponseEntity.ok(fileTransferService.listExplorer(cloudPath, serverPath));
+  }
+
   @LogMonitoringInvocation
   @PostMapping("/transfer/single")
   public ResponseEntity<Boolean> transferSingleFile(@RequestBody SingleFileTransferDTO request) {
@@ -55,4 +103,53 @@ public class WebDavController {
   public ResponseEntity<TransferResultDTO> transferFolder(@RequestBody FolderTransferDTO request) throws IOException {
     return ResponseEntity.ok(fileTransferService.transferFolder(request));
   }
+
+  @LogMonitoringInvocation
+  @PostMapping("/jobs/multiple")
+  public ResponseEntity<TransferJobDTO> submitMultipleFilesJob(@RequestBody MultipleFileTransferDTO request) {
+    return ResponseEntity.accepted().body(transferJobService.submitMultipleFilesJob(request));
+  }
+
+  @LogMonitoringInvocation
+  @PostMapping("/jobs/folder")
+  public ResponseEntity<TransferJobDTO> submitFolderJob(@RequestBody FolderTransferDTO request) {
+    return ResponseEntity.accepted().body(transferJobService.submitFolderJob(request));
+  }
+
+  @GetMapping("/jobs")
+  public ResponseEntity<List<TransferJobDTO>> getJobs() {
+    return ResponseEntity.ok(transferJobService.getJobs());
+  }
+
+  @GetMapping("/jobs/{jobId}")
+  public ResponseEntity<TransferJobDTO> getJob(@PathVariable String jobId) {
+    return ResponseEntity.ok(transferJobService.getJob(jobId));
+  }
+
+  @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeJobEvents(@PathVariable String jobId) {
+    return transferJobService.subscribe(jobId);
+  }
+
+  @LogMonitoringInvocation
+  @PostMapping("/jobs/{jobId}/cancel")
+  public ResponseEntity<TransferJobDTO> cancelJob(@PathVariable String jobId) {
+    return ResponseEntity.ok(transferJobService.cancelJob(jobId));
+  }
+
+  @LogMonitoringInvocation
+  @PostMapping("/jobs/{jobId}/retry-failed")
+  public ResponseEntity<TransferJobDTO> retryFailedJob(@PathVariable String jobId) {
+    return ResponseEntity.accepted().body(transferJobService.retryFailedJob(jobId));
+  }
+
+  @GetMapping("/traces")
+  public ResponseEntity<List<FileTraceDTO>> getRecentTraces(@RequestParam(value = "limit", defaultValue = "100") int limit) {
+    return ResponseEntity.ok(fileTransferService.getRecentTraces(limit));
+  }
+
+  @GetMapping("/traces/slowest")
+  public ResponseEntity<List<FileTraceDTO>> getSlowestTraces(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+    return ResponseEntity.ok(fileTransferService.getSlowestTraces(limit));
+  }
 }
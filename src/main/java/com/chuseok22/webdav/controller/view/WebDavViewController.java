@@ -1,6 +1,6 @@
 package com.chuseok22.webdav.controller.view;
 
-import com.chuseok22.webdav.dto.response.WebDavFileDTO;
+import com.chuseok22.webdav.dto.response.ExplorerListingDTO;
 import com.chuseok22.webdav.service.FileTransferService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,11 +31,15 @@ public class WebDavViewController {
       @RequestParam(value = "serverPath", required = false, defaultValue = "") String serverPath,
       Model model) {
 
-    List<WebDavFileDTO> cloudFiles = fileTransferService.listCloudFiles(cloudPath);
-    List<WebDavFileDTO> nasFiles = fileTransferService.listNasFiles(serverPath);
+    // 두 목록의 첫 페이지를 동시에 조회, 한쪽이 실패하거나 늦으면 해당 쪽만 오류 표시 (나머지는 스크롤 시 불러옴)
+    ExplorerListingDTO listing = fileTransferService.listExplorer(cloudPath, serverPath);
 
-    model.addAttribute("cloudFiles", cloudFiles);
-    model.addAttribute("nasFiles", nasFiles);
+    model.addAttribute("cloudFiles", listing.getCloud().getFiles());
+    model.addAttribute("nasFiles", listing.getNas().getFiles());
+    model.addAttribute("cloudError", listing.getCloud().getErrorMessage());
+    model.addAttribute("nasError", listing.getNas().getErrorMessage());
+    model.addAttribute("cloudNextCursor", listing.getCloud().getNextCursor());
+    model.addAttribute("nasNextCursor", listing.getNas().getNextCursor());
     model.addAttribute("currentCloudPath", cloudPath);
     model.addAttribute("currentServerPath", serverPath);
 
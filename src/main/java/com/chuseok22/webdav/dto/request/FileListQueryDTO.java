@@ -0,0 +1,21 @@
+package com.chuseok22.webdav.dto.request;
+
+import com.chuseok22.webdav.vo.FileSortField;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FileListQueryDTO {
+
+  private String path = "";
+  private String cursor; // 이전 페이지의 nextCursor (첫 페이지는 null)
+  private Integer limit; // 페이지 크기 (null 이면 기본값)
+  private String prefix; // 파일명 접두사 (대소문자 무시)
+  private Boolean directory; // true: 폴더만, false: 파일만, null: 전체
+  private Long minSize; // 최소 파일 크기 (KB, 목록 항목의 fileSize 와 같은 단위, 폴더는 크기 조건을 적용하지 않음)
+  private Long maxSize; // 최대 파일 크기 (KB)
+  private FileSortField sort = FileSortField.NAME;
+  private boolean desc;
+
+}
@@ -8,5 +8,6 @@ public class FolderTransferDTO {
   private String folderPath;
   private String serverPath;
   private boolean overwrite;
+  private boolean sync; // 동기화 모드 (마지막 동기화 이후 추가, 변경된 파일만 전송, overwrite 무시)
 
 }
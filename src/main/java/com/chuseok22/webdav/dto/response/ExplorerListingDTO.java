@@ -0,0 +1,12 @@
+package com.chuseok22.webdav.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class ExplorerListingDTO {
+  private ListingPaneDTO cloud;
+  private ListingPaneDTO nas;
+  private long elapsedMillis; // 두 목록 조회에 걸린 시간 (동시에 조회하므로 느린 쪽 기준)
+}
@@ -0,0 +1,13 @@
+package com.chuseok22.webdav.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class FilePageDTO {
+  private List<WebDavFileDTO> files;
+  private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+  private int matchedCount; // 조건에 맞는 전체 항목 수
+}
@@ -0,0 +1,24 @@
+package com.chuseok22.webdav.dto.response;
+
+import com.chuseok22.webdav.vo.TransferResult;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class FileTraceDTO {
+  private String file; // 클라우드 파일 경로
+  private String targetDir; // NAS 대상 디렉토리
+  private TransferResult result;
+  private String error; // 예외로 끝난 경우 예외 이름 (아니면 null)
+  private boolean largeFile; // 대용량 (Range 분할) 전송 여부
+  private LocalDateTime startedAt;
+  private long totalMillis; // 전체 소요 시간 (permit 획득 이후)
+  private long probeMillis; // NAS 파일 존재 여부 확인
+  private long compareMillis; // 크기, 체크섬 비교 및 대용량 판별을 위한 클라우드 조회
+  private Long firstByteMillis; // 클라우드 GET 요청부터 응답 헤더 수신까지 (GET 하지 않았거나 대용량 전송이면 null)
+  private long streamMillis; // 본문 중계 및 NAS PUT 완료까지 (대용량 전송은 분할 다운로드 + 업로드)
+  private Long bytes; // 전송한 바이트 수 (전송하지 않았으면 null)
+  private Long bytesPerSecond; // 본문 전송 구간 처리량 (전송하지 않았으면 null)
+}
@@ -1,5 +1,6 @@
 package com.chuseok22.webdav.dto.response;
 
+import java.time.Instant;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +10,9 @@ public class FolderItemDTO {
   private String fileName;
   private String relativePath; // 상대 경로 (루트 폴더 기준)
   private String fullPath; // 전체 경로
+  private long fileSize; // 파일 크기 (byte)
+  private String etag; // 클라우드 ETag (알 수 없으면 null)
+  private Instant lastModified; // 클라우드 수정일 (알 수 없으면 null)
   private boolean isDirectory;
 
 }
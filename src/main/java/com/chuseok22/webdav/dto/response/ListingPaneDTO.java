@@ -0,0 +1,20 @@
+package com.chuseok22.webdav.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class ListingPaneDTO {
+  private String path;
+  private List<WebDavFileDTO> files; // 첫 페이지 (조회 실패, 시간 초과 시 빈 목록)
+  private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+  private int matchedCount; // 전체 항목 수
+  private boolean timedOut; // 조회 제한 시간 초과 여부
+  private String errorMessage; // 조회 실패, 시간 초과 사유 (성공 시 null)
+
+  public boolean isFailed() {
+    return errorMessage != null;
+  }
+}
@@ -0,0 +1,18 @@
+package com.chuseok22.webdav.dto.response;
+
+import com.chuseok22.webdav.vo.ListingMode;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class ListingSummaryDTO {
+  private ListingMode mode; // 사용한 조회 방식
+  private long durationMillis; // 폴더 트리 조회 소요 시간
+  private int requestCount; // PROPFIND 요청 수
+  private int directoryCount;
+  private int fileCount;
+  private double entriesPerSecond; // 초당 조회 항목 수
+  private Long fallbackProbeMillis; // Depth: infinity 시도 후 거부되거나 실패하여 전환한 경우, 시도에 소요된 시간
+  private Double otherModeEntriesPerSecond; // 다른 조회 방식의 최근 초당 조회 항목 수 (비교용, 기록이 없으면 null)
+}
@@ -0,0 +1,13 @@
+package com.chuseok22.webdav.dto.response;
+
+import com.chuseok22.webdav.vo.TransferResult;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class TransferFileEventDTO {
+  private String file;
+  private TransferResult result;
+  private Long bytes; // 파일 크기 (알 수 없으면 null)
+}
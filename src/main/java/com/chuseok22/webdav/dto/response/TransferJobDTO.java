@@ -0,0 +1,45 @@
+package com.chuseok22.webdav.dto.response;
+
+import com.chuseok22.webdav.vo.TransferJobStatus;
+import com.chuseok22.webdav.vo.TransferJobType;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class TransferJobDTO {
+  private String jobId;
+  private TransferJobType type;
+  private TransferJobStatus status;
+  private String sourcePath;
+  private String targetPath;
+  private String retryOf; // 실패 파일 재전송 작업이면 원래 작업 ID
+  private boolean enumerating; // 전송할 파일 목록 조회 중 여부 (조회 중에는 totalCount 가 계속 증가)
+  private int totalCount;
+  private int completedCount; // 성공 + 변경 없음 + 중복 + 실패
+  private int successCount;
+  private int unchangedCount; // 동기화 모드에서 마지막 동기화 이후 변경이 없어 건너뛴 파일 수
+  private int duplicatedCount;
+  private int failedCount;
+  private long totalBytes;
+  private long transferredBytes;
+  private long bytesPerSecond; // 현재 처리량
+  private Long etaSeconds; // 남은 예상 시간 (계산 불가 시 null)
+  private long cloudWaitMillis; // 중계 시 NAS 쓰기가 클라우드 데이터를 기다린 누적 시간 (클라우드가 병목)
+  private long nasWaitMillis; // 중계 시 클라우드 읽기가 NAS 쓰기를 기다린 누적 시간 (NAS 가 병목)
+  private int verifiedCount; // 서버 체크섬과 일치를 확인한 파일 수
+  private int checksumMismatchCount; // 서버 체크섬과 달라 실패 처리한 파일 수
+  private List<String> failedFiles;
+  private Map<String, String> checksums; // NAS 파일 경로 -> 체크섬 (작업 조회, 완료 이벤트에만 포함)
+  private ListingSummaryDTO listing; // 폴더 조회 방식 및 소요 시간 (폴더 전송)
+  private List<FileTraceDTO> slowestFiles; // 전체 소요 시간이 가장 긴 파일과 구간별 소요 시간 (작업 조회, 완료 이벤트에만 포함)
+  private List<WebDavEndpoint> pausedEndpoints; // 연속 실패로 요청을 일시 중지한 엔드포인트 (실행 중인 작업만, 재개되면 전송 계속)
+  private String errorMessage;
+  private LocalDateTime createdAt;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+}
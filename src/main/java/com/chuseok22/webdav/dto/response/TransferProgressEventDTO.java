@@ -0,0 +1,13 @@
+package com.chuseok22.webdav.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class TransferProgressEventDTO {
+  private TransferJobDTO job; // 전체 진행 상황
+  private List<TransferFileEventDTO> files; // 직전 이벤트 이후 처리된 파일
+  private int omittedFileCount; // 이벤트 크기 제한으로 생략된 파일 수
+}
@@ -1,6 +1,7 @@
 package com.chuseok22.webdav.dto.response;
 
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,6 +11,7 @@ public class TransferResultDTO {
   private int successCount;
   private int totalCount;
   private List<String> failedFiles;
+  private Map<String, String> checksums; // NAS 파일 경로 -> 체크섬 ("알고리즘:hex", 검증 활성화 시)
 
   public boolean isAllSuccess() {
     return successCount == totalCount;
@@ -1,5 +1,8 @@
 package com.chuseok22.webdav.global.aop.log;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -14,22 +17,35 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class ExecutionTimeLoggingAspect {
 
+  private final MeterRegistry meterRegistry;
+
   /**
    * LogTimeInvocation, LogMonitoringInvocation 어노테이션이 붙은 메서드가 호출될 때 해당 어드바이스 동작
    * ProceedingJoinPoint 를 통해 호출 대상(메서드) 정보 가져옴
+   * 실행시간은 webdav.invocation 지표 (class, method, exception) 로도 기록
    */
   @Around("@annotation(com.chuseok22.webdav.global.aop.log.LogTimeInvocation) || @annotation(com.chuseok22.webdav.global.aop.log.LogMonitoringInvocation)")
   public Object logMethod(ProceedingJoinPoint joinPoint) throws Throwable {
     MethodSignature signature = (MethodSignature) joinPoint.getSignature();
     Object result;
+    String exception = "none";
 
-    long startTime = System.currentTimeMillis(); // 메서드 시작시간 (ms)
+    long startTime = System.nanoTime(); // 메서드 시작시간 (ns)
     try {
       result = joinPoint.proceed(); // 메서드 실행
+    } catch (Throwable e) {
+      exception = e.getClass().getSimpleName();
+      throw e;
     } finally {
-      long endTime = System.currentTimeMillis(); // 메서드 종료시간 (ms)
-      long durationTimeSec = endTime - startTime;
-      log.debug("[{}] 실행시간: {}ms", signature.getMethod().getName(), durationTimeSec);
+      long durationNanos = System.nanoTime() - startTime;
+      Timer.builder("webdav.invocation")
+          .description("LogTimeInvocation, LogMonitoringInvocation 메서드 실행시간")
+          .tags("class", signature.getDeclaringType().getSimpleName(), "method", signature.getMethod().getName(), "exception", exception)
+          .register(meterRegistry)
+          .record(durationNanos, TimeUnit.NANOSECONDS);
+      if (log.isDebugEnabled()) {
+        log.debug("[{}] 실행시간: {}ms", signature.getMethod().getName(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
+      }
     }
 
     return result;
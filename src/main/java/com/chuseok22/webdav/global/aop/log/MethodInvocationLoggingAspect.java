@@ -25,9 +25,13 @@ public class MethodInvocationLoggingAspect {
 
   /**
    * RequestContextHolder를 통해 현재 HTTP 요청 객체를 가져와 RequestID 값을 읽음
+   * DEBUG 로그가 비활성화되어 있으면 요청 조회, 파라미터 문자열 변환 없이 바로 실행
    */
   @Around("@annotation(com.chuseok22.webdav.global.aop.log.LogMethodInvocation) || @annotation(com.chuseok22.webdav.global.aop.log.LogMonitoringInvocation)")
   public Object logMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (!LOGGER.isDebugEnabled()) {
+      return joinPoint.proceed();
+    }
     MethodSignature signature = (MethodSignature) joinPoint.getSignature();
 
     // 현재 HTTP 요청 객체를 얻음
@@ -0,0 +1,32 @@
+package com.chuseok22.webdav.global.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 파일 전송 작업 실행기 설정
+ * 전송 작업은 대부분 네트워크 I/O 대기이므로 가상 스레드를 사용하고, 동시성은 TransferConcurrencyLimiter 로 제한함
+ */
+@Configuration
+public class TransferExecutorConfig {
+
+  @Value("${webdav.job.max-running}")
+  private int maxRunningJobs;
+
+  @Bean(destroyMethod = "close")
+  public ExecutorService transferTaskExecutor() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("transfer-", 0).factory());
+  }
+
+  /**
+   * 비동기 전송 작업(다중 파일, 폴더) 실행기
+   * 동시에 실행되는 작업 수를 제한하고, 초과한 작업은 PENDING 상태로 대기
+   */
+  @Bean(destroyMethod = "shutdownNow")
+  public ExecutorService transferJobExecutor() {
+    return Executors.newFixedThreadPool(maxRunningJobs, Thread.ofPlatform().name("transfer-job-", 0).factory());
+  }
+}
@@ -0,0 +1,131 @@
+package com.chuseok22.webdav.global.config;
+
+import com.chuseok22.webdav.client.MeteredRequestExecutor;
+import com.chuseok22.webdav.client.PooledSardine;
+import com.chuseok22.webdav.client.transfer.TransferConcurrencyLimiter;
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.github.sardine.impl.SardineRedirectStrategy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 클라우드, NAS WebDAV 엔드포인트별 커넥션 풀 설정
+ * 요청마다 클라이언트를 생성하지 않고 Keep-Alive 커넥션을 재사용하여 TCP/TLS 핸드셰이크를 줄임
+ */
+@Configuration
+@Slf4j
+@RequiredArgsConstructor
+public class WebDavClientConfig {
+
+  private static final String POOL_CONNECTIONS = "webdav.pool.connections";
+
+  private final MeterRegistry meterRegistry;
+  private final TransferConcurrencyLimiter concurrencyLimiter;
+
+  @Value("${webdav.cloud.url}")
+  private String cloudUrl;
+  @Value("${webdav.cloud.username}")
+  private String cloudUsername;
+  @Value("${webdav.cloud.password}")
+  private String cloudPassword;
+
+  @Value("${webdav.nas.url}")
+  private String nasUrl;
+  @Value("${webdav.nas.username}")
+  private String nasUsername;
+  @Value("${webdav.nas.password}")
+  private String nasPassword;
+
+  @Value("${webdav.pool.max-total}")
+  private int maxTotal;
+  @Value("${webdav.pool.max-per-route}")
+  private int maxPerRoute;
+  @Value("${webdav.pool.idle-timeout-seconds}")
+  private long idleTimeoutSeconds;
+  @Value("${webdav.pool.connection-ttl-seconds}")
+  private long connectionTtlSeconds;
+  @Value("${webdav.pool.validate-after-inactivity-millis}")
+  private int validateAfterInactivityMillis;
+  @Value("${webdav.pool.connect-timeout-millis}")
+  private int connectTimeoutMillis;
+  @Value("${webdav.pool.connection-request-timeout-millis}")
+  private int connectionRequestTimeoutMillis;
+  @Value("${webdav.pool.socket-timeout-millis}")
+  private int socketTimeoutMillis;
+
+  @Bean(destroyMethod = "shutdown")
+  public PooledSardine cloudSardine() {
+    return createSardine(WebDavEndpoint.CLOUD, "cloud", cloudUrl, cloudUsername, cloudPassword);
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public PooledSardine nasSardine() {
+    return createSardine(WebDavEndpoint.NAS, "nas", nasUrl, nasUsername, nasPassword);
+  }
+
+  private PooledSardine createSardine(WebDavEndpoint endpoint, String name, String baseUrl, String username, String password) {
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(connectionTtlSeconds, TimeUnit.SECONDS);
+    connectionManager.setMaxTotal(maxTotal);
+    connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+    connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+
+    RequestConfig requestConfig = RequestConfig.custom()
+        .setConnectTimeout(connectTimeoutMillis)
+        .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+        .setSocketTimeout(socketTimeoutMillis)
+        .build();
+
+    HttpClientBuilder builder = HttpClientBuilder.create()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .setRedirectStrategy(new SardineRedirectStrategy())
+        .setRequestExecutor(new MeteredRequestExecutor(meterRegistry, concurrencyLimiter, endpoint, name))
+        .evictExpiredConnections()
+        .evictIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS);
+
+    PooledSardine sardine = new PooledSardine(name, baseUrl, builder, connectionManager, username, password);
+    // 매 요청마다 401 응답을 받은 뒤 재요청하지 않도록 선제 인증 활성화
+    try {
+      sardine.enablePreemptiveAuthentication(new URL(baseUrl));
+    } catch (MalformedURLException e) {
+      log.error("[{}] WebDAV URL 형식이 잘못되었습니다: {}", name, baseUrl);
+      throw new CustomException(ErrorCode.URL_FORMAT_ERROR);
+    }
+    registerPoolMetrics(name, connectionManager);
+    log.info("[{}] WebDAV 커넥션 풀 생성: maxTotal={}, maxPerRoute={}, idleTimeout={}s", name, maxTotal, maxPerRoute, idleTimeoutSeconds);
+    return sardine;
+  }
+
+  /**
+   * 커넥션 풀 사용 현황 지표 (webdav.pool.connections, state=leased, available, pending, max)
+   */
+  private void registerPoolMetrics(String name, PoolingHttpClientConnectionManager connectionManager) {
+    registerPoolGauge(name, "leased", connectionManager, PoolStats::getLeased);
+    registerPoolGauge(name, "available", connectionManager, PoolStats::getAvailable);
+    registerPoolGauge(name, "pending", connectionManager, PoolStats::getPending);
+    registerPoolGauge(name, "max", connectionManager, PoolStats::getMax);
+  }
+
+  private void registerPoolGauge(String name, String state, PoolingHttpClientConnectionManager connectionManager,
+      ToDoubleFunction<PoolStats> value) {
+    Gauge.builder(POOL_CONNECTIONS, connectionManager, manager -> value.applyAsDouble(manager.getTotalStats()))
+        .description("WebDAV 커넥션 풀 커넥션 수")
+        .tags("endpoint", name, "state", state)
+        .register(meterRegistry);
+  }
+}
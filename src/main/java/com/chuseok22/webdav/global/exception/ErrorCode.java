@@ -26,12 +26,34 @@ public enum ErrorCode {
 
   DIRECTORY_READ_ERROR(HttpStatus.BAD_REQUEST, "파일 및 디렉터리 목록 조회에 실패했습니다."),
 
+  INVALID_LISTING_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 목록 페이지 커서입니다."),
+
   // TRANSFER
 
   FILE_TRANSFER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "파일 전송에 실패했습니다."),
 
+  CHECKSUM_MISMATCH(HttpStatus.BAD_GATEWAY, "전송한 파일의 체크섬이 원본과 다릅니다."),
+
   DIRECTORY_CREATE_ERROR(HttpStatus.UNAUTHORIZED, "NAS 폴더 생성 시 오류가 발생했습니다."),
 
+  TRANSFER_INTERRUPTED(HttpStatus.SERVICE_UNAVAILABLE, "파일 전송이 중단되었습니다."),
+
+  // JOB
+
+  TRANSFER_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "전송 작업을 찾을 수 없습니다."),
+
+  TRANSFER_JOB_ALREADY_FINISHED(HttpStatus.CONFLICT, "이미 종료된 전송 작업입니다."),
+
+  TRANSFER_JOB_NOT_FINISHED(HttpStatus.CONFLICT, "아직 종료되지 않은 전송 작업입니다."),
+
+  TOO_MANY_TRANSFER_JOBS(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 전송 작업이 너무 많습니다. 작업이 끝난 뒤 다시 시도해주세요."),
+
+  NO_FAILED_FILES(HttpStatus.BAD_REQUEST, "다시 전송할 실패 파일이 없습니다."),
+
+  TRANSFER_MANIFEST_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "전송 매니페스트 기록에 실패했습니다."),
+
+  SYNC_INDEX_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "동기화 인덱스를 읽을 수 없습니다."),
+
   // URL
 
   URL_FORMAT_ERROR(HttpStatus.BAD_REQUEST, "URL 형식이 잘못되었습니다."),
@@ -5,6 +5,7 @@ import com.chuseok22.webdav.global.exception.CustomException;
 import com.chuseok22.webdav.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.stereotype.Component;
 
@@ -15,8 +16,15 @@ public class ApplicationRunner implements org.springframework.boot.ApplicationRu
 
   private final WebDavClient webDavClient;
 
+  @Value("${webdav.startup.connection-check-enabled}")
+  private boolean connectionCheckEnabled;
+
   @Override
   public void run(ApplicationArguments args) throws Exception {
+    if (!connectionCheckEnabled) {
+      log.info("시작 시 WebDAV 연결 확인을 건너뜁니다.");
+      return;
+    }
     if (!webDavClient.isCloudConnected()) {
       log.error("Cloud WebDAV 연결에 실패했습니다.");
       throw new CustomException(ErrorCode.CLOUD_CONNECTION_ERROR);
@@ -0,0 +1,77 @@
+package com.chuseok22.webdav.global.metrics;
+
+import com.chuseok22.webdav.vo.TransferJobStatus;
+import com.chuseok22.webdav.vo.TransferJobType;
+import com.chuseok22.webdav.vo.TransferResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 관련 Micrometer 지표 (Actuator /actuator/prometheus 로 노출)
+ * webdav.transfer.bytes: 클라우드에서 읽은 바이트 (direction=download), NAS 에 쓴 바이트 (direction=upload)
+ * webdav.transfer.files: 파일 하나의 전송 시간 (outcome=success, duplicate, fail)
+ * webdav.transfer.jobs: 전송 작업 실행 시간 (type, status)
+ * WebDAV 요청별 지표는 MeteredRequestExecutor, 커넥션 풀 지표는 WebDavClientConfig 에서 등록
+ */
+@Component
+public class TransferMetrics {
+
+  public static final String TRANSFER_BYTES = "webdav.transfer.bytes";
+  public static final String TRANSFER_FILES = "webdav.transfer.files";
+  public static final String TRANSFER_JOBS = "webdav.transfer.jobs";
+
+  private final MeterRegistry meterRegistry;
+  @Getter
+  private final Counter downloadedBytes;
+  @Getter
+  private final Counter uploadedBytes;
+  private final Map<TransferResult, Timer> fileTimers = new EnumMap<>(TransferResult.class);
+
+  public TransferMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.downloadedBytes = Counter.builder(TRANSFER_BYTES)
+        .description("전송한 바이트 수")
+        .baseUnit("bytes")
+        .tags("endpoint", "cloud", "direction", "download")
+        .register(meterRegistry);
+    this.uploadedBytes = Counter.builder(TRANSFER_BYTES)
+        .description("전송한 바이트 수")
+        .baseUnit("bytes")
+        .tags("endpoint", "nas", "direction", "upload")
+        .register(meterRegistry);
+    for (TransferResult result : TransferResult.values()) {
+      fileTimers.put(result, Timer.builder(TRANSFER_FILES)
+          .description("파일 하나의 전송 시간 (NAS 확인, 다운로드, 업로드, 검증 포함)")
+          .tag("outcome", result.name().toLowerCase(Locale.ROOT))
+          .register(meterRegistry));
+    }
+  }
+
+  /**
+   * 파일 하나의 전송 결과 기록
+   *
+   * @param result 전송 결과 (예외로 끝났으면 FAIL)
+   */
+  public void recordFile(TransferResult result, long elapsedNanos) {
+    fileTimers.get(result).record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * 종료된 전송 작업 기록
+   */
+  public void recordJob(TransferJobType type, TransferJobStatus status, Duration elapsed) {
+    Timer.builder(TRANSFER_JOBS)
+        .description("전송 작업 실행 시간")
+        .tags("type", type.name().toLowerCase(Locale.ROOT), "status", status.name().toLowerCase(Locale.ROOT))
+        .register(meterRegistry)
+        .record(elapsed);
+  }
+}
@@ -1,9 +1,8 @@
 package com.chuseok22.webdav.global.util;
 
-import java.net.URLEncoder;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
@@ -11,22 +10,75 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class FileUtil {
 
-  private static final Pattern PERCENT_ENCODED = Pattern.compile("(%[0-9A-Fa-f]{2})");
+  // 상위 경로 인코딩 결과 캐시 크기 (2의 거듭제곱, 같은 폴더의 파일을 연속으로 처리하는 경우 재사용)
+  private static final int PREFIX_CACHE_SIZE = 64;
+  private static final PrefixEntry[] PREFIX_CACHE = new PrefixEntry[PREFIX_CACHE_SIZE];
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
 
   /**
    * 1. rawPath 정규화
-   * 2. baseUrl과 결합
-   * 3. Spring UriComponentsBuilder.encode()로 UTF-8 percent-encoding 수행
+   * 2. 경로 세그먼트 UTF-8 percent-encoding (이미 인코딩된 %XX 는 유지, 공백은 %20)
+   * 3. baseUrl과 결합
+   * 정규화와 인코딩을 한 번의 순회로 처리하며, 마지막 구분자 앞 (상위 경로) 의 인코딩 결과는 캐시하여 재사용
    *
    * @param baseUrl 기본 URL
    * @param rawPath 사용자 입력 Path
-   * @return
+   * @return 인코딩 된 전체 URL
    */
   public String buildNormalizedAndEncodedUrl(String baseUrl, String rawPath) {
-    String normalizedPath = normalizePath(rawPath);
-    String encodedPath = encodePathSegments(normalizedPath);
-    return combineBaseAndPath(baseUrl, encodedPath);
+    if (rawPath == null) {
+      return combineBaseAndPath(baseUrl, "");
+    }
+    int start = trimStart(rawPath);
+    int end = trimEnd(rawPath, start);
+    if (baseUrl == null) {
+      StringBuilder path = new StringBuilder(end - start);
+      appendEncodedSegments(path, rawPath, start, end, true);
+      return combineBaseAndPath(null, path.toString());
+    }
+
+    int lastSeparator = end - 1;
+    while (lastSeparator >= start && !isSeparator(rawPath.charAt(lastSeparator), true)) {
+      lastSeparator--;
+    }
+    String encodedPrefix;
+    if (lastSeparator <= start) {
+      encodedPrefix = removeTrailingSlash(baseUrl);
+    } else {
+      encodedPrefix = encodedPrefix(baseUrl, rawPath, start, lastSeparator);
+    }
+    int tailStart = Math.max(lastSeparator + 1, start);
+    if (tailStart == end) {
+      return encodedPrefix;
+    }
+    StringBuilder out = new StringBuilder(encodedPrefix.length() + (end - tailStart) * 3 + 1);
+    out.append(encodedPrefix);
+    appendEncodedSegments(out, rawPath, tailStart, end, true);
+    return out.toString();
+  }
+
+  /**
+   * 기본 URL + 상위 경로 [from, to) 의 인코딩 결과 (캐시 사용)
+   * 캐시 항목은 변경 불가능한 객체이므로 동기화 없이 교체, 조회해도 안전함
+   */
+  private static String encodedPrefix(String baseUrl, String rawPath, int from, int to) {
+    int hash = 31 * baseUrl.hashCode();
+    for (int i = from; i < to; i++) {
+      hash = 31 * hash + rawPath.charAt(i);
+    }
+    int index = (hash ^ (hash >>> 16)) & (PREFIX_CACHE_SIZE - 1);
+    PrefixEntry entry = PREFIX_CACHE[index];
+    if (entry != null && entry.matches(baseUrl, rawPath, from, to)) {
+      return entry.encoded;
+    }
+    String base = removeTrailingSlash(baseUrl);
+    StringBuilder out = new StringBuilder(base.length() + (to - from) * 3);
+    out.append(base);
+    appendEncodedSegments(out, rawPath, from, to, true);
+    String encoded = out.toString();
+    PREFIX_CACHE[index] = new PrefixEntry(baseUrl, rawPath.substring(from, to), encoded);
+    return encoded;
   }
 
   /**
@@ -37,6 +89,7 @@ public class FileUtil {
    * 4. 루트를 나타내는 "/"는 빈 문자열로 변환
    * 5. 절대 경로로 변환: 선행 슬래시('/') 추가
    * 6. 불필요한 후행 슬래시('/') 제거
+   * 이미 정규화된 경로는 새 문자열을 만들지 않고 그대로 반환
    *
    * @param rawPath 사용자 입력 경로
    * @return 정규화된 경로 ("/webdav")
@@ -45,18 +98,57 @@ public class FileUtil {
     if (rawPath == null) {
       return "";
     }
-    String p = rawPath.trim().replace('\\', '/');
-    p = p.replaceAll("/+", "/");
-    if ("/".equals(p)) {
+    if (isNormalized(rawPath)) {
+      return rawPath;
+    }
+    int start = trimStart(rawPath);
+    int end = trimEnd(rawPath, start);
+    if (start == end) {
+      return "/";
+    }
+    char[] out = new char[end - start + 1];
+    int length = 0;
+    out[length++] = '/';
+    for (int i = start; i < end; i++) {
+      char c = rawPath.charAt(i);
+      if (c == '\\') {
+        c = '/';
+      }
+      if (c == '/' && out[length - 1] == '/') {
+        continue;
+      }
+      out[length++] = c;
+    }
+    if (length == 1) {
       return "";
     }
-    if (!p.startsWith("/")) {
-      p = "/" + p;
+    if (out[length - 1] == '/') {
+      length--;
     }
-    if (p.endsWith("/") && p.length() > 1) {
-      p = p.substring(0, p.length() - 1);
+    return new String(out, 0, length);
+  }
+
+  /**
+   * 정규화 결과가 자기 자신인 경로인지 확인 ("/" 로 시작, 앞 뒤 공백, 백슬래시, 중복 슬래시, 후행 슬래시 없음)
+   */
+  private static boolean isNormalized(String path) {
+    int length = path.length();
+    if (length < 2 || path.charAt(0) != '/') {
+      return false;
+    }
+    char last = path.charAt(length - 1);
+    if (last == '/' || last <= ' ') {
+      return false;
     }
-    return p;
+    char previous = '/';
+    for (int i = 1; i < length; i++) {
+      char c = path.charAt(i);
+      if (c == '\\' || (c == '/' && previous == '/')) {
+        return false;
+      }
+      previous = c;
+    }
+    return true;
   }
 
   /**
@@ -77,21 +169,6 @@ public class FileUtil {
     return base + path;
   }
 
-  /**
-   * UTF-8 인코딩
-   *
-   * @param input 문자열
-   * @return 인코딩 된 문자열
-   */
-  private static String encodeString(String input) {
-    if (input == null || input.isEmpty()) {
-      return "";
-    }
-    return URLEncoder
-        .encode(input, StandardCharsets.UTF_8)
-        .replace("+", "%20");
-  }
-
   /**
    * 경로 세그먼트 중 인코딩되지 않은 부분만 인코딩
    *
@@ -102,40 +179,159 @@ public class FileUtil {
     if (path == null || path.isEmpty()) {
       return "";
     }
-    StringBuilder sb = new StringBuilder();
-    String[] segments = path.split("/");
-    for (String segment : segments) {
-      if (segment.isEmpty()) {
-        continue;
+    StringBuilder sb = new StringBuilder(path.length() + 16);
+    appendEncodedSegments(sb, path, 0, path.length(), false);
+    return sb.toString();
+  }
+
+  /**
+   * 경로 [from, to) 의 세그먼트를 "/세그먼트" 형식으로 인코딩하여 추가 (빈 세그먼트는 생략)
+   * URLEncoder (UTF-8) 와 같은 결과: 영문자, 숫자, '-', '_', '.', '*' 는 그대로, 공백은 %20, 나머지는 %XX (대문자)
+   * 이미 인코딩된 %XX 는 그대로 유지, 짝이 없는 서로게이트 문자는 '?' (%3F) 로 인코딩
+   *
+   * @param backslashSeparator 백슬래시도 구분자로 처리할지 여부 (사용자 입력 경로)
+   */
+  private static void appendEncodedSegments(StringBuilder out, String path, int from, int to, boolean backslashSeparator) {
+    int i = from;
+    while (i < to) {
+      while (i < to && isSeparator(path.charAt(i), backslashSeparator)) {
+        i++;
+      }
+      if (i == to) {
+        return;
+      }
+      out.append('/');
+      while (i < to) {
+        char c = path.charAt(i);
+        if (isSeparator(c, backslashSeparator)) {
+          break;
+        }
+        if (isUnreserved(c)) {
+          out.append(c);
+          i++;
+        } else if (c == ' ') {
+          out.append("%20");
+          i++;
+        } else if (c == '%' && i + 2 < to && isHex(path.charAt(i + 1)) && isHex(path.charAt(i + 2))) {
+          out.append(path, i, i + 3);
+          i += 3;
+        } else {
+          int codePoint = c;
+          i++;
+          if (Character.isHighSurrogate(c) && i < to && Character.isLowSurrogate(path.charAt(i))) {
+            codePoint = Character.toCodePoint(c, path.charAt(i));
+            i++;
+          } else if (Character.isSurrogate(c)) {
+            codePoint = '?';
+          }
+          appendUtf8PercentEncoded(out, codePoint);
+        }
       }
-      sb.append("/");
-      sb.append(encodeSegmentPreservingPercents(segment));
     }
-    return sb.toString();
   }
 
-  private static String encodeSegmentPreservingPercents(String segment) {
-    Matcher m = PERCENT_ENCODED.matcher(segment);
-    int last = 0;
-    StringBuilder out = new StringBuilder();
-    while (m.find()) {
-      // 1) [last..m.start()) 구간은 인코딩
-      String literal = segment.substring(last, m.start());
-      if (!literal.isEmpty()) {
-        out.append(encodeString(literal));
+  private static void appendUtf8PercentEncoded(StringBuilder out, int codePoint) {
+    if (codePoint < 0x80) {
+      appendPercentEncoded(out, codePoint);
+    } else if (codePoint < 0x800) {
+      appendPercentEncoded(out, 0xC0 | (codePoint >> 6));
+      appendPercentEncoded(out, 0x80 | (codePoint & 0x3F));
+    } else if (codePoint < 0x10000) {
+      appendPercentEncoded(out, 0xE0 | (codePoint >> 12));
+      appendPercentEncoded(out, 0x80 | ((codePoint >> 6) & 0x3F));
+      appendPercentEncoded(out, 0x80 | (codePoint & 0x3F));
+    } else {
+      appendPercentEncoded(out, 0xF0 | (codePoint >> 18));
+      appendPercentEncoded(out, 0x80 | ((codePoint >> 12) & 0x3F));
+      appendPercentEncoded(out, 0x80 | ((codePoint >> 6) & 0x3F));
+      appendPercentEncoded(out, 0x80 | (codePoint & 0x3F));
+    }
+  }
+
+  private static void appendPercentEncoded(StringBuilder out, int b) {
+    out.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+  }
+
+  private static boolean isUnreserved(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+        || c == '-' || c == '_' || c == '.' || c == '*';
+  }
+
+  private static boolean isSeparator(char c, boolean backslashSeparator) {
+    return c == '/' || (backslashSeparator && c == '\\');
+  }
+
+  /**
+   * String.trim() 과 같은 기준 (' ' 이하 문자) 으로 앞쪽 공백을 건너뛴 위치
+   */
+  private static int trimStart(String value) {
+    int start = 0;
+    while (start < value.length() && value.charAt(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  private static int trimEnd(String value, int start) {
+    int end = value.length();
+    while (end > start && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
+
+  /**
+   * 인코딩 된 URL 의 경로 부분을 디코딩 후 정규화
+   * PROPFIND 응답의 href 경로와 비교하기 위해 사용
+   *
+   * @param encodedUrl 인코딩 된 URL (ex. https://host/dav/%EB%AC%B8%EC%84%9C)
+   * @return 정규화된 경로 (ex. /dav/문서), 서버 최상위 경로면 "" (href "/" 를 정규화한 값과 같음)
+   */
+  public static String extractDecodedPath(String encodedUrl) {
+    String path = normalizePath(decodePath(URI.create(encodedUrl).getRawPath()));
+    // 호스트만 있는 URL (ex. http://nas:5005) 은 경로가 비어 있어 "/" 로 정규화되므로, 하위 항목 접두사가 "//" 가 되지 않도록 "" 로 통일
+    return "/".equals(path) ? "" : path;
+  }
+
+  /**
+   * percent-encoding 된 경로 디코딩 (UTF-8)
+   * URLDecoder 와 달리 '+' 를 공백으로 바꾸지 않으며, 잘못된 %XX 는 그대로 둠
+   *
+   * @param encodedPath 인코딩 된 경로
+   * @return 디코딩 된 경로
+   */
+  public static String decodePath(String encodedPath) {
+    if (encodedPath == null || encodedPath.indexOf('%') < 0) {
+      return encodedPath;
+    }
+    int length = encodedPath.length();
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(length);
+    StringBuilder out = new StringBuilder(length);
+    int i = 0;
+    while (i < length) {
+      char c = encodedPath.charAt(i);
+      if (c == '%' && i + 2 < length && isHex(encodedPath.charAt(i + 1)) && isHex(encodedPath.charAt(i + 2))) {
+        buffer.write(Integer.parseInt(encodedPath, i + 1, i + 3, 16));
+        i += 3;
+        continue;
+      }
+      if (buffer.size() > 0) {
+        out.append(buffer.toString(StandardCharsets.UTF_8));
+        buffer.reset();
       }
-      // 2) %XX 부분은 그대로 append
-      out.append(m.group(1));
-      last = m.end();
+      out.append(c);
+      i++;
     }
-    // 3) 남은 tail 구간 인코딩
-    String tail = segment.substring(last);
-    if (!tail.isEmpty()) {
-      out.append(encodeString(tail));
+    if (buffer.size() > 0) {
+      out.append(buffer.toString(StandardCharsets.UTF_8));
     }
     return out.toString();
   }
 
+  private static boolean isHex(char c) {
+    return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
   /**
    * URL 또는 경로 문자열의 끝에 있는 슬래시('/) 제거
    *
@@ -148,4 +344,25 @@ public class FileUtil {
     }
     return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
   }
+
+  /**
+   * 상위 경로 인코딩 캐시 항목 (기본 URL, 원본 상위 경로 -> 기본 URL + 인코딩 된 상위 경로)
+   */
+  private static final class PrefixEntry {
+    private final String baseUrl;
+    private final String rawPrefix;
+    private final String encoded;
+
+    private PrefixEntry(String baseUrl, String rawPrefix, String encoded) {
+      this.baseUrl = baseUrl;
+      this.rawPrefix = rawPrefix;
+      this.encoded = encoded;
+    }
+
+    private boolean matches(String baseUrl, String rawPath, int from, int to) {
+      return rawPrefix.length() == to - from
+          && this.baseUrl.equals(baseUrl)
+          && rawPath.regionMatches(from, rawPrefix, 0, rawPrefix.length());
+    }
+  }
 }
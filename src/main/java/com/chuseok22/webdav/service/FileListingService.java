@@ -0,0 +1,199 @@
+package com.chuseok22.webdav.service;
+
+import com.chuseok22.webdav.client.WebDavClient;
+import com.chuseok22.webdav.dto.request.FileListQueryDTO;
+import com.chuseok22.webdav.dto.response.FilePageDTO;
+import com.chuseok22.webdav.dto.response.WebDavFileDTO;
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.vo.FileSortField;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 대용량 디렉토리 목록 조회 (커서 페이지, 스트리밍)
+ * PROPFIND 응답을 파싱하는 대로 필터를 적용하고, 페이지 조회는 크기가 limit + 1 인 힙만 유지하여 전체 목록을 만들지 않음
+ * 캐시할 수 있는 크기의 디렉토리는 목록 캐시에서 읽으므로 다음 페이지 요청마다 전체 목록을 다시 조회하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileListingService {
+
+  private static final char CURSOR_SEPARATOR = '\t';
+  // 스트리밍 응답을 클라이언트에 내보내는 항목 단위
+  private static final int NDJSON_FLUSH_INTERVAL = 100;
+
+  private final WebDavClient webDavClient;
+  private final ObjectMapper objectMapper;
+
+  @Value("${webdav.explorer.page-size}")
+  private int defaultPageSize;
+  @Value("${webdav.explorer.max-page-size}")
+  private int maxPageSize;
+
+  /**
+   * 커서 기반 페이지 조회
+   * 정렬 기준 (동일하면 파일명) 으로 커서 다음 항목 중 앞에서부터 limit 개를 반환
+   */
+  public FilePageDTO listPage(WebDavEndpoint endpoint, FileListQueryDTO query) {
+    int limit = query.getLimit() == null ? defaultPageSize : Math.max(1, Math.min(query.getLimit(), maxPageSize));
+    Comparator<WebDavFileDTO> comparator = comparator(query);
+    WebDavFileDTO after = decodeCursor(query);
+
+    // 가장 뒤에 있는 항목이 머리에 오는 힙 (limit + 1 개를 넘으면 제거, 다음 페이지 존재 여부 확인용으로 하나 더 유지)
+    PriorityQueue<WebDavFileDTO> heap = new PriorityQueue<>(limit + 2, comparator.reversed());
+    AtomicInteger matchedCount = new AtomicInteger();
+    webDavClient.streamFiles(endpoint, query.getPath(), file -> {
+      if (!matches(query, file)) {
+        return;
+      }
+      matchedCount.incrementAndGet();
+      if (after != null && comparator.compare(file, after) <= 0) {
+        return;
+      }
+      heap.add(file);
+      if (heap.size() > limit + 1) {
+        heap.poll();
+      }
+    });
+
+    List<WebDavFileDTO> files = new ArrayList<>(heap);
+    files.sort(comparator);
+    String nextCursor = null;
+    if (files.size() > limit) {
+      files = files.subList(0, limit);
+      nextCursor = encodeCursor(query, files.getLast());
+    }
+    return FilePageDTO.builder()
+        .files(List.copyOf(files))
+        .nextCursor(nextCursor)
+        .matchedCount(matchedCount.get())
+        .build();
+  }
+
+  /**
+   * 조건에 맞는 항목을 한 줄에 하나씩 JSON 으로 전송하는 응답 본문 (NDJSON, 파싱하는 대로 전송하며 정렬하지 않음)
+   * 클라이언트가 연결을 끊으면 조회를 중단
+   */
+  public StreamingResponseBody stream(WebDavEndpoint endpoint, FileListQueryDTO query) {
+    return outputStream -> {
+      OutputStream out = new BufferedOutputStream(outputStream);
+      AtomicInteger written = new AtomicInteger();
+      try {
+        forEachMatching(endpoint, query, file -> {
+          try {
+            out.write(objectMapper.writeValueAsBytes(file));
+            out.write('\n');
+            if (written.incrementAndGet() % NDJSON_FLUSH_INTERVAL == 0) {
+              out.flush();
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+        out.flush();
+      } catch (UncheckedIOException e) {
+        log.debug("목록 스트리밍 중단 (클라이언트 연결 종료): {}", e.getMessage());
+      }
+    };
+  }
+
+  /**
+   * 조건에 맞는 항목을 파싱하는 대로 전달 (정렬하지 않음, 서버 응답 순서)
+   *
+   * @param consumer 항목마다 호출
+   */
+  private void forEachMatching(WebDavEndpoint endpoint, FileListQueryDTO query, Consumer<WebDavFileDTO> consumer) {
+    webDavClient.streamFiles(endpoint, query.getPath(), file -> {
+      if (matches(query, file)) {
+        consumer.accept(file);
+      }
+    });
+  }
+
+  private static boolean matches(FileListQueryDTO query, WebDavFileDTO file) {
+    if (query.getDirectory() != null && query.getDirectory() != file.isDirectory()) {
+      return false;
+    }
+    if (query.getPrefix() != null && !query.getPrefix().isEmpty()
+        && !file.getFileName().toLowerCase(Locale.ROOT).startsWith(query.getPrefix().toLowerCase(Locale.ROOT))) {
+      return false;
+    }
+    if (file.isDirectory()) {
+      return true;
+    }
+    // 크기 조건은 목록 항목과 같은 KB 단위
+    return (query.getMinSize() == null || file.getFileSize() >= query.getMinSize())
+        && (query.getMaxSize() == null || file.getFileSize() <= query.getMaxSize());
+  }
+
+  private static Comparator<WebDavFileDTO> comparator(FileListQueryDTO query) {
+    Comparator<WebDavFileDTO> comparator = switch (query.getSort()) {
+      case NAME -> Comparator.comparing(WebDavFileDTO::getFileName);
+      case SIZE -> Comparator.comparingLong(WebDavFileDTO::getFileSize);
+      // 수정일은 "yyyy-MM-dd HH:mm:ss" 형식이므로 문자열 순서가 시간 순서
+      case LAST_MODIFIED -> Comparator.comparing(WebDavFileDTO::getLastModified, Comparator.nullsFirst(Comparator.naturalOrder()));
+    };
+    comparator = comparator.thenComparing(WebDavFileDTO::getFileName);
+    return query.isDesc() ? comparator.reversed() : comparator;
+  }
+
+  /**
+   * 커서: 정렬 기준, 방향, 마지막 항목의 정렬 값, 파일명 (URL-safe Base64)
+   */
+  private static String encodeCursor(FileListQueryDTO query, WebDavFileDTO last) {
+    String sortValue = switch (query.getSort()) {
+      case NAME -> "";
+      case SIZE -> String.valueOf(last.getFileSize());
+      case LAST_MODIFIED -> last.getLastModified() == null ? "" : last.getLastModified();
+    };
+    String cursor = String.join(String.valueOf(CURSOR_SEPARATOR), query.getSort().name(), String.valueOf(query.isDesc()), sortValue, last.getFileName());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서를 비교용 항목으로 변환 (정렬 조건이 커서와 다르면 잘못된 요청)
+   *
+   * @return 비교용 항목 (첫 페이지면 null)
+   */
+  private static WebDavFileDTO decodeCursor(FileListQueryDTO query) {
+    if (query.getCursor() == null || query.getCursor().isEmpty()) {
+      return null;
+    }
+    try {
+      String[] fields = new String(Base64.getUrlDecoder().decode(query.getCursor()), StandardCharsets.UTF_8)
+          .split(String.valueOf(CURSOR_SEPARATOR), 4);
+      FileSortField sort = FileSortField.valueOf(fields[0]);
+      if (sort != query.getSort() || Boolean.parseBoolean(fields[1]) != query.isDesc()) {
+        throw new CustomException(ErrorCode.INVALID_LISTING_CURSOR);
+      }
+      return WebDavFileDTO.builder()
+          .fileName(fields[3])
+          .fileSize(sort == FileSortField.SIZE ? Long.parseLong(fields[2]) : 0)
+          .lastModified(sort == FileSortField.LAST_MODIFIED && !fields[2].isEmpty() ? fields[2] : null)
+          .build();
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      log.warn("잘못된 목록 커서: {}", query.getCursor());
+      throw new CustomException(ErrorCode.INVALID_LISTING_CURSOR);
+    }
+  }
+}
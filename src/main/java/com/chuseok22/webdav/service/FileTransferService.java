@@ -1,21 +1,46 @@
 package com.chuseok22.webdav.service;
 
 import com.chuseok22.webdav.client.WebDavClient;
+import com.chuseok22.webdav.client.transfer.TransferTraceRecorder;
+import com.chuseok22.webdav.dto.request.FileListQueryDTO;
 import com.chuseok22.webdav.dto.request.FolderTransferDTO;
 import com.chuseok22.webdav.dto.request.MultipleFileTransferDTO;
 import com.chuseok22.webdav.dto.request.SingleFileTransferDTO;
+import com.chuseok22.webdav.dto.response.ExplorerListingDTO;
+import com.chuseok22.webdav.dto.response.FilePageDTO;
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
+import com.chuseok22.webdav.dto.response.ListingPaneDTO;
 import com.chuseok22.webdav.dto.response.TransferResultDTO;
 import com.chuseok22.webdav.dto.response.WebDavFileDTO;
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileTransferService {
 
   private final WebDavClient webDavClient;
+  private final FileListingService fileListingService;
+  private final TransferTraceRecorder transferTraceRecorder;
+  @Qualifier("transferTaskExecutor")
+  private final ExecutorService transferTaskExecutor;
+
+  @Value("${webdav.explorer.listing-timeout-millis}")
+  private long listingTimeoutMillis;
 
   /**
    * 클라우드 파일 조회
@@ -31,6 +56,56 @@ public class FileTransferService {
     return webDavClient.listNasFiles(remotePath);
   }
 
+  /**
+   * 탐색기 화면의 클라우드, NAS 목록 첫 페이지를 동시에 조회 (이후 페이지는 스크롤 시 페이지 API 로 조회)
+   * 두 조회가 하나의 제한 시간을 공유하며, 한쪽이 실패하거나 시간을 넘기면 해당 쪽만 오류로 표시하고 다른 쪽 목록은 그대로 반환
+   * 시간을 넘긴 조회는 백그라운드에서 계속 진행되어 목록 캐시에 저장되므로 다시 요청하면 바로 표시됨
+   */
+  public ExplorerListingDTO listExplorer(String cloudPath, String nasPath) {
+    long start = System.nanoTime();
+    long deadline = start + TimeUnit.MILLISECONDS.toNanos(listingTimeoutMillis);
+    Future<FilePageDTO> cloudListing = transferTaskExecutor.submit(() -> fileListingService.listPage(WebDavEndpoint.CLOUD, firstPage(cloudPath)));
+    Future<FilePageDTO> nasListing = transferTaskExecutor.submit(() -> fileListingService.listPage(WebDavEndpoint.NAS, firstPage(nasPath)));
+    ListingPaneDTO cloud = awaitListing("클라우드", cloudPath, cloudListing, deadline);
+    ListingPaneDTO nas = awaitListing("NAS", nasPath, nasListing, deadline);
+    return ExplorerListingDTO.builder()
+        .cloud(cloud)
+        .nas(nas)
+        .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+        .build();
+  }
+
+  private static FileListQueryDTO firstPage(String path) {
+    FileListQueryDTO query = new FileListQueryDTO();
+    query.setPath(path);
+    return query;
+  }
+
+  private ListingPaneDTO awaitListing(String endpointName, String path, Future<FilePageDTO> listing, long deadline) {
+    ListingPaneDTO.ListingPaneDTOBuilder pane = ListingPaneDTO.builder()
+        .path(path)
+        .files(List.of());
+    try {
+      FilePageDTO page = listing.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return pane.files(page.getFiles())
+          .nextCursor(page.getNextCursor())
+          .matchedCount(page.getMatchedCount())
+          .build();
+    } catch (TimeoutException e) {
+      log.warn("{} 목록 조회 시간 초과 ({}ms): {}", endpointName, listingTimeoutMillis, path);
+      return pane.timedOut(true).errorMessage(endpointName + " 목록 조회 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.").build();
+    } catch (ExecutionException e) {
+      String message = e.getCause() instanceof CustomException customException
+          ? customException.getMessage()
+          : ErrorCode.DIRECTORY_READ_ERROR.getMessage();
+      log.error("{} 목록 조회 실패: {}", endpointName, path, e.getCause());
+      return pane.errorMessage(message).build();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.DIRECTORY_READ_ERROR);
+    }
+  }
+
   /**
    * 단일 파일 전송
    */
@@ -51,4 +126,18 @@ public class FileTransferService {
   public TransferResultDTO transferFolder(FolderTransferDTO request) throws IOException {
     return webDavClient.transferFolder(request.getFolderPath(), request.getServerPath(), request.isOverwrite());
   }
+
+  /**
+   * 최근 전송한 파일의 구간별 소요 시간 (최신순)
+   */
+  public List<FileTraceDTO> getRecentTraces(int limit) {
+    return transferTraceRecorder.getRecent(limit);
+  }
+
+  /**
+   * 최근 전송한 파일 중 전체 소요 시간이 긴 순
+   */
+  public List<FileTraceDTO> getSlowestTraces(int limit) {
+    return transferTraceRecorder.getSlowest(limit);
+  }
 }
@@ -0,0 +1,452 @@
+package com.chuseok22.webdav.service;
+
+import com.chuseok22.webdav.client.WebDavClient;
+import com.chuseok22.webdav.client.transfer.EndpointCircuitBreaker;
+import com.chuseok22.webdav.client.transfer.SyncIndex;
+import com.chuseok22.webdav.client.transfer.TransferManifest;
+import com.chuseok22.webdav.client.transfer.TransferProgress;
+import com.chuseok22.webdav.dto.request.FolderTransferDTO;
+import com.chuseok22.webdav.dto.request.MultipleFileTransferDTO;
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
+import com.chuseok22.webdav.dto.response.TransferJobDTO;
+import com.chuseok22.webdav.dto.response.TransferProgressEventDTO;
+import com.chuseok22.webdav.dto.response.TransferResultDTO;
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
+import com.chuseok22.webdav.service.job.TransferJob;
+import com.chuseok22.webdav.service.job.TransferJobRegistry;
+import com.chuseok22.webdav.vo.TransferJobType;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TransferJobService {
+
+  private static final String MANIFEST_EXTENSION = ".manifest";
+
+  private final WebDavClient webDavClient;
+  private final TransferJobRegistry transferJobRegistry;
+  private final TransferMetrics transferMetrics;
+  private final EndpointCircuitBreaker circuitBreaker;
+  @Qualifier("transferJobExecutor")
+  private final ExecutorService transferJobExecutor;
+
+  // 작업 ID 별 SSE 구독자
+  private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+  // 실행 중인 폴더 전송 작업의 매니페스트
+  private final Map<String, TransferManifest> manifests = new ConcurrentHashMap<>();
+
+  @Value("${webdav.job.sse-timeout-millis}")
+  private long sseTimeoutMillis;
+  @Value("${webdav.job.event-max-files}")
+  private int eventMaxFiles;
+  @Value("${webdav.job.manifest-dir}")
+  private String manifestDir;
+  @Value("${webdav.sync.index-dir}")
+  private String syncIndexDir;
+  @Value("${webdav.cloud.url}")
+  private String cloudUrl;
+  @Value("${webdav.nas.url}")
+  private String nasUrl;
+
+  /**
+   * 다중 파일 전송 작업 등록
+   */
+  public TransferJobDTO submitMultipleFilesJob(MultipleFileTransferDTO request) {
+    List<String> cloudPaths = request.getCloudPaths();
+    String sourcePath = cloudPaths.isEmpty() ? "" : cloudPaths.getFirst().substring(0, cloudPaths.getFirst().lastIndexOf('/') + 1);
+    TransferJob job = new TransferJob(UUID.randomUUID().toString(), TransferJobType.MULTIPLE, sourcePath, request.getServerPath(), request.isOverwrite(),
+        cloudPaths.size());
+    return submit(job, () -> webDavClient.transferMultipleFiles(cloudPaths, request.getServerPath(), request.isOverwrite(), job.getProgress()));
+  }
+
+  /**
+   * 폴더 전송 작업 등록
+   */
+  public TransferJobDTO submitFolderJob(FolderTransferDTO request) {
+    if (request.isSync()) {
+      return submitSyncJob(request.getFolderPath(), request.getServerPath());
+    }
+    String jobId = UUID.randomUUID().toString();
+    TransferManifest manifest = createManifest(TransferManifest.Header.builder()
+        .jobId(jobId)
+        .sourcePath(request.getFolderPath())
+        .targetPath(request.getServerPath())
+        .overwrite(request.isOverwrite())
+        .build());
+    return submitFolderJob(manifest, jobId, request.getFolderPath(), request.getServerPath(), request.isOverwrite(), false);
+  }
+
+  /**
+   * 이전 실행에서 끝나지 않은 폴더 전송 작업 재개 (매니페스트가 남아있는 작업)
+   * 폴더 조회가 끝난 작업은 다시 조회하지 않고 완료되지 않은 파일만 전송
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeInterruptedJobs() {
+    Path directory = Paths.get(manifestDir);
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (DirectoryStream<Path> manifestPaths = Files.newDirectoryStream(directory, "*" + MANIFEST_EXTENSION)) {
+      for (Path path : manifestPaths) {
+        try {
+          TransferManifest manifest = TransferManifest.recover(path);
+          TransferManifest.Header header = manifest.getHeader();
+          log.info("중단된 폴더 전송 작업을 재개합니다: {} ({} -> {})", header.getJobId(), header.getSourcePath(), header.getTargetPath());
+          submitFolderJob(manifest, header.getJobId(), header.getSourcePath(), header.getTargetPath(), header.isOverwrite(), true);
+        } catch (IOException | RuntimeException e) {
+          log.error("매니페스트를 복구할 수 없어 작업을 재개하지 않습니다: {}", path, e);
+        }
+      }
+    } catch (IOException e) {
+      log.error("매니페스트 디렉토리 조회 실패: {}", directory, e);
+    }
+  }
+
+  /**
+   * 실행 중인 작업의 매니페스트 기록을 디스크에 반영 (파일마다 fsync 하지 않고 주기적으로 묶어서 처리)
+   */
+  @Scheduled(fixedDelayString = "${webdav.job.manifest-sync-interval-millis}")
+  public void syncManifests() {
+    manifests.forEach((jobId, manifest) -> {
+      try {
+        manifest.sync();
+      } catch (IOException e) {
+        log.error("매니페스트 동기화 실패: {}", jobId, e);
+      }
+    });
+  }
+
+  /**
+   * 전송 작업 상태 조회
+   */
+  public TransferJobDTO getJob(String jobId) {
+    return toDto(transferJobRegistry.get(jobId));
+  }
+
+  /**
+   * 전체 전송 작업 목록 조회 (최신순)
+   */
+  public List<TransferJobDTO> getJobs() {
+    return transferJobRegistry.getAll().stream()
+        .sorted(Comparator.comparing(TransferJob::getCreatedAt).reversed())
+        .map(this::toDto)
+        .toList();
+  }
+
+  /**
+   * 전송 작업 취소
+   */
+  public TransferJobDTO cancelJob(String jobId) {
+    TransferJob job = transferJobRegistry.get(jobId);
+    if (!job.cancel()) {
+      log.warn("이미 종료된 전송 작업은 취소할 수 없습니다: {}", jobId);
+      throw new CustomException(ErrorCode.TRANSFER_JOB_ALREADY_FINISHED);
+    }
+    log.info("전송 작업 취소 요청: {}", jobId);
+    if (job.isFinished()) {
+      // 시작 전에 취소된 작업은 재개 대상이 아님
+      closeManifest(jobId, true);
+    }
+    return toDto(job);
+  }
+
+  /**
+   * 종료된 작업에서 실패한 파일만 다시 전송하는 작업 등록 (원래 작업과 같은 원본, 대상, 덮어쓰기 설정)
+   * 폴더 전송, 동기화 작업은 클라우드 폴더를 다시 조회하지 않고 실패 파일만 같은 NAS 위치로 전송
+   * 재전송 작업의 실패 파일도 같은 형식으로 기록되므로 재전송 작업을 다시 재전송할 수 있음
+   * 동기화 인덱스는 갱신하지 않음 (다음 동기화에서 NAS 와 크기를 비교하여 전송 여부 결정)
+   *
+   * @throws CustomException 작업이 아직 종료되지 않았거나 실패 파일이 없는 경우
+   */
+  public TransferJobDTO retryFailedJob(String jobId) {
+    TransferJob previous = transferJobRegistry.get(jobId);
+    if (!previous.isFinished()) {
+      log.warn("종료되지 않은 작업의 실패 파일은 다시 전송할 수 없습니다: {}", jobId);
+      throw new CustomException(ErrorCode.TRANSFER_JOB_NOT_FINISHED);
+    }
+    List<String> failedFiles = previous.getProgress().getFailedFiles();
+    if (failedFiles.isEmpty()) {
+      log.warn("다시 전송할 실패 파일이 없습니다: {}", jobId);
+      throw new CustomException(ErrorCode.NO_FAILED_FILES);
+    }
+    log.info("실패 파일 재전송 작업 등록: {} ({}개)", jobId, failedFiles.size());
+    TransferJob job = new TransferJob(UUID.randomUUID().toString(), previous.getType(), previous.getSourcePath(), previous.getTargetPath(),
+        previous.isOverwrite(), jobId, failedFiles.size());
+    if (previous.getType() == TransferJobType.MULTIPLE) {
+      return submit(job, () -> webDavClient.transferMultipleFiles(failedFiles, job.getTargetPath(), job.isOverwrite(), job.getProgress()));
+    }
+    return submit(job, () -> webDavClient.transferFolderFiles(job.getSourcePath(), job.getTargetPath(), failedFiles, job.isOverwrite(),
+        job.getProgress()));
+  }
+
+  /**
+   * 전송 작업 진행 이벤트 구독 (SSE)
+   * 구독 즉시 현재 상태를 전송하고, 이후에는 publishProgress 주기마다 묶어서 전송
+   */
+  public SseEmitter subscribe(String jobId) {
+    TransferJob job = transferJobRegistry.get(jobId);
+    SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+    if (job.isFinished()) {
+      sendComplete(job, emitter);
+      return emitter;
+    }
+
+    List<SseEmitter> jobEmitters = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+    jobEmitters.add(emitter);
+    emitter.onCompletion(() -> jobEmitters.remove(emitter));
+    emitter.onTimeout(() -> jobEmitters.remove(emitter));
+    emitter.onError(e -> jobEmitters.remove(emitter));
+
+    send(emitter, "progress", TransferProgressEventDTO.builder()
+        .job(toDto(job, false))
+        .files(List.of())
+        .build());
+    return emitter;
+  }
+
+  /**
+   * 구독 중인 작업의 진행 이벤트 전송
+   * 작은 파일이 빠르게 처리되어도 파일마다 이벤트를 보내지 않고 주기별로 한 번에 묶어서 전송
+   */
+  @Scheduled(fixedRateString = "${webdav.job.event-interval-millis}")
+  public void publishProgress() {
+    for (TransferJob job : transferJobRegistry.getAll()) {
+      List<SseEmitter> jobEmitters = emitters.get(job.getJobId());
+      boolean finished = job.isFinished();
+      job.getProgress().drainFileEvents(eventMaxFiles, (files, omittedCount) -> {
+        if (jobEmitters == null || jobEmitters.isEmpty() || (files.isEmpty() && finished)) {
+          return;
+        }
+        TransferProgressEventDTO event = TransferProgressEventDTO.builder()
+            .job(toDto(job, false))
+            .files(files)
+            .omittedFileCount(omittedCount)
+            .build();
+        jobEmitters.forEach(emitter -> send(emitter, "progress", event));
+      });
+      if (finished && jobEmitters != null) {
+        jobEmitters.forEach(emitter -> sendComplete(job, emitter));
+        emitters.remove(job.getJobId());
+      }
+    }
+  }
+
+  private void sendComplete(TransferJob job, SseEmitter emitter) {
+    if (send(emitter, "complete", toDto(job, true))) {
+      emitter.complete();
+    }
+  }
+
+  private boolean send(SseEmitter emitter, String name, Object data) {
+    try {
+      emitter.send(SseEmitter.event().name(name).data(data));
+      return true;
+    } catch (IOException | IllegalStateException e) {
+      log.debug("SSE 이벤트 전송 실패 (구독 해제): {}", e.getMessage());
+      emitter.completeWithError(e);
+      return false;
+    }
+  }
+
+  /**
+   * 폴더 전송 작업 등록
+   * 애플리케이션 종료로 중단된 경우에만 다음 실행에서 재개할 수 있도록 매니페스트를 남겨둠
+   * 완료, 취소, 실패 (원본 경로 없음, 권한 없음 등 재시작해도 같은 결과) 시에는 삭제하여 재시작마다 반복되지 않도록 함
+   *
+   * @param manifest 작업 매니페스트 (생성 실패 시 null, 이 경우 재개 불가)
+   * @param resumed  이전 실행에서 중단된 작업을 재개하는 경우 (등록이 거부되면 매니페스트를 남겨 다음 실행에서 다시 재개)
+   */
+  private TransferJobDTO submitFolderJob(TransferManifest manifest, String jobId, String folderPath, String serverPath, boolean overwrite,
+      boolean resumed) {
+    TransferJob job = new TransferJob(jobId, TransferJobType.FOLDER, folderPath, serverPath, overwrite, 0);
+    if (manifest != null) {
+      manifests.put(jobId, manifest);
+    }
+    try {
+      return submit(job, () -> {
+        try {
+          TransferResultDTO result = webDavClient.transferFolder(folderPath, serverPath, overwrite, job.getProgress(), manifest);
+          closeManifest(jobId, true);
+          return result;
+        } catch (Exception e) {
+          closeManifest(jobId, !isInterrupted(job, e));
+          throw e;
+        }
+      });
+    } catch (CustomException e) {
+      closeManifest(jobId, !resumed);
+      throw e;
+    }
+  }
+
+  /**
+   * 취소가 아닌 인터럽트 (애플리케이션 종료 시 작업 스레드 중단) 로 끝난 작업인지 여부
+   */
+  private static boolean isInterrupted(TransferJob job, Exception e) {
+    if (job.getProgress().isCancelled()) {
+      return false;
+    }
+    return Thread.currentThread().isInterrupted()
+        || e instanceof CustomException customException && customException.getErrorCode() == ErrorCode.TRANSFER_INTERRUPTED;
+  }
+
+  /**
+   * 폴더 동기화 작업 등록
+   * 동기화 인덱스가 재개 상태 역할을 하므로 (중단 시 다음 동기화에서 남은 파일만 전송) 매니페스트는 사용하지 않음
+   */
+  private TransferJobDTO submitSyncJob(String folderPath, String serverPath) {
+    TransferJob job = new TransferJob(UUID.randomUUID().toString(), TransferJobType.SYNC, folderPath, serverPath, true, 0);
+    return submit(job, () -> {
+      SyncIndex syncIndex;
+      try {
+        syncIndex = SyncIndex.load(SyncIndex.resolvePath(Paths.get(syncIndexDir), cloudUrl, folderPath, nasUrl, serverPath));
+      } catch (IOException | RuntimeException e) {
+        log.error("동기화 인덱스를 읽을 수 없습니다: {} -> {}", folderPath, serverPath, e);
+        throw new CustomException(ErrorCode.SYNC_INDEX_ERROR);
+      }
+      return webDavClient.syncFolder(folderPath, serverPath, job.getProgress(), syncIndex);
+    });
+  }
+
+  private TransferManifest createManifest(TransferManifest.Header header) {
+    Path path = Paths.get(manifestDir).resolve(header.getJobId() + MANIFEST_EXTENSION);
+    try {
+      return TransferManifest.create(path, header);
+    } catch (IOException e) {
+      log.error("매니페스트 생성 실패, 재개할 수 없는 작업으로 진행합니다: {}", path, e);
+      return null;
+    }
+  }
+
+  private void closeManifest(String jobId, boolean delete) {
+    TransferManifest manifest = manifests.remove(jobId);
+    if (manifest == null) {
+      return;
+    }
+    try {
+      manifest.close();
+      if (delete) {
+        Files.deleteIfExists(manifest.getPath());
+      }
+    } catch (IOException e) {
+      log.error("매니페스트 정리 실패: {}", manifest.getPath(), e);
+    }
+  }
+
+  private TransferJobDTO submit(TransferJob job, TransferTask task) {
+    transferJobRegistry.register(job);
+    Future<?> future = transferJobExecutor.submit(() -> run(job, task));
+    job.attach(future);
+    log.info("전송 작업 등록: {} ({}) {} -> {}", job.getJobId(), job.getType().getProperty(), job.getSourcePath(), job.getTargetPath());
+    return toDto(job);
+  }
+
+  private void run(TransferJob job, TransferTask task) {
+    job.markRunning();
+    log.info("전송 작업 시작: {}", job.getJobId());
+    try {
+      job.markCompleted(task.run());
+      log.info("전송 작업 종료: {} ({})", job.getJobId(), job.getStatus().getProperty());
+    } catch (CustomException e) {
+      log.error("전송 작업 실패: {}", job.getJobId(), e);
+      job.markFailed(e.getMessage());
+    } catch (Exception e) {
+      log.error("전송 작업 중 예상치 못한 오류가 발생했습니다: {}", job.getJobId(), e);
+      job.markFailed(ErrorCode.FILE_TRANSFER_ERROR.getMessage());
+    }
+    transferMetrics.recordJob(job.getType(), job.getStatus(), Duration.between(job.getStartedAt(), job.getFinishedAt()));
+    logSlowestFiles(job);
+  }
+
+  /**
+   * 작업에서 가장 오래 걸린 파일과 구간별 소요 시간 (동시성 조정, 문제 파일 확인용)
+   */
+  private void logSlowestFiles(TransferJob job) {
+    List<FileTraceDTO> slowestFiles = job.getProgress().getSlowestFiles();
+    if (slowestFiles.isEmpty()) {
+      return;
+    }
+    log.info("가장 오래 걸린 파일 {}개 [{}]", slowestFiles.size(), job.getJobId());
+    for (FileTraceDTO trace : slowestFiles) {
+      log.info("  {}ms (NAS 확인 {}ms, 비교 {}ms, 첫 응답 {}ms, 전송 {}ms, {}KB/s) {} {}",
+          trace.getTotalMillis(), trace.getProbeMillis(), trace.getCompareMillis(),
+          trace.getFirstByteMillis() != null ? trace.getFirstByteMillis() : "-", trace.getStreamMillis(),
+          trace.getBytesPerSecond() != null ? trace.getBytesPerSecond() / 1024 : "-",
+          trace.getResult().getProperty(), trace.getFile());
+    }
+  }
+
+  private TransferJobDTO toDto(TransferJob job) {
+    return toDto(job, true);
+  }
+
+  /**
+   * @param includeFailedFiles 실패 파일 목록, 체크섬 목록 포함 여부 (진행 이벤트에서는 파일 이벤트로 전달하므로 제외)
+   */
+  private TransferJobDTO toDto(TransferJob job, boolean includeFailedFiles) {
+    TransferProgress progress = job.getProgress();
+    return TransferJobDTO.builder()
+        .jobId(job.getJobId())
+        .type(job.getType())
+        .status(job.getStatus())
+        .sourcePath(job.getSourcePath())
+        .targetPath(job.getTargetPath())
+        .retryOf(job.getRetryOf())
+        .enumerating(progress.isEnumerating())
+        .totalCount(progress.getTotalCount())
+        .completedCount(progress.getCompletedCount())
+        .successCount(progress.getSuccessCount())
+        .unchangedCount(progress.getUnchangedCount())
+        .duplicatedCount(progress.getDuplicatedCount())
+        .failedCount(progress.getFailedCount())
+        .totalBytes(progress.getTotalBytes())
+        .transferredBytes(progress.getTransferredBytes())
+        .bytesPerSecond(job.isFinished() ? 0 : (long) progress.getBytesPerSecond())
+        .etaSeconds(job.isFinished() ? null : progress.getEtaSeconds())
+        .cloudWaitMillis(progress.getCloudWaitMillis())
+        .nasWaitMillis(progress.getNasWaitMillis())
+        .verifiedCount(progress.getVerifiedCount())
+        .checksumMismatchCount(progress.getChecksumMismatchCount())
+        .failedFiles(includeFailedFiles ? progress.getFailedFiles() : null)
+        .checksums(includeFailedFiles ? progress.getChecksums() : null)
+        .listing(progress.getListingSummary())
+        .slowestFiles(includeFailedFiles ? progress.getSlowestFiles() : null)
+        .pausedEndpoints(job.isFinished() ? List.of() : circuitBreaker.getPausedEndpoints())
+        .errorMessage(job.getErrorMessage())
+        .createdAt(job.getCreatedAt())
+        .startedAt(job.getStartedAt())
+        .finishedAt(job.getFinishedAt())
+        .build();
+  }
+
+  @FunctionalInterface
+  private interface TransferTask {
+
+    TransferResultDTO run() throws Exception;
+  }
+}
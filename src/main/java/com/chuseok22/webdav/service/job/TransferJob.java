@@ -0,0 +1,92 @@
+package com.chuseok22.webdav.service.job;
+
+import com.chuseok22.webdav.client.transfer.TransferProgress;
+import com.chuseok22.webdav.dto.response.TransferResultDTO;
+import com.chuseok22.webdav.vo.TransferJobStatus;
+import com.chuseok22.webdav.vo.TransferJobType;
+import java.time.LocalDateTime;
+import java.util.concurrent.Future;
+import lombok.Getter;
+
+/**
+ * 비동기 전송 작업 상태
+ * 상태 변경은 작업 실행 스레드에서, 조회는 요청 스레드에서 이루어지므로 변경 가능한 필드는 volatile
+ */
+@Getter
+public class TransferJob {
+
+  private final String jobId;
+  private final TransferJobType type;
+  private final String sourcePath;
+  private final String targetPath;
+  private final boolean overwrite;
+  private final String retryOf; // 실패 파일 재전송 작업이면 원래 작업 ID (아니면 null)
+  private final TransferProgress progress;
+  private final LocalDateTime createdAt = LocalDateTime.now();
+
+  private volatile TransferJobStatus status = TransferJobStatus.PENDING;
+  private volatile LocalDateTime startedAt;
+  private volatile LocalDateTime finishedAt;
+  private volatile TransferResultDTO result;
+  private volatile String errorMessage;
+  private volatile Future<?> future;
+
+  public TransferJob(String jobId, TransferJobType type, String sourcePath, String targetPath, boolean overwrite, int totalCount) {
+    this(jobId, type, sourcePath, targetPath, overwrite, null, totalCount);
+  }
+
+  public TransferJob(String jobId, TransferJobType type, String sourcePath, String targetPath, boolean overwrite, String retryOf, int totalCount) {
+    this.jobId = jobId;
+    this.type = type;
+    this.sourcePath = sourcePath;
+    this.targetPath = targetPath;
+    this.overwrite = overwrite;
+    this.retryOf = retryOf;
+    this.progress = new TransferProgress(totalCount);
+  }
+
+  public void attach(Future<?> future) {
+    this.future = future;
+  }
+
+  public void markRunning() {
+    this.startedAt = LocalDateTime.now();
+    this.status = TransferJobStatus.RUNNING;
+  }
+
+  public void markCompleted(TransferResultDTO result) {
+    this.result = result;
+    finish(progress.isCancelled() ? TransferJobStatus.CANCELLED : TransferJobStatus.COMPLETED);
+  }
+
+  public void markFailed(String errorMessage) {
+    this.errorMessage = errorMessage;
+    finish(TransferJobStatus.FAILED);
+  }
+
+  /**
+   * 작업 취소 요청
+   * 대기 중인 작업은 바로 취소되고, 진행 중인 작업은 현재 파일까지만 처리 후 종료됨
+   *
+   * @return 취소 요청이 받아들여졌는지 여부 (이미 종료된 작업이면 false)
+   */
+  public boolean cancel() {
+    if (status.isFinished()) {
+      return false;
+    }
+    progress.cancel();
+    if (status == TransferJobStatus.PENDING && future != null && future.cancel(false)) {
+      finish(TransferJobStatus.CANCELLED);
+    }
+    return true;
+  }
+
+  public boolean isFinished() {
+    return status.isFinished();
+  }
+
+  private void finish(TransferJobStatus status) {
+    this.finishedAt = LocalDateTime.now();
+    this.status = status;
+  }
+}
@@ -0,0 +1,101 @@
+package com.chuseok22.webdav.service.job;
+
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 작업 인메모리 저장소
+ * 최대 보관 개수를 넘으면 오래된 종료 작업부터 제거하고, 보관 기간이 지난 종료 작업은 주기적으로 제거
+ * 제거할 종료 작업이 없으면 (보관 중인 작업이 모두 대기, 진행 중) 새 작업 등록을 거부하므로 최대 보관 개수를 넘지 않음
+ */
+@Component
+@Slf4j
+public class TransferJobRegistry {
+
+  private final Map<String, TransferJob> jobs = new ConcurrentHashMap<>();
+
+  @Value("${webdav.job.max-retained}")
+  private int maxRetained;
+  @Value("${webdav.job.retention-minutes}")
+  private long retentionMinutes;
+
+  /**
+   * 작업 등록 (보관 개수 확인과 등록 사이에 다른 작업이 등록되지 않도록 동기화)
+   *
+   * @throws CustomException 종료 작업을 제거해도 최대 보관 개수를 넘는 경우
+   */
+  public synchronized void register(TransferJob job) {
+    evictOverflow();
+    if (jobs.size() >= maxRetained) {
+      log.warn("진행 중인 전송 작업이 최대 보관 개수 ({}개) 에 도달하여 작업을 등록할 수 없습니다: {}", maxRetained, job.getJobId());
+      throw new CustomException(ErrorCode.TOO_MANY_TRANSFER_JOBS);
+    }
+    jobs.put(job.getJobId(), job);
+  }
+
+  public TransferJob get(String jobId) {
+    TransferJob job = jobs.get(jobId);
+    if (job == null) {
+      log.warn("존재하지 않는 전송 작업입니다: {}", jobId);
+      throw new CustomException(ErrorCode.TRANSFER_JOB_NOT_FOUND);
+    }
+    return job;
+  }
+
+  public Collection<TransferJob> getAll() {
+    return jobs.values();
+  }
+
+  /**
+   * 진행 중인 작업의 처리량 샘플링
+   */
+  @Scheduled(fixedRateString = "${webdav.job.sample-interval-millis}")
+  public void sampleThroughput() {
+    for (TransferJob job : jobs.values()) {
+      if (!job.isFinished()) {
+        job.getProgress().sampleThroughput();
+      }
+    }
+  }
+
+  /**
+   * 보관 기간이 지난 종료 작업 제거
+   */
+  @Scheduled(fixedDelay = 60_000)
+  public void evictExpired() {
+    LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+    jobs.values().removeIf(job -> {
+      boolean expired = job.isFinished() && job.getFinishedAt().isBefore(threshold);
+      if (expired) {
+        log.info("보관 기간이 지난 전송 작업을 제거합니다: {}", job.getJobId());
+      }
+      return expired;
+    });
+  }
+
+  /**
+   * 최대 보관 개수 초과 시 가장 먼저 종료된 작업부터 제거 (진행 중인 작업은 제거하지 않음)
+   */
+  private void evictOverflow() {
+    int overflow = jobs.size() - maxRetained + 1;
+    if (overflow <= 0) {
+      return;
+    }
+    List<TransferJob> finishedJobs = jobs.values().stream()
+        .filter(TransferJob::isFinished)
+        .sorted(Comparator.comparing(TransferJob::getFinishedAt))
+        .limit(overflow)
+        .toList();
+    finishedJobs.forEach(job -> jobs.remove(job.getJobId()));
+  }
+}
@@ -0,0 +1,15 @@
+package com.chuseok22.webdav.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FileSortField {
+  NAME("이름"),
+  SIZE("크기"),
+  LAST_MODIFIED("수정일"),
+  ;
+
+  private final String property;
+}
@@ -0,0 +1,14 @@
+package com.chuseok22.webdav.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ListingMode {
+  DEPTH_INFINITY("Depth: infinity 단일 조회"),
+  PARALLEL_DEPTH_ONE("Depth: 1 디렉토리별 병렬 조회"),
+  ;
+
+  private final String property;
+}
@@ -0,0 +1,18 @@
+package com.chuseok22.webdav.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransferJobStatus {
+  PENDING("대기", false),
+  RUNNING("진행 중", false),
+  COMPLETED("완료", true),
+  FAILED("실패", true),
+  CANCELLED("취소", true),
+  ;
+
+  private final String property;
+  private final boolean finished;
+}
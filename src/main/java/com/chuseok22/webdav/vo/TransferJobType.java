@@ -0,0 +1,15 @@
+package com.chuseok22.webdav.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransferJobType {
+  MULTIPLE("다중 파일 전송"),
+  FOLDER("폴더 전송"),
+  SYNC("폴더 동기화"),
+  ;
+
+  private final String property;
+}
@@ -0,0 +1,14 @@
+package com.chuseok22.webdav.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum WebDavEndpoint {
+  CLOUD("클라우드"),
+  NAS("NAS"),
+  ;
+
+  private final String property;
+}
@@ -3,7 +3,15 @@ package com.chuseok22.webdav;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+    "webdav.cloud.url=http://127.0.0.1:1/cloud",
+    "webdav.cloud.username=test",
+    "webdav.cloud.password=test",
+    "webdav.nas.url=http://127.0.0.1:1/nas",
+    "webdav.nas.username=test",
+    "webdav.nas.password=test",
+    "webdav.startup.connection-check-enabled=false"
+})
 class WebDavApplicationTests {
 
   @Test
@@ -0,0 +1,114 @@
+package com.chuseok22.webdav.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.client.transfer.TransferTraceRecorder;
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
+import com.chuseok22.webdav.dto.response.TransferResultDTO;
+import com.chuseok22.webdav.fixture.InMemoryWebDavServer;
+import com.chuseok22.webdav.vo.TransferResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 다중 파일 전송의 클라우드 요청 수와 파일별 구간 소요 시간 기록 (프로세스 내 WebDAV 서버를 클라우드, NAS 로 사용)
+ */
+@SpringBootTest
+class WebDavClientTest {
+
+  private static final int FILE_COUNT = 5;
+  private static final long CLOUD_LATENCY_MILLIS = 50;
+  private static final InMemoryWebDavServer CLOUD = startServer();
+  private static final InMemoryWebDavServer NAS = startServer();
+
+  @Autowired
+  private WebDavClient webDavClient;
+  @Autowired
+  private TransferTraceRecorder transferTraceRecorder;
+
+  @DynamicPropertySource
+  static void webDavProperties(DynamicPropertyRegistry registry) throws IOException {
+    Path workDir = Files.createTempDirectory("webdav-client");
+    registry.add("webdav.cloud.url", CLOUD::getBaseUrl);
+    registry.add("webdav.cloud.username", () -> "test");
+    registry.add("webdav.cloud.password", () -> "test");
+    registry.add("webdav.nas.url", NAS::getBaseUrl);
+    registry.add("webdav.nas.username", () -> "test");
+    registry.add("webdav.nas.password", () -> "test");
+    registry.add("webdav.job.manifest-dir", () -> workDir.resolve("manifest").toString());
+    registry.add("webdav.large-file.spool-dir", () -> workDir.resolve("spool").toString());
+    registry.add("webdav.sync.index-dir", () -> workDir.resolve("sync").toString());
+  }
+
+  @AfterEach
+  void resetServers() {
+    CLOUD.reset();
+    NAS.reset();
+  }
+
+  @AfterAll
+  static void stopServers() {
+    CLOUD.close();
+    NAS.close();
+  }
+
+  @Test
+  void transferMultipleFiles_listsSourceDirectoryOnceInsteadOfProbingEachFile() {
+    List<String> paths = IntStream.range(0, FILE_COUNT).mapToObj(i -> "/multi/file-" + i + ".bin").toList();
+    paths.forEach(path -> CLOUD.putFile(path, 1024));
+    NAS.mkdirs("/multi-target");
+    long cloudRequestsBefore = CLOUD.getRequestCount();
+
+    TransferResultDTO result = webDavClient.transferMultipleFiles(paths, "/multi-target", false);
+
+    assertThat(result.getSuccessCount()).isEqualTo(FILE_COUNT);
+    // 원본 디렉토리 PROPFIND 1번 + 파일마다 GET 1번
+    assertThat(CLOUD.getRequestCount() - cloudRequestsBefore).isEqualTo(1 + FILE_COUNT);
+    paths.forEach(path -> assertThat(NAS.getFile("/multi-target" + path.substring(path.lastIndexOf('/')))).isEqualTo(CLOUD.getFile(path)));
+  }
+
+  @Test
+  void transferFile_recordsPhaseTimingsInRecentTraces() {
+    CLOUD.putFile("/traced/a.bin", 2048);
+    NAS.mkdirs("/traced-target");
+    CLOUD.setLatencyMillis(CLOUD_LATENCY_MILLIS);
+    assertThat(webDavClient.transferFile("/traced/a.bin", "/traced-target", false)).isTrue();
+    // 이미 있는 파일은 본문을 받지 않고 중복 처리
+    assertThat(webDavClient.transferFile("/traced/a.bin", "/traced-target", false)).isTrue();
+
+    List<FileTraceDTO> traces = transferTraceRecorder.getRecent(2);
+    FileTraceDTO duplicate = traces.get(0);
+    FileTraceDTO success = traces.get(1);
+
+    assertThat(success.getFile()).isEqualTo("/traced/a.bin");
+    assertThat(success.getResult()).isEqualTo(TransferResult.SUCCESS);
+    assertThat(success.getBytes()).isEqualTo(2048L);
+    // 클라우드 응답마다 지연이 있으므로 크기 조회 (비교 구간), GET 첫 응답 모두 지연 이상
+    assertThat(success.getCompareMillis()).isGreaterThanOrEqualTo(CLOUD_LATENCY_MILLIS);
+    assertThat(success.getFirstByteMillis()).isGreaterThanOrEqualTo(CLOUD_LATENCY_MILLIS);
+    assertThat(success.getTotalMillis()).isGreaterThanOrEqualTo(success.getCompareMillis() + success.getFirstByteMillis());
+
+    assertThat(duplicate.getResult()).isEqualTo(TransferResult.DUPLICATE);
+    assertThat(duplicate.getBytes()).isNull();
+    assertThat(duplicate.getFirstByteMillis()).isNull();
+  }
+
+  private static InMemoryWebDavServer startServer() {
+    try {
+      return new InMemoryWebDavServer().start();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
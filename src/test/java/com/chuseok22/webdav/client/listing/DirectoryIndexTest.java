@@ -0,0 +1,82 @@
+package com.chuseok22.webdav.client.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.client.PooledSardine;
+import com.chuseok22.webdav.client.transfer.EndpointCircuitBreaker;
+import com.chuseok22.webdav.client.transfer.RetryPolicy;
+import com.chuseok22.webdav.client.transfer.TransferConcurrencyLimiter;
+import com.chuseok22.webdav.fixture.InMemoryWebDavServer;
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 호스트만 있는 기본 URL (ex. http://nas:5005) 의 서버 최상위 디렉토리 목록 조회
+ */
+class DirectoryIndexTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TransferConcurrencyLimiter concurrencyLimiter = new TransferConcurrencyLimiter(4, 4, 4, 20, false, 4, 1, 0.7, 2.0, 0.05,
+      new TransferMetrics(meterRegistry), meterRegistry);
+  private final RetryPolicy retryPolicy = new RetryPolicy(new EndpointCircuitBreaker(5, 1000, meterRegistry), concurrencyLimiter,
+      meterRegistry, 2, 0, 0);
+  private final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+  private InMemoryWebDavServer server;
+
+  @AfterEach
+  void tearDown() {
+    connectionManager.close();
+    if (server != null) {
+      server.close();
+    }
+  }
+
+  @Test
+  void hostOnlyBaseUrl_findsRootEntries() throws IOException {
+    server = new InMemoryWebDavServer("").start();
+    server.putFile("/보고서 1.pdf", "내용".getBytes(StandardCharsets.UTF_8));
+    server.mkdirs("/문서");
+    server.putFile("/문서/a.txt", new byte[10]);
+
+    DirectoryIndex index = newIndex(server.getBaseUrl());
+
+    assertThat(index.find("/", "보고서 1.pdf")).isNotNull();
+    assertThat(index.find("/", "문서").isDirectory()).isTrue();
+    assertThat(index.find("/", "없는 파일")).isNull();
+    assertThat(index.find("/문서", "a.txt").getContentLength()).isEqualTo(10);
+    assertThat(index.getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  void hostOnlyBaseUrlWithTrailingSlash_findsRootEntries() throws IOException {
+    server = new InMemoryWebDavServer("").start();
+    server.putFile("/a.txt", new byte[1]);
+
+    DirectoryIndex index = newIndex(server.getBaseUrl() + "/");
+
+    assertThat(index.find("/", "a.txt")).isNotNull();
+  }
+
+  @Test
+  void contextPathBaseUrl_findsRootEntries() throws IOException {
+    server = new InMemoryWebDavServer().start();
+    server.putFile("/a.txt", new byte[1]);
+
+    DirectoryIndex index = newIndex(server.getBaseUrl());
+
+    assertThat(index.find("/", "a.txt")).isNotNull();
+  }
+
+  private DirectoryIndex newIndex(String baseUrl) {
+    PooledSardine client = new PooledSardine("nas", baseUrl, HttpClientBuilder.create().setConnectionManager(connectionManager),
+        connectionManager, "user", "password");
+    return new DirectoryIndex(client, baseUrl, WebDavEndpoint.NAS, retryPolicy, () -> false);
+  }
+}
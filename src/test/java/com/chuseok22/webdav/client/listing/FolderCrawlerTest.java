@@ -0,0 +1,116 @@
+package com.chuseok22.webdav.client.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.dto.response.FolderItemDTO;
+import com.chuseok22.webdav.dto.response.ListingSummaryDTO;
+import com.chuseok22.webdav.fixture.InMemoryWebDavServer;
+import com.chuseok22.webdav.vo.ListingMode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Depth: infinity 폴더 조회의 재시도와 디렉토리별 병렬 조회 전환 (프로세스 내 WebDAV 서버를 클라우드로 사용)
+ */
+@SpringBootTest
+class FolderCrawlerTest {
+
+  private static final int MAX_ATTEMPTS = 2;
+  private static final InMemoryWebDavServer CLOUD = startServer();
+
+  @Autowired
+  private FolderCrawler folderCrawler;
+
+  @DynamicPropertySource
+  static void webDavProperties(DynamicPropertyRegistry registry) throws IOException {
+    Path workDir = Files.createTempDirectory("webdav-crawler");
+    registry.add("webdav.cloud.url", CLOUD::getBaseUrl);
+    registry.add("webdav.cloud.username", () -> "test");
+    registry.add("webdav.cloud.password", () -> "test");
+    registry.add("webdav.nas.url", CLOUD::getBaseUrl);
+    registry.add("webdav.nas.username", () -> "test");
+    registry.add("webdav.nas.password", () -> "test");
+    registry.add("webdav.job.manifest-dir", () -> workDir.resolve("manifest").toString());
+    registry.add("webdav.large-file.spool-dir", () -> workDir.resolve("spool").toString());
+    registry.add("webdav.sync.index-dir", () -> workDir.resolve("sync").toString());
+    registry.add("webdav.retry.max-attempts", () -> MAX_ATTEMPTS);
+    registry.add("webdav.retry.base-delay-millis", () -> 0);
+  }
+
+  @AfterEach
+  void resetServer() {
+    CLOUD.reset();
+  }
+
+  @AfterAll
+  static void stopServer() {
+    CLOUD.close();
+  }
+
+  @Test
+  void depthInfinity_transientFailureIsRetried() {
+    createTree("/retry");
+    CLOUD.failNext("PROPFIND", "/retry", 503, 1);
+
+    CollectingListener listener = new CollectingListener();
+    ListingSummaryDTO summary = folderCrawler.crawl("/retry", listener);
+
+    assertThat(summary.getMode()).isEqualTo(ListingMode.DEPTH_INFINITY);
+    assertThat(listener.paths).containsExactlyInAnyOrder("a.txt", "sub", "sub/b.txt", "sub/deep", "sub/deep/c.txt");
+  }
+
+  @Test
+  void depthInfinity_failingAfterRetries_fallsBackToDepthOneForThisCrawlOnly() {
+    createTree("/fallback");
+    CLOUD.failNext("PROPFIND", "/fallback", 503, MAX_ATTEMPTS);
+
+    CollectingListener listener = new CollectingListener();
+    ListingSummaryDTO summary = folderCrawler.crawl("/fallback", listener);
+
+    assertThat(summary.getMode()).isEqualTo(ListingMode.PARALLEL_DEPTH_ONE);
+    assertThat(summary.getFallbackProbeMillis()).isNotNull();
+    assertThat(listener.paths).containsExactlyInAnyOrder("a.txt", "sub", "sub/b.txt", "sub/deep", "sub/deep/c.txt");
+
+    // 일시적인 실패는 미지원으로 기억하지 않음
+    assertThat(folderCrawler.crawl("/fallback", new CollectingListener()).getMode()).isEqualTo(ListingMode.DEPTH_INFINITY);
+  }
+
+  private static void createTree(String root) {
+    CLOUD.putFile(root + "/a.txt", 10);
+    CLOUD.putFile(root + "/sub/b.txt", 20);
+    CLOUD.putFile(root + "/sub/deep/c.txt", 30);
+  }
+
+  private static InMemoryWebDavServer startServer() {
+    try {
+      return new InMemoryWebDavServer().start();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static class CollectingListener implements FolderCrawler.Listener {
+    private final Set<String> paths = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onDirectory(FolderItemDTO directory) {
+      paths.add(directory.getRelativePath());
+    }
+
+    @Override
+    public void onFile(FolderItemDTO file) {
+      paths.add(file.getRelativePath());
+    }
+  }
+}
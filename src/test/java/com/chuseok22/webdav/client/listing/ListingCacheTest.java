@@ -0,0 +1,168 @@
+package com.chuseok22.webdav.client.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.dto.response.WebDavFileDTO;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 목록 캐시 사용, ETag 재검증과 조회 중 무효화된 목록을 저장하지 않는지 검증
+ */
+class ListingCacheTest {
+
+  private static final String PATH = "/문서";
+  private static final long TTL_MILLIS = 60_000;
+  private static final long MAX_AGE_MILLIS = 600_000;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void get_withinTtl_usesCache() throws Exception {
+    ListingCache cache = cache(TTL_MILLIS);
+    CountingLoader loader = new CountingLoader("\"v1\"");
+
+    assertThat(cache.get(WebDavEndpoint.NAS, PATH, loader)).containsExactly(loader.file);
+    assertThat(cache.get(WebDavEndpoint.NAS, PATH, loader)).containsExactly(loader.file);
+    assertThat(cached(cache, WebDavEndpoint.NAS)).containsExactly(loader.file);
+
+    assertThat(loader.loads).isEqualTo(1);
+    assertThat(count(WebDavEndpoint.NAS, "miss")).isEqualTo(1);
+    assertThat(count(WebDavEndpoint.NAS, "hit")).isEqualTo(2);
+  }
+
+  @Test
+  void get_afterTtl_revalidatesWithEtag() throws Exception {
+    ListingCache cache = cache(0);
+    CountingLoader loader = new CountingLoader("\"v1\"");
+
+    cache.get(WebDavEndpoint.NAS, PATH, loader);
+    cache.get(WebDavEndpoint.NAS, PATH, loader);
+    assertThat(loader.loads).isEqualTo(1);
+    assertThat(loader.etagLoads).isEqualTo(1);
+    assertThat(count(WebDavEndpoint.NAS, "revalidated")).isEqualTo(1);
+
+    loader.etag = "\"v2\"";
+    cache.get(WebDavEndpoint.NAS, PATH, loader);
+    assertThat(loader.loads).isEqualTo(2);
+    assertThat(count(WebDavEndpoint.NAS, "miss")).isEqualTo(2);
+  }
+
+  @Test
+  void get_invalidatedDuringLoad_doesNotStore() throws Exception {
+    ListingCache cache = cache(TTL_MILLIS);
+    CountingLoader loader = new CountingLoader("\"v1\"");
+    // 조회 중에 같은 엔드포인트의 디렉토리에 기록
+    loader.onLoad = () -> cache.invalidate(WebDavEndpoint.NAS, PATH);
+
+    assertThat(cache.get(WebDavEndpoint.NAS, PATH, loader)).containsExactly(loader.file);
+    assertThat(cached(cache, WebDavEndpoint.NAS)).isNull();
+
+    loader.onLoad = () -> { };
+    cache.get(WebDavEndpoint.NAS, PATH, loader);
+    assertThat(loader.loads).isEqualTo(2);
+    assertThat(cached(cache, WebDavEndpoint.NAS)).containsExactly(loader.file);
+  }
+
+  @Test
+  void get_invalidatedDuringRevalidation_doesNotStore() throws Exception {
+    ListingCache cache = cache(0);
+    CountingLoader loader = new CountingLoader("\"v1\"");
+    cache.get(WebDavEndpoint.NAS, PATH, loader);
+    loader.onLoadEtag = () -> cache.invalidate(WebDavEndpoint.NAS, PATH);
+
+    cache.get(WebDavEndpoint.NAS, PATH, loader);
+    loader.onLoadEtag = () -> { };
+    cache.get(WebDavEndpoint.NAS, PATH, loader);
+
+    // 재검증한 목록을 다시 저장하지 않았으므로 전체 목록 재조회
+    assertThat(loader.loads).isEqualTo(2);
+    assertThat(count(WebDavEndpoint.NAS, "miss")).isEqualTo(2);
+  }
+
+  @Test
+  void getIfValid_afterTtl_revalidatesWithoutLoadingListing() throws Exception {
+    ListingCache cache = cache(0);
+    ListingCache.Listing listing = new ListingCache.Listing(List.of(file("a.txt")), "\"v1\"");
+    cache.put(WebDavEndpoint.NAS, PATH, cache.beginLoad(WebDavEndpoint.NAS), listing);
+
+    assertThat(cache.getIfValid(WebDavEndpoint.NAS, PATH, () -> "\"v1\"")).containsExactlyElementsOf(listing.getFiles());
+    assertThat(count(WebDavEndpoint.NAS, "revalidated")).isEqualTo(1);
+    assertThat(cache.getIfValid(WebDavEndpoint.NAS, PATH, () -> "\"v2\"")).isNull();
+    assertThat(count(WebDavEndpoint.NAS, "miss")).isEqualTo(1);
+  }
+
+  @Test
+  void put_invalidatedAfterBeginLoad_doesNotStore() throws Exception {
+    ListingCache cache = cache(TTL_MILLIS);
+    ListingCache.Listing listing = new ListingCache.Listing(List.of(file("a.txt")), "\"v1\"");
+
+    long loadMark = cache.beginLoad(WebDavEndpoint.NAS);
+    cache.invalidate(WebDavEndpoint.NAS, "/다른 폴더");
+    cache.put(WebDavEndpoint.NAS, PATH, loadMark, listing);
+    assertThat(cached(cache, WebDavEndpoint.NAS)).isNull();
+
+    // 다른 엔드포인트의 무효화는 영향 없음
+    loadMark = cache.beginLoad(WebDavEndpoint.NAS);
+    cache.invalidate(WebDavEndpoint.CLOUD, PATH);
+    cache.put(WebDavEndpoint.NAS, PATH, loadMark, listing);
+    assertThat(cached(cache, WebDavEndpoint.NAS)).containsExactlyElementsOf(listing.getFiles());
+    assertThat(cached(cache, WebDavEndpoint.CLOUD)).isNull();
+  }
+
+  /**
+   * ttl 이내 캐시 목록 (ttl 이 지났으면 ETag 를 모르는 것으로 처리하여 null)
+   */
+  private static List<WebDavFileDTO> cached(ListingCache cache, WebDavEndpoint endpoint) throws Exception {
+    return cache.getIfValid(endpoint, PATH, () -> null);
+  }
+
+  private ListingCache cache(long ttlMillis) {
+    return new ListingCache(true, 16, 100, ttlMillis, MAX_AGE_MILLIS, meterRegistry);
+  }
+
+  private double count(WebDavEndpoint endpoint, String result) {
+    return meterRegistry.get("webdav.listing.cache")
+        .tags("endpoint", endpoint.name().toLowerCase(Locale.ROOT), "result", result)
+        .counter()
+        .count();
+  }
+
+  private static WebDavFileDTO file(String name) {
+    return WebDavFileDTO.builder()
+        .fileName(name)
+        .filePath(PATH + "/" + name)
+        .fileSize(10)
+        .build();
+  }
+
+  private static class CountingLoader implements ListingCache.ListingLoader {
+    private final WebDavFileDTO file = file("a.txt");
+    private String etag;
+    private Runnable onLoad = () -> { };
+    private Runnable onLoadEtag = () -> { };
+    private int loads;
+    private int etagLoads;
+
+    private CountingLoader(String etag) {
+      this.etag = etag;
+    }
+
+    @Override
+    public ListingCache.Listing load() {
+      loads++;
+      onLoad.run();
+      return new ListingCache.Listing(List.of(file), etag);
+    }
+
+    @Override
+    public String loadEtag() {
+      etagLoads++;
+      onLoadEtag.run();
+      return etag;
+    }
+  }
+}
@@ -0,0 +1,210 @@
+package com.chuseok22.webdav.client.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.fixture.MultistatusXml;
+import com.chuseok22.webdav.global.util.FileUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * PROPFIND 응답 파싱과 조회 기준 경로에 대한 상대 경로 계산
+ * 기본 URL 이 호스트만 있는 경우 (ex. http://nas:5005) 최상위 폴더 조회에서 하위 항목이 빠지지 않는지 확인
+ * status 가 2xx 가 아닌 propstat, response 는 무시하는지 확인
+ */
+class MultistatusParserTest {
+
+  private static final Instant LAST_MODIFIED = Instant.parse("2024-08-15T09:30:00Z");
+
+  @ParameterizedTest
+  @ValueSource(strings = {"http://nas:5005", "http://nas:5005/"})
+  void hostOnlyBaseUrl_rootListingKeepsChildren(String baseUrl) throws IOException {
+    byte[] response = new MultistatusXml()
+        .response("/", true, 0, LAST_MODIFIED, "root", null)
+        .response("/문서", true, 0, LAST_MODIFIED, "dir", null)
+        .response("/보고서 1.pdf", false, 1024, LAST_MODIFIED, "file", null)
+        .toBytes();
+
+    Map<String, DavEntry> entries = relativeEntries(response, FileUtil.buildNormalizedAndEncodedUrl(baseUrl, "/"));
+
+    assertThat(entries).containsOnlyKeys("", "문서", "보고서 1.pdf");
+    assertThat(entries.get("").getEtag()).isEqualTo("\"root\"");
+    assertThat(entries.get("문서").isDirectory()).isTrue();
+    assertThat(entries.get("보고서 1.pdf").getContentLength()).isEqualTo(1024);
+  }
+
+  @Test
+  void hostOnlyBaseUrl_subdirectoryListing() throws IOException {
+    byte[] response = new MultistatusXml()
+        .response("/문서", true, 0, LAST_MODIFIED, "dir", null)
+        .response("/문서/a b.txt", false, 10, LAST_MODIFIED, "file", null)
+        .toBytes();
+
+    Map<String, DavEntry> entries = relativeEntries(response, FileUtil.buildNormalizedAndEncodedUrl("http://nas:5005", "/문서"));
+
+    assertThat(entries).containsOnlyKeys("", "a b.txt");
+  }
+
+  @Test
+  void contextPathBaseUrl_excludesEntriesOutsideBase() throws IOException {
+    byte[] response = new MultistatusXml()
+        .response("/dav", true, 0, LAST_MODIFIED, "root", null)
+        .response("/dav/사진", true, 0, LAST_MODIFIED, "dir", null)
+        .response("/davx/other", false, 1, LAST_MODIFIED, "other", null)
+        .toBytes();
+
+    Map<String, DavEntry> entries = relativeEntries(response, FileUtil.buildNormalizedAndEncodedUrl("https://cloud.example.com/dav", "/"));
+
+    assertThat(entries).containsOnlyKeys("", "사진");
+  }
+
+  @Test
+  void absoluteHref_usesPathOnly() throws IOException {
+    String xml = """
+        <?xml version="1.0" encoding="utf-8"?>
+        <d:multistatus xmlns:d="DAV:">
+          <d:response>
+            <d:href>http://nas:5005/</d:href>
+            <d:propstat><d:prop><d:resourcetype><d:collection/></d:resourcetype></d:prop><d:status>HTTP/1.1 200 OK</d:status></d:propstat>
+          </d:response>
+          <d:response>
+            <d:href>http://nas:5005/%EB%AC%B8%EC%84%9C/</d:href>
+            <d:propstat><d:prop><d:resourcetype><d:collection/></d:resourcetype></d:prop><d:status>HTTP/1.1 200 OK</d:status></d:propstat>
+          </d:response>
+        </d:multistatus>
+        """;
+
+    Map<String, DavEntry> entries = relativeEntries(xml.getBytes(StandardCharsets.UTF_8), "http://nas:5005");
+
+    assertThat(entries).containsOnlyKeys("", "문서");
+    assertThat(entries.get("문서").getName()).isEqualTo("문서");
+  }
+
+  @Test
+  void failedPropstat_propertiesIgnored() throws IOException {
+    String xml = """
+        <?xml version="1.0" encoding="utf-8"?>
+        <d:multistatus xmlns:d="DAV:" xmlns:oc="http://owncloud.org/ns">
+          <d:response>
+            <d:href>/dav/a.txt</d:href>
+            <d:propstat>
+              <d:prop><d:resourcetype/><d:getcontentlength>10</d:getcontentlength><d:getetag>"ok"</d:getetag></d:prop>
+              <d:status>HTTP/1.1 200 OK</d:status>
+            </d:propstat>
+            <d:propstat>
+              <d:prop><oc:checksums><oc:checksum>SHA1:stale</oc:checksum></oc:checksums><d:getetag>"forbidden"</d:getetag></d:prop>
+              <d:status>HTTP/1.1 403 Forbidden</d:status>
+            </d:propstat>
+            <d:propstat>
+              <d:prop><d:resourcetype><d:collection/></d:resourcetype><d:getcontentlength>99</d:getcontentlength></d:prop>
+              <d:status>HTTP/1.1 404 Not Found</d:status>
+            </d:propstat>
+          </d:response>
+        </d:multistatus>
+        """;
+
+    List<DavEntry> entries = parse(xml);
+
+    assertThat(entries).hasSize(1);
+    DavEntry entry = entries.get(0);
+    assertThat(entry.getContentLength()).isEqualTo(10);
+    assertThat(entry.getEtag()).isEqualTo("\"ok\"");
+    assertThat(entry.getChecksums()).isNull();
+    assertThat(entry.isDirectory()).isFalse();
+  }
+
+  @Test
+  void successfulPropstatAfterFailedOne_isUsed() throws IOException {
+    String xml = """
+        <?xml version="1.0" encoding="utf-8"?>
+        <d:multistatus xmlns:d="DAV:" xmlns:oc="http://owncloud.org/ns">
+          <d:response>
+            <d:href>/dav/b.txt</d:href>
+            <d:propstat>
+              <d:prop><oc:checksums/></d:prop>
+              <d:status>HTTP/1.1 404 Not Found</d:status>
+            </d:propstat>
+            <d:propstat>
+              <d:prop><oc:checksums><oc:checksum>SHA1:abc</oc:checksum></oc:checksums><d:getcontentlength>5</d:getcontentlength></d:prop>
+              <d:status>HTTP/1.1 200 OK</d:status>
+            </d:propstat>
+          </d:response>
+        </d:multistatus>
+        """;
+
+    List<DavEntry> entries = parse(xml);
+
+    assertThat(entries).singleElement().satisfies(entry -> {
+      assertThat(entry.getChecksums()).isEqualTo("SHA1:abc");
+      assertThat(entry.getContentLength()).isEqualTo(5);
+    });
+  }
+
+  @Test
+  void failedResponseStatus_entrySkipped() throws IOException {
+    String xml = """
+        <?xml version="1.0" encoding="utf-8"?>
+        <d:multistatus xmlns:d="DAV:">
+          <d:response>
+            <d:href>/dav/locked</d:href>
+            <d:status>HTTP/1.1 403 Forbidden</d:status>
+          </d:response>
+          <d:response>
+            <d:href>/dav/c.txt</d:href>
+            <d:propstat>
+              <d:prop><d:getcontentlength>1</d:getcontentlength></d:prop>
+              <d:status>HTTP/1.1 200 OK</d:status>
+            </d:propstat>
+          </d:response>
+        </d:multistatus>
+        """;
+
+    assertThat(parse(xml)).extracting(DavEntry::getName).containsExactly("c.txt");
+  }
+
+  @Test
+  void fixtureChecksumsWithNotFoundPropstat() throws IOException {
+    byte[] response = new MultistatusXml()
+        .response("/dav/d.txt", false, 3, LAST_MODIFIED, "d", null)
+        .response("/dav/e.txt", false, 4, LAST_MODIFIED, "e", "MD5:123")
+        .toBytes();
+
+    List<DavEntry> entries = new ArrayList<>();
+    MultistatusParser.parse(new ByteArrayInputStream(response), entries::add);
+
+    assertThat(entries).extracting(DavEntry::getChecksums).containsExactly(null, "MD5:123");
+    assertThat(entries).extracting(DavEntry::getLastModified).containsOnly(LAST_MODIFIED);
+  }
+
+  private static List<DavEntry> parse(String xml) throws IOException {
+    List<DavEntry> entries = new ArrayList<>();
+    MultistatusParser.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), entries::add);
+    return entries;
+  }
+
+  /**
+   * 조회 URL 기준 상대 경로 -> 항목 (기준 경로 밖의 항목은 제외)
+   */
+  private static Map<String, DavEntry> relativeEntries(byte[] response, String requestUrl) throws IOException {
+    String basePath = FileUtil.extractDecodedPath(requestUrl);
+    List<DavEntry> parsed = new ArrayList<>();
+    MultistatusParser.parse(new ByteArrayInputStream(response), parsed::add);
+    Map<String, DavEntry> entries = new LinkedHashMap<>();
+    for (DavEntry entry : parsed) {
+      String relativePath = entry.relativePathFrom(basePath);
+      if (relativePath != null) {
+        entries.put(relativePath, entry);
+      }
+    }
+    return entries;
+  }
+}
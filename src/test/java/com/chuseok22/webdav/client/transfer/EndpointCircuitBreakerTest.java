@@ -0,0 +1,128 @@
+package com.chuseok22.webdav.client.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 회로 차단기 상태 전환 (정상 -> 일시 중지 -> 복구 확인 -> 정상 / 일시 중지) 과 복구 확인 요청 반납, 재할당 확인
+ */
+class EndpointCircuitBreakerTest {
+
+  private static final int THRESHOLD = 3;
+  private static final long OPEN_MILLIS = 100;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(THRESHOLD, OPEN_MILLIS, meterRegistry);
+
+  @Test
+  void closed_passesWithoutProbe() {
+    assertThat(circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> false)).isFalse();
+    assertThat(circuitBreaker.getPausedEndpoints()).isEmpty();
+    assertThat(state(WebDavEndpoint.NAS)).isZero();
+  }
+
+  @Test
+  void opensAfterConsecutiveFailures_onlyForThatEndpoint() {
+    fail(WebDavEndpoint.NAS, THRESHOLD - 1);
+    assertThat(circuitBreaker.getPausedEndpoints()).isEmpty();
+
+    circuitBreaker.recordFailure(WebDavEndpoint.NAS);
+    assertThat(circuitBreaker.getPausedEndpoints()).containsExactly(WebDavEndpoint.NAS);
+    assertThat(state(WebDavEndpoint.NAS)).isEqualTo(2);
+    assertThat(circuitBreaker.awaitPermission(WebDavEndpoint.CLOUD, () -> false)).isFalse();
+  }
+
+  @Test
+  void successResetsConsecutiveFailures() {
+    fail(WebDavEndpoint.NAS, THRESHOLD - 1);
+    circuitBreaker.recordSuccess(WebDavEndpoint.NAS);
+    fail(WebDavEndpoint.NAS, THRESHOLD - 1);
+    assertThat(circuitBreaker.getPausedEndpoints()).isEmpty();
+  }
+
+  @Test
+  void open_cancelledWaiterFails() {
+    fail(WebDavEndpoint.NAS, THRESHOLD);
+    assertThatThrownBy(() -> circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> true))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  void halfOpen_grantsSingleProbe_successCloses() throws Exception {
+    fail(WebDavEndpoint.NAS, THRESHOLD);
+    sleep(OPEN_MILLIS);
+
+    assertThat(circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> false)).isTrue();
+    assertThat(state(WebDavEndpoint.NAS)).isEqualTo(1);
+    // 복구 확인 중에는 다른 요청이 기다림
+    CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> false));
+    sleep(50);
+    assertThat(waiter).isNotDone();
+
+    circuitBreaker.recordSuccess(WebDavEndpoint.NAS);
+    assertThat(waiter.get(5, TimeUnit.SECONDS)).isFalse();
+    assertThat(circuitBreaker.getPausedEndpoints()).isEmpty();
+  }
+
+  @Test
+  void halfOpen_probeFailureReopens() {
+    fail(WebDavEndpoint.NAS, THRESHOLD);
+    sleep(OPEN_MILLIS);
+    assertThat(circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> false)).isTrue();
+
+    circuitBreaker.recordFailure(WebDavEndpoint.NAS);
+    assertThat(state(WebDavEndpoint.NAS)).isEqualTo(2);
+    assertThatThrownBy(() -> circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> true))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  void releasedProbe_isHandedToNextCaller() {
+    fail(WebDavEndpoint.NAS, THRESHOLD);
+    sleep(OPEN_MILLIS);
+    assertThat(circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> false)).isTrue();
+
+    circuitBreaker.releaseProbe(WebDavEndpoint.NAS);
+    assertThat(state(WebDavEndpoint.NAS)).isEqualTo(1);
+    assertThat(circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> false)).isTrue();
+  }
+
+  @Test
+  void lostProbe_isRegrantedAfterOpenDuration() throws Exception {
+    fail(WebDavEndpoint.NAS, THRESHOLD);
+    sleep(OPEN_MILLIS);
+    assertThat(circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> false)).isTrue();
+
+    // 결과를 기록하지 않은 확인 요청이 있어도 open-millis 후 다음 요청이 확인을 맡음
+    boolean probe = CompletableFuture.supplyAsync(() -> circuitBreaker.awaitPermission(WebDavEndpoint.NAS, () -> false))
+        .get(5, TimeUnit.SECONDS);
+    assertThat(probe).isTrue();
+  }
+
+  private void fail(WebDavEndpoint endpoint, int times) {
+    for (int i = 0; i < times; i++) {
+      circuitBreaker.recordFailure(endpoint);
+    }
+  }
+
+  private double state(WebDavEndpoint endpoint) {
+    return meterRegistry.get("webdav.circuit.state").tag("endpoint", endpoint.name().toLowerCase(Locale.ROOT)).gauge().value();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis + 10);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.chuseok22.webdav.client.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chuseok22.webdav.client.listing.DavEntry;
+import com.chuseok22.webdav.fixture.InMemoryWebDavServer;
+import com.chuseok22.webdav.global.util.FileUtil;
+import com.github.sardine.impl.SardineException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 대용량 파일 청크 재시도와 이어받기 (프로세스 내 WebDAV 서버를 클라우드, NAS 로 사용)
+ * 기준 크기를 낮춰 2MB 파일을 256KB 청크 8개로 나누어 전송하고, 클라우드가 받은 Range 요청으로 다시 받은 청크를 확인
+ */
+@SpringBootTest
+class LargeFileTransferTest {
+
+  private static final int CHUNK_SIZE = 256 * 1024;
+  private static final int CHUNK_COUNT = 8;
+  private static final int FILE_SIZE = CHUNK_SIZE * CHUNK_COUNT;
+  private static final InMemoryWebDavServer CLOUD = startServer();
+  private static final InMemoryWebDavServer NAS = startServer();
+
+  @Autowired
+  private LargeFileTransfer largeFileTransfer;
+
+  @DynamicPropertySource
+  static void webDavProperties(DynamicPropertyRegistry registry) throws IOException {
+    Path workDir = Files.createTempDirectory("webdav-large-file");
+    registry.add("webdav.cloud.url", CLOUD::getBaseUrl);
+    registry.add("webdav.cloud.username", () -> "test");
+    registry.add("webdav.cloud.password", () -> "test");
+    registry.add("webdav.nas.url", NAS::getBaseUrl);
+    registry.add("webdav.nas.username", () -> "test");
+    registry.add("webdav.nas.password", () -> "test");
+    registry.add("webdav.job.manifest-dir", () -> workDir.resolve("manifest").toString());
+    registry.add("webdav.large-file.spool-dir", () -> workDir.resolve("spool").toString());
+    registry.add("webdav.sync.index-dir", () -> workDir.resolve("sync").toString());
+    registry.add("webdav.large-file.threshold-bytes", () -> CHUNK_SIZE);
+    registry.add("webdav.large-file.chunk-size-bytes", () -> CHUNK_SIZE);
+    // 청크를 순서대로 요청하도록 세그먼트 하나
+    registry.add("webdav.large-file.segments", () -> 1);
+    registry.add("webdav.retry.max-attempts", () -> 2);
+    registry.add("webdav.retry.base-delay-millis", () -> 0);
+  }
+
+  @AfterEach
+  void resetServers() {
+    CLOUD.reset();
+    NAS.reset();
+  }
+
+  @AfterAll
+  static void stopServers() {
+    CLOUD.close();
+    NAS.close();
+  }
+
+  @Test
+  void truncatedChunk_retriesOnlyThatChunkAndRollsBackProgress() throws IOException {
+    String path = "/truncated/large.bin";
+    CLOUD.putFile(path, FILE_SIZE);
+    NAS.mkdirs("/truncated-target");
+    // 네 번째 청크 응답을 절반에서 끊음
+    CLOUD.truncateGetAfter(path, 3, 1);
+
+    TransferProgress progress = new TransferProgress(1);
+    largeFileTransfer.transfer(cloudUrl(path), nasUrl("/truncated-target/large.bin"), entry(path), progress);
+
+    assertThat(CLOUD.getRangeRequests(path)).containsExactly(
+        range(0), range(1), range(2), range(3), range(3), range(4), range(5), range(6), range(7));
+    // 끊긴 응답에서 받은 절반은 진행률에서 제외
+    assertThat(progress.getTransferredBytes()).isEqualTo(FILE_SIZE);
+    assertThat(NAS.getFile("/truncated-target/large.bin")).isEqualTo(CLOUD.getFile(path));
+  }
+
+  @Test
+  void failedDownload_resumesFromCheckpointWithMissingChunksOnly() {
+    String path = "/resume/large.bin";
+    CLOUD.putFile(path, FILE_SIZE);
+    NAS.mkdirs("/resume-target");
+    DavEntry entry = entry(path);
+    // 여섯 번째 청크를 재시도 대상이 아닌 오류로 실패시켜 전송 중단
+    CLOUD.failAfter("GET", path, 5, 404, 1);
+
+    TransferProgress failedProgress = new TransferProgress(1);
+    assertThatThrownBy(() -> largeFileTransfer.transfer(cloudUrl(path), nasUrl("/resume-target/large.bin"), entry, failedProgress))
+        .isInstanceOf(SardineException.class);
+    assertThat(failedProgress.getTransferredBytes()).isEqualTo(5L * CHUNK_SIZE);
+    assertThat(NAS.getFile("/resume-target/large.bin")).isNull();
+    CLOUD.reset();
+
+    TransferProgress progress = new TransferProgress(1);
+    try {
+      largeFileTransfer.transfer(cloudUrl(path), nasUrl("/resume-target/large.bin"), entry, progress);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    assertThat(CLOUD.getRangeRequests(path)).containsExactly(range(5), range(6), range(7));
+    assertThat(progress.getTransferredBytes()).isEqualTo(FILE_SIZE);
+    assertThat(NAS.getFile("/resume-target/large.bin")).isEqualTo(CLOUD.getFile(path));
+  }
+
+  private static String cloudUrl(String path) {
+    return FileUtil.buildNormalizedAndEncodedUrl(CLOUD.getBaseUrl(), path);
+  }
+
+  private static String nasUrl(String path) {
+    return FileUtil.buildNormalizedAndEncodedUrl(NAS.getBaseUrl(), path);
+  }
+
+  private static DavEntry entry(String path) {
+    return DavEntry.builder()
+        .path(path)
+        .name(path.substring(path.lastIndexOf('/') + 1))
+        .contentLength(FILE_SIZE)
+        .lastModified(Instant.parse("2024-08-15T09:30:00Z"))
+        .etag("\"large\"")
+        .build();
+  }
+
+  private static String range(int chunk) {
+    return "bytes=" + (long) chunk * CHUNK_SIZE + "-" + ((long) (chunk + 1) * CHUNK_SIZE - 1);
+  }
+
+  private static InMemoryWebDavServer startServer() {
+    try {
+      return new InMemoryWebDavServer().start();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
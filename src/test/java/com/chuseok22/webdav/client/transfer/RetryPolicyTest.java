@@ -0,0 +1,205 @@
+package com.chuseok22.webdav.client.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.github.sardine.impl.SardineException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLHandshakeException;
+import org.apache.http.ConnectionClosedException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 재시도 대상 분류, 백오프 범위, 시도 횟수, 엔드포인트 permit 보유 범위, 회로 차단기 연동 (복구 확인 요청 반납) 확인
+ */
+class RetryPolicyTest {
+
+  private static final int MAX_ATTEMPTS = 4;
+  private static final int THRESHOLD = 2;
+  private static final long OPEN_MILLIS = 50;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(THRESHOLD, OPEN_MILLIS, meterRegistry);
+  // 자동 조정 없이 엔드포인트별 동시 요청 1개
+  private final TransferConcurrencyLimiter concurrencyLimiter = new TransferConcurrencyLimiter(1, 1, 1, 20, false, 1, 1, 0.7, 2.0, 0.05,
+      new TransferMetrics(meterRegistry), meterRegistry);
+  // 테스트가 대기하지 않도록 백오프 0
+  private final RetryPolicy retryPolicy = new RetryPolicy(circuitBreaker, concurrencyLimiter, meterRegistry, MAX_ATTEMPTS, 0, 0);
+
+  @ParameterizedTest
+  @ValueSource(ints = {408, 425, 429, 500, 502, 503, 504})
+  void retryableStatuses(int status) {
+    assertThat(RetryPolicy.isRetryable(new SardineException("실패", status, null))).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {400, 401, 403, 404, 405, 409, 412, 501, 507})
+  void fatalStatuses(int status) {
+    assertThat(RetryPolicy.isRetryable(new SardineException("실패", status, null))).isFalse();
+  }
+
+  @Test
+  void transportErrors() {
+    assertThat(RetryPolicy.isRetryable(new ConnectException("연결 거부"))).isTrue();
+    assertThat(RetryPolicy.isRetryable(new ConnectTimeoutException("연결 시간 초과"))).isTrue();
+    assertThat(RetryPolicy.isRetryable(new SocketTimeoutException("읽기 시간 초과"))).isTrue();
+    assertThat(RetryPolicy.isRetryable(new ConnectionClosedException("응답 중단"))).isTrue();
+    assertThat(RetryPolicy.isRetryable(new InterruptedIOException("인터럽트"))).isFalse();
+    assertThat(RetryPolicy.isRetryable(new SSLHandshakeException("인증서 오류"))).isFalse();
+  }
+
+  @Test
+  void backoff_isFullJitterWithinExponentialCap() {
+    RetryPolicy policy = new RetryPolicy(circuitBreaker, concurrencyLimiter, meterRegistry, MAX_ATTEMPTS, 100, 1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(policy.backoffMillis(1)).isBetween(0L, 100L);
+      assertThat(policy.backoffMillis(3)).isBetween(0L, 400L);
+      assertThat(policy.backoffMillis(10)).isBetween(0L, 1000L);
+      assertThat(policy.backoffMillis(100)).isBetween(0L, 1000L);
+    }
+  }
+
+  @Test
+  void retryableFailure_retriedUntilSuccess() throws IOException {
+    AtomicInteger calls = new AtomicInteger();
+    String result = retryPolicy.execute("테스트", () -> false, () -> {
+      if (calls.incrementAndGet() < 3) {
+        throw new SardineException("일시 오류", 503, null);
+      }
+      return "ok";
+    }, WebDavEndpoint.CLOUD);
+
+    assertThat(result).isEqualTo("ok");
+    assertThat(calls).hasValue(3);
+    assertThat(meterRegistry.get("webdav.retries").tag("outcome", "retried").counter().count()).isEqualTo(2);
+    assertThat(circuitBreaker.getPausedEndpoints()).isEmpty();
+  }
+
+  @Test
+  void fatalFailure_notRetried() {
+    AtomicInteger calls = new AtomicInteger();
+    assertThatThrownBy(() -> retryPolicy.execute("테스트", () -> false, () -> {
+      calls.incrementAndGet();
+      throw new SardineException("없음", 404, null);
+    }, WebDavEndpoint.CLOUD))
+        .isInstanceOf(SardineException.class);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void exhausted_throwsLastFailure() {
+    RetryPolicy policy = new RetryPolicy(new EndpointCircuitBreaker(100, OPEN_MILLIS, meterRegistry), concurrencyLimiter, meterRegistry,
+        MAX_ATTEMPTS, 0, 0);
+    AtomicInteger calls = new AtomicInteger();
+    assertThatThrownBy(() -> policy.run("테스트", () -> false, () -> {
+      throw new SocketTimeoutException("시도 " + calls.incrementAndGet());
+    }, WebDavEndpoint.NAS))
+        .isInstanceOf(SocketTimeoutException.class)
+        .hasMessage("시도 " + MAX_ATTEMPTS);
+    assertThat(calls).hasValue(MAX_ATTEMPTS);
+  }
+
+  /**
+   * 엔드포인트 permit 은 시도하는 동안만 보유 (재시도 대기, 실패 후에는 반납)
+   */
+  @Test
+  void endpointPermits_heldOnlyDuringAttempt() throws IOException {
+    AtomicInteger calls = new AtomicInteger();
+    retryPolicy.run("테스트", () -> false, () -> {
+      assertThat(activeRequests(WebDavEndpoint.CLOUD)).isEqualTo(1);
+      assertThat(activeRequests(WebDavEndpoint.NAS)).isEqualTo(1);
+      if (calls.incrementAndGet() == 1) {
+        throw new SocketTimeoutException("읽기 시간 초과");
+      }
+    }, WebDavEndpoint.CLOUD, WebDavEndpoint.NAS);
+    assertThat(calls).hasValue(2);
+    assertThat(activeRequests(WebDavEndpoint.CLOUD)).isZero();
+    assertThat(activeRequests(WebDavEndpoint.NAS)).isZero();
+
+    assertThatThrownBy(() -> retryPolicy.run("테스트", () -> false, () -> {
+      throw new SardineException("없음", 404, null);
+    }, WebDavEndpoint.NAS))
+        .isInstanceOf(SardineException.class);
+    assertThat(activeRequests(WebDavEndpoint.NAS)).isZero();
+  }
+
+  @Test
+  void blamedEndpoint_recordsFailureOnThatEndpoint() {
+    assertThatThrownBy(() -> retryPolicy.run("테스트", () -> false, () -> {
+      throw RetryPolicy.blame(WebDavEndpoint.NAS, new SardineException("과부하", 503, null));
+    }, WebDavEndpoint.CLOUD, WebDavEndpoint.NAS))
+        .isInstanceOf(SardineException.class);
+    assertThat(circuitBreaker.getPausedEndpoints()).containsExactly(WebDavEndpoint.NAS);
+  }
+
+  /**
+   * 두 엔드포인트를 거치는 시도가 NAS 복구 확인을 맡은 뒤 클라우드 오류로 끝나도 NAS 가 복구 확인 중으로 남지 않음
+   */
+  @Test
+  void probeOfUnblamedEndpoint_isReleased() throws Exception {
+    openCircuit(WebDavEndpoint.NAS);
+
+    assertThatThrownBy(() -> retryPolicy.run("테스트", () -> false, () -> {
+      throw new SardineException("없음", 404, null);
+    }, WebDavEndpoint.CLOUD, WebDavEndpoint.NAS))
+        .isInstanceOf(SardineException.class);
+
+    // 반납된 복구 확인을 다음 요청이 맡아 성공하면 재개
+    retryPolicy.run("테스트", () -> true, () -> {
+    }, WebDavEndpoint.NAS);
+    assertThat(circuitBreaker.getPausedEndpoints()).isEmpty();
+  }
+
+  @Test
+  void probeOfUnblamedEndpoint_isReleasedOnRuntimeFailure() throws Exception {
+    openCircuit(WebDavEndpoint.NAS);
+
+    assertThatThrownBy(() -> retryPolicy.run("테스트", () -> false, () -> {
+      throw new IllegalStateException("처리 오류");
+    }, WebDavEndpoint.CLOUD, WebDavEndpoint.NAS))
+        .isInstanceOf(IllegalStateException.class);
+
+    retryPolicy.run("테스트", () -> true, () -> {
+    }, WebDavEndpoint.NAS);
+    assertThat(circuitBreaker.getPausedEndpoints()).isEmpty();
+  }
+
+  @Test
+  void probeFailure_reopensCircuit() {
+    openCircuit(WebDavEndpoint.NAS);
+
+    RetryPolicy singleAttempt = new RetryPolicy(circuitBreaker, concurrencyLimiter, meterRegistry, 1, 0, 0);
+    assertThatThrownBy(() -> singleAttempt.run("테스트", () -> false, () -> {
+      throw RetryPolicy.blame(WebDavEndpoint.NAS, new ConnectException("연결 거부"));
+    }, WebDavEndpoint.CLOUD, WebDavEndpoint.NAS))
+        .isInstanceOf(ConnectException.class);
+    assertThat(circuitBreaker.getPausedEndpoints()).containsExactly(WebDavEndpoint.NAS);
+  }
+
+  private double activeRequests(WebDavEndpoint endpoint) {
+    return meterRegistry.get("webdav.transfer.active").tag("endpoint", endpoint.name().toLowerCase(Locale.ROOT)).gauge().value();
+  }
+
+  private void openCircuit(WebDavEndpoint endpoint) {
+    for (int i = 0; i < THRESHOLD; i++) {
+      circuitBreaker.recordFailure(endpoint);
+    }
+    try {
+      Thread.sleep(OPEN_MILLIS + 10);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
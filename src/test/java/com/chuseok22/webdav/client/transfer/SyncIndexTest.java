@@ -0,0 +1,115 @@
+package com.chuseok22.webdav.client.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.dto.response.FolderItemDTO;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 동기화 인덱스 비교 (ETag, 수정일), 저장 시 삭제된 항목 정리, 디렉토리 ETag 로 하위 트리 건너뛰기 검증
+ */
+class SyncIndexTest {
+
+  private static final Instant MODIFIED = Instant.parse("2024-08-15T09:30:00Z");
+
+  @TempDir
+  Path tempDir;
+
+  private Path path;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    path = tempDir.resolve("folder.index");
+    // 첫 동기화: 전체 전송 후 디렉토리 ETag 기록
+    SyncIndex index = SyncIndex.load(path);
+    assertThat(index.isSubtreeUnchanged(SyncIndex.ROOT, "\"root-1\"", true)).isFalse();
+    assertThat(index.isSubtreeUnchanged("sub", "\"sub-1\"", true)).isFalse();
+    index.recordTransferred(file("a.txt", 10, "\"a\""));
+    index.recordTransferred(file("sub/b.txt", 20, "\"b\""));
+    index.recordTransferred(file("sub/c.txt", 30, null));
+    index.recordTransferred(file("subx.txt", 40, "\"x\""));
+    index.save(true);
+  }
+
+  @Test
+  void isUnchanged_comparesEtagOrLastModified() throws IOException {
+    SyncIndex index = SyncIndex.load(path);
+
+    assertThat(index.isUnchanged(file("a.txt", 10, "W/\"a\""))).isTrue();
+    assertThat(index.isUnchanged(file("a.txt", 10, "\"a2\""))).isFalse();
+    assertThat(index.isUnchanged(file("a.txt", 11, "\"a\""))).isFalse();
+    // ETag 를 모르면 수정일로 비교
+    assertThat(index.isUnchanged(file("sub/c.txt", 30, null))).isTrue();
+    assertThat(index.isUnchanged(file("sub/c.txt", 30, null).toBuilder().lastModified(MODIFIED.plusSeconds(1)).build())).isFalse();
+    assertThat(index.isUnchanged(file("new.txt", 10, "\"n\""))).isFalse();
+  }
+
+  @Test
+  void isSubtreeUnchanged_sameDirectoryEtag_skipsOnlyThatSubtree() throws IOException {
+    SyncIndex index = SyncIndex.load(path);
+
+    assertThat(index.isSubtreeUnchanged(SyncIndex.ROOT, "\"root-2\"", true)).isFalse();
+    assertThat(index.isSubtreeUnchanged("sub", "W/\"sub-1\"", true)).isTrue();
+    // 이름이 sub 로 시작하는 형제 파일 (subx.txt) 은 포함하지 않음
+    assertThat(index.getSkippedSubtreeFileCount()).isEqualTo(2);
+    assertThat(index.getSkippedSubtreeBytes()).isEqualTo(50);
+
+    // 하위 트리 건너뛰기를 사용하지 않으면 ETag 가 같아도 조회
+    assertThat(SyncIndex.load(path).isSubtreeUnchanged("sub", "\"sub-1\"", false)).isFalse();
+    // ETag 를 모르면 항상 조회
+    assertThat(SyncIndex.load(path).isSubtreeUnchanged("sub", null, true)).isFalse();
+  }
+
+  @Test
+  void save_complete_prunesUnseenEntriesAndUpdatesDirectoryEtags() throws IOException {
+    SyncIndex index = SyncIndex.load(path);
+    assertThat(index.isSubtreeUnchanged(SyncIndex.ROOT, "\"root-2\"", true)).isFalse();
+    assertThat(index.isUnchanged(file("a.txt", 10, "\"a\""))).isTrue();
+    assertThat(index.isUnchanged(file("subx.txt", 40, "\"x\""))).isTrue();
+    // sub 폴더는 클라우드에서 삭제됨
+    index.save(true);
+
+    assertThat(Files.readAllLines(path, StandardCharsets.UTF_8)).hasSize(3);
+    SyncIndex reloaded = SyncIndex.load(path);
+    assertThat(reloaded.isUnchanged(file("sub/b.txt", 20, "\"b\""))).isFalse();
+    assertThat(reloaded.isSubtreeUnchanged(SyncIndex.ROOT, "\"root-2\"", true)).isTrue();
+    assertThat(reloaded.getSkippedSubtreeFileCount()).isEqualTo(2);
+  }
+
+  @Test
+  void save_incomplete_keepsUnseenEntriesAndPreviousDirectoryEtags() throws IOException {
+    SyncIndex index = SyncIndex.load(path);
+    assertThat(index.isSubtreeUnchanged(SyncIndex.ROOT, "\"root-2\"", true)).isFalse();
+    assertThat(index.isUnchanged(file("a.txt", 10, "\"a\""))).isTrue();
+    FolderItemDTO failed = file("subx.txt", 41, "\"x2\"");
+    assertThat(index.isUnchanged(failed)).isFalse();
+    index.recordFailed(failed);
+    index.save(false);
+
+    SyncIndex reloaded = SyncIndex.load(path);
+    // 확인하지 못한 항목은 유지, 실패한 파일은 다음 동기화에서 다시 전송
+    assertThat(reloaded.isUnchanged(file("sub/b.txt", 20, "\"b\""))).isTrue();
+    assertThat(reloaded.isUnchanged(file("subx.txt", 40, "\"x\""))).isFalse();
+    // 루트 ETag 는 이전 값을 유지하여 하위 트리를 다시 확인
+    assertThat(reloaded.isSubtreeUnchanged(SyncIndex.ROOT, "\"root-2\"", true)).isFalse();
+    assertThat(SyncIndex.load(path).isSubtreeUnchanged(SyncIndex.ROOT, "\"root-1\"", true)).isTrue();
+  }
+
+  private static FolderItemDTO file(String relativePath, long size, String etag) {
+    return FolderItemDTO.builder()
+        .fileName(relativePath.substring(relativePath.lastIndexOf('/') + 1))
+        .relativePath(relativePath)
+        .fullPath("/원본/" + relativePath)
+        .fileSize(size)
+        .etag(etag)
+        .lastModified(MODIFIED)
+        .build();
+  }
+}
@@ -0,0 +1,31 @@
+package com.chuseok22.webdav.client.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.global.metrics.TransferMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 엔드포인트별 동시 요청 수 최대값이 커넥션 풀 크기를 넘지 않는지 확인
+ */
+class TransferConcurrencyLimiterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  // 게이지는 약한 참조이므로 테스트 동안 보관
+  private TransferConcurrencyLimiter concurrencyLimiter;
+
+  @Test
+  void endpointLimit_boundedByPoolMaxPerRoute() {
+    // 자동 조정 비활성화: 제한 = 설정한 최대값
+    concurrencyLimiter = new TransferConcurrencyLimiter(16, 64, 8, 20, false, 4, 1, 0.7, 2.0, 0.05, new TransferMetrics(meterRegistry),
+        meterRegistry);
+
+    assertThat(limit("cloud")).isEqualTo(20);
+    assertThat(limit("nas")).isEqualTo(8);
+  }
+
+  private double limit(String endpoint) {
+    return meterRegistry.get("webdav.concurrency.limit").tag("endpoint", endpoint).gauge().value();
+  }
+}
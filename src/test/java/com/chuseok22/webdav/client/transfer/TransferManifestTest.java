@@ -0,0 +1,129 @@
+package com.chuseok22.webdav.client.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.dto.response.FolderItemDTO;
+import com.chuseok22.webdav.vo.TransferResult;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 매니페스트 복구 (잘린 마지막 줄 제거, 완료 파일만 남기는 압축, 완료 경로 건너뛰기, 남은 파일 이어서 전송) 검증
+ */
+class TransferManifestTest {
+
+  private static final String FOLDER = "/원본";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void recover_truncatesIncompleteLastLine() throws IOException {
+    Path path = tempDir.resolve("job.manifest");
+    try (TransferManifest manifest = TransferManifest.create(path, header())) {
+      manifest.recordFile(file("a.txt", 10));
+      manifest.recordFile(file("b.txt", 20));
+      manifest.recordResult(0, TransferResult.SUCCESS, 10);
+    }
+    // 비정상 종료로 기록 중이던 줄이 잘림
+    Files.writeString(path, "S\t1\t2", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+    try (TransferManifest manifest = TransferManifest.recover(path)) {
+      assertThat(manifest.getRecoveredCompletedCount()).isEqualTo(1);
+      assertThat(manifest.getRecoveredCompletedBytes()).isEqualTo(10);
+      assertThat(manifest.recordFile(file("b.txt", 20))).isEqualTo(1);
+    }
+    assertThat(Files.readAllLines(path, StandardCharsets.UTF_8)).allMatch(line -> line.split("\t", -1).length > 1);
+
+    // 이어서 기록한 줄이 잘린 줄과 섞이지 않았으면 다시 복구 가능
+    try (TransferManifest manifest = TransferManifest.recover(path)) {
+      assertThat(manifest.getRecoveredFileCount()).isEqualTo(1);
+      assertThat(manifest.getRecoveredCompletedCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void recover_enumerationIncomplete_keepsOnlyCompletedFilesAndSkipsThem() throws IOException {
+    Path path = tempDir.resolve("job.manifest");
+    try (TransferManifest manifest = TransferManifest.create(path, header())) {
+      manifest.recordFile(file("a.txt", 10));
+      manifest.recordFile(file("sub/b.txt", 20));
+      manifest.recordFile(file("sub/c.txt", 30));
+      manifest.recordResult(1, TransferResult.SUCCESS, 20);
+      manifest.recordResult(2, TransferResult.FAIL, 30);
+    }
+
+    try (TransferManifest manifest = TransferManifest.recover(path)) {
+      assertThat(manifest.isEnumerationComplete()).isFalse();
+      assertThat(manifest.getRecoveredFileCount()).isEqualTo(1);
+      assertThat(manifest.getRecoveredTotalBytes()).isEqualTo(20);
+      assertThat(manifest.getRecoveredCompletedCount()).isEqualTo(1);
+      assertThat(manifest.getHeader().getSourcePath()).isEqualTo(FOLDER);
+
+      // 폴더 재조회: 완료된 파일은 건너뛰고 나머지는 압축 후 번호부터 다시 매김
+      assertThat(manifest.recordFile(file("sub/b.txt", 20))).isEqualTo(-1);
+      assertThat(manifest.recordFile(file("a.txt", 10))).isEqualTo(1);
+      assertThat(manifest.recordFile(file("sub/c.txt", 30))).isEqualTo(2);
+    }
+    assertThat(Files.exists(path.resolveSibling(path.getFileName() + ".compact"))).isFalse();
+  }
+
+  @Test
+  void recover_enumerationComplete_resumesPendingFiles() throws IOException {
+    Path path = tempDir.resolve("job.manifest");
+    try (TransferManifest manifest = TransferManifest.create(path, header())) {
+      manifest.recordFile(file("a.txt", 10));
+      manifest.recordFile(file("보고서 1.pdf", 20));
+      manifest.recordFile(file("sub/c.txt", 30));
+      manifest.recordEnumerationComplete();
+      manifest.recordResult(0, TransferResult.DUPLICATE, 10);
+      manifest.recordResult(2, TransferResult.FAIL, 30);
+    }
+
+    List<String> pending = new ArrayList<>();
+    try (TransferManifest manifest = TransferManifest.recover(path)) {
+      assertThat(manifest.isEnumerationComplete()).isTrue();
+      assertThat(manifest.getRecoveredFileCount()).isEqualTo(3);
+      assertThat(manifest.getRecoveredTotalBytes()).isEqualTo(60);
+      assertThat(manifest.getRecoveredCompletedCount()).isEqualTo(1);
+      assertThat(manifest.getRecoveredCompletedBytes()).isEqualTo(10);
+
+      manifest.forEachPendingFile(FOLDER, (file, index) -> pending.add(index + ":" + file.getFullPath() + ":" + file.getEtag()));
+      manifest.recordResult(1, TransferResult.SUCCESS, 20);
+    }
+    assertThat(pending).containsExactly("1:/원본/보고서 1.pdf:\"etag\"", "2:/원본/sub/c.txt:\"etag\"");
+
+    try (TransferManifest manifest = TransferManifest.recover(path)) {
+      assertThat(manifest.getRecoveredCompletedCount()).isEqualTo(2);
+      List<String> remaining = new ArrayList<>();
+      manifest.forEachPendingFile(FOLDER, (file, index) -> remaining.add(file.getRelativePath()));
+      assertThat(remaining).containsExactly("sub/c.txt");
+    }
+  }
+
+  private static TransferManifest.Header header() {
+    return TransferManifest.Header.builder()
+        .jobId("job")
+        .sourcePath(FOLDER)
+        .targetPath("/대상")
+        .overwrite(false)
+        .build();
+  }
+
+  private static FolderItemDTO file(String relativePath, long size) {
+    return FolderItemDTO.builder()
+        .fileName(relativePath.substring(relativePath.lastIndexOf('/') + 1))
+        .relativePath(relativePath)
+        .fullPath(FOLDER + "/" + relativePath)
+        .fileSize(size)
+        .etag("\"etag\"")
+        .build();
+  }
+}
@@ -0,0 +1,64 @@
+package com.chuseok22.webdav.client.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.dto.response.FileTraceDTO;
+import com.chuseok22.webdav.vo.TransferResult;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 최근 기록 링 버퍼 (가득 차면 가장 오래된 기록부터 덮어씀) 와 가장 느린 기록 조회 검증
+ */
+class TransferTraceRecorderTest {
+
+  @Test
+  void getRecent_full_overwritesOldestAndReturnsNewestFirst() {
+    TransferTraceRecorder recorder = new TransferTraceRecorder(true, 3);
+    for (int i = 1; i <= 5; i++) {
+      recorder.record(trace("/file-" + i, i * 10));
+    }
+
+    assertThat(recorder.getRecent(10)).extracting(FileTraceDTO::getFile).containsExactly("/file-5", "/file-4", "/file-3");
+    assertThat(recorder.getRecent(2)).extracting(FileTraceDTO::getFile).containsExactly("/file-5", "/file-4");
+    assertThat(recorder.getRecent(-1)).isEmpty();
+  }
+
+  @Test
+  void getSlowest_sortsByTotalMillis() {
+    TransferTraceRecorder recorder = new TransferTraceRecorder(true, 10);
+    recorder.record(trace("/fast", 5));
+    recorder.record(trace("/slow", 500));
+    recorder.record(trace("/medium", 50));
+
+    assertThat(recorder.getSlowest(2)).extracting(FileTraceDTO::getFile).containsExactly("/slow", "/medium");
+  }
+
+  @Test
+  void record_disabled_keepsNothing() {
+    TransferTraceRecorder recorder = new TransferTraceRecorder(false, 10);
+    recorder.record(trace("/file", 10));
+
+    assertThat(recorder.getRecent(10)).isEmpty();
+  }
+
+  @Test
+  void progressRecordTrace_keepsOnlySlowestFiles() {
+    TransferProgress progress = new TransferProgress(20);
+    for (int i = 1; i <= 20; i++) {
+      progress.recordTrace(trace("/file-" + i, i));
+    }
+
+    // 작업별로는 가장 느린 10개만 유지
+    assertThat(progress.getSlowestFiles()).extracting(FileTraceDTO::getTotalMillis)
+        .containsExactly(20L, 19L, 18L, 17L, 16L, 15L, 14L, 13L, 12L, 11L);
+  }
+
+  private static FileTraceDTO trace(String file, long totalMillis) {
+    return FileTraceDTO.builder()
+        .file(file)
+        .targetDir("/대상")
+        .result(TransferResult.SUCCESS)
+        .totalMillis(totalMillis)
+        .build();
+  }
+}
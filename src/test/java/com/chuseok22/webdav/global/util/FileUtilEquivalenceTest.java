@@ -0,0 +1,115 @@
+package com.chuseok22.webdav.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * 단일 순회 경로 정규화, 인코딩이 이전 구현 (LegacyFileUtil) 과 같은 결과를 내는지 무작위 입력으로 검증
+ * 시드를 고정하여 실패 시 같은 입력으로 재현 가능
+ */
+class FileUtilEquivalenceTest {
+
+  private static final int ITERATIONS = 20_000;
+  private static final String[] BASE_URLS = {
+      "https://cloud.example.com/remote.php/dav/files/user",
+      "https://cloud.example.com/remote.php/dav/files/user/",
+      "http://nas.local:5005",
+      "http://nas.local:5005/",
+      ""
+  };
+  // 경계 조건 위주의 문자 집합 (구분자, 공백, %, 16진수, 예약 문자, 한글, 서로게이트 쌍과 짝 없는 서로게이트)
+  private static final String[] ALPHABET = {
+      "/", "/", "\\", " ", "\t", "%", "%2", "%20", "%2F", "%zz", "%e9", "a", "Z", "0", "9", "F", "f",
+      "-", "_", ".", "*", "+", "~", "!", "?", "#", "&", "=", "'", "(", ")", ":", "@", "한", "글", "é", "€",
+      "📁", "\uD83D", "\uDCC1", "\u0000", "\u007F"
+  };
+
+  @ParameterizedTest
+  @MethodSource("seeds")
+  void buildNormalizedAndEncodedUrl_matchesLegacy(long seed) {
+    Random random = new Random(seed);
+    for (int i = 0; i < ITERATIONS; i++) {
+      String baseUrl = BASE_URLS[random.nextInt(BASE_URLS.length)];
+      String rawPath = randomPath(random);
+      assertThat(FileUtil.buildNormalizedAndEncodedUrl(baseUrl, rawPath))
+          .as("baseUrl=%s rawPath=%s", baseUrl, rawPath)
+          .isEqualTo(LegacyFileUtil.buildNormalizedAndEncodedUrl(baseUrl, rawPath));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("seeds")
+  void normalizePath_matchesLegacy(long seed) {
+    Random random = new Random(seed);
+    for (int i = 0; i < ITERATIONS; i++) {
+      String rawPath = randomPath(random);
+      assertThat(FileUtil.normalizePath(rawPath))
+          .as("rawPath=%s", rawPath)
+          .isEqualTo(LegacyFileUtil.normalizePath(rawPath));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("seeds")
+  void encodePathSegments_matchesLegacy(long seed) {
+    Random random = new Random(seed);
+    for (int i = 0; i < ITERATIONS; i++) {
+      String path = randomPath(random);
+      assertThat(FileUtil.encodePathSegments(path))
+          .as("path=%s", path)
+          .isEqualTo(LegacyFileUtil.encodePathSegments(path));
+    }
+  }
+
+  /**
+   * 같은 폴더의 파일을 연속으로 인코딩할 때 상위 경로 캐시가 다른 폴더, 다른 기본 URL 결과와 섞이지 않는지 확인
+   */
+  @Test
+  void buildNormalizedAndEncodedUrl_prefixCacheDoesNotLeakBetweenKeys() {
+    Random random = new Random(42);
+    String[] folders = new String[200];
+    for (int i = 0; i < folders.length; i++) {
+      folders[i] = randomPath(random);
+    }
+    for (int i = 0; i < ITERATIONS; i++) {
+      String baseUrl = BASE_URLS[random.nextInt(BASE_URLS.length)];
+      String rawPath = folders[random.nextInt(folders.length)] + "/" + randomPath(random);
+      assertThat(FileUtil.buildNormalizedAndEncodedUrl(baseUrl, rawPath))
+          .as("baseUrl=%s rawPath=%s", baseUrl, rawPath)
+          .isEqualTo(LegacyFileUtil.buildNormalizedAndEncodedUrl(baseUrl, rawPath));
+    }
+  }
+
+  @Test
+  void edgeCases_matchLegacy() {
+    String[] paths = {null, "", " ", "/", "//", "\\", " / ", "a", "/a/", "a b", "%", "%4", "%41", "a%2Fb", "/문서/보고서 1.pdf"};
+    for (String baseUrl : new String[]{null, "", "/", "https://host/dav", "https://host/dav/"}) {
+      for (String path : paths) {
+        assertThat(FileUtil.buildNormalizedAndEncodedUrl(baseUrl, path))
+            .as("baseUrl=%s rawPath=%s", baseUrl, path)
+            .isEqualTo(LegacyFileUtil.buildNormalizedAndEncodedUrl(baseUrl, path));
+        assertThat(FileUtil.normalizePath(path)).isEqualTo(LegacyFileUtil.normalizePath(path));
+        assertThat(FileUtil.encodePathSegments(path)).isEqualTo(LegacyFileUtil.encodePathSegments(path));
+      }
+    }
+  }
+
+  private static Stream<Arguments> seeds() {
+    return Stream.of(1L, 7L, 2024L, 0xC0FFEEL).map(Arguments::of);
+  }
+
+  private static String randomPath(Random random) {
+    int tokens = random.nextInt(12);
+    StringBuilder path = new StringBuilder();
+    for (int i = 0; i < tokens; i++) {
+      path.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+    }
+    return path.toString();
+  }
+}
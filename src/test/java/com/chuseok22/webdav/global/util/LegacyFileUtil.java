@@ -0,0 +1,104 @@
+package com.chuseok22.webdav.global.util;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 단일 순회 구현 이전의 FileUtil 경로 정규화, 인코딩 (정규식, URLEncoder 사용)
+ * 새 구현과 결과가 같은지 비교하는 기준 (동등성 테스트, 벤치마크)
+ */
+public final class LegacyFileUtil {
+
+  private static final Pattern PERCENT_ENCODED = Pattern.compile("(%[0-9A-Fa-f]{2})");
+
+  private LegacyFileUtil() {
+  }
+
+  public static String buildNormalizedAndEncodedUrl(String baseUrl, String rawPath) {
+    String normalizedPath = normalizePath(rawPath);
+    String encodedPath = encodePathSegments(normalizedPath);
+    return combineBaseAndPath(baseUrl, encodedPath);
+  }
+
+  public static String normalizePath(String rawPath) {
+    if (rawPath == null) {
+      return "";
+    }
+    String p = rawPath.trim().replace('\\', '/');
+    p = p.replaceAll("/+", "/");
+    if ("/".equals(p)) {
+      return "";
+    }
+    if (!p.startsWith("/")) {
+      p = "/" + p;
+    }
+    if (p.endsWith("/") && p.length() > 1) {
+      p = p.substring(0, p.length() - 1);
+    }
+    return p;
+  }
+
+  public static String combineBaseAndPath(String baseUrl, String path) {
+    String base = removeTrailingSlash(baseUrl);
+    if (path == null || path.isEmpty()) {
+      return base;
+    }
+    if (!path.startsWith("/")) {
+      return base + "/" + path;
+    }
+    return base + path;
+  }
+
+  public static String encodePathSegments(String path) {
+    if (path == null || path.isEmpty()) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder();
+    String[] segments = path.split("/");
+    for (String segment : segments) {
+      if (segment.isEmpty()) {
+        continue;
+      }
+      sb.append("/");
+      sb.append(encodeSegmentPreservingPercents(segment));
+    }
+    return sb.toString();
+  }
+
+  private static String encodeString(String input) {
+    if (input == null || input.isEmpty()) {
+      return "";
+    }
+    return URLEncoder
+        .encode(input, StandardCharsets.UTF_8)
+        .replace("+", "%20");
+  }
+
+  private static String encodeSegmentPreservingPercents(String segment) {
+    Matcher m = PERCENT_ENCODED.matcher(segment);
+    int last = 0;
+    StringBuilder out = new StringBuilder();
+    while (m.find()) {
+      String literal = segment.substring(last, m.start());
+      if (!literal.isEmpty()) {
+        out.append(encodeString(literal));
+      }
+      out.append(m.group(1));
+      last = m.end();
+    }
+    String tail = segment.substring(last);
+    if (!tail.isEmpty()) {
+      out.append(encodeString(tail));
+    }
+    return out.toString();
+  }
+
+  private static String removeTrailingSlash(String url) {
+    if (url == null || url.isEmpty()) {
+      return url;
+    }
+    return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+  }
+}
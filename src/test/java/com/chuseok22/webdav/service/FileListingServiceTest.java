@@ -0,0 +1,134 @@
+package com.chuseok22.webdav.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.dto.request.FileListQueryDTO;
+import com.chuseok22.webdav.dto.response.FilePageDTO;
+import com.chuseok22.webdav.dto.response.WebDavFileDTO;
+import com.chuseok22.webdav.fixture.InMemoryWebDavServer;
+import com.chuseok22.webdav.vo.WebDavEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 커서 페이지 조회와 NDJSON 스트리밍 (프로세스 내 WebDAV 서버를 클라우드로 사용)
+ */
+@SpringBootTest
+class FileListingServiceTest {
+
+  private static final InMemoryWebDavServer CLOUD = startServer();
+
+  @Autowired
+  private FileListingService fileListingService;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @DynamicPropertySource
+  static void webDavProperties(DynamicPropertyRegistry registry) throws IOException {
+    Path workDir = Files.createTempDirectory("webdav-listing");
+    registry.add("webdav.cloud.url", CLOUD::getBaseUrl);
+    registry.add("webdav.cloud.username", () -> "test");
+    registry.add("webdav.cloud.password", () -> "test");
+    registry.add("webdav.nas.url", CLOUD::getBaseUrl);
+    registry.add("webdav.nas.username", () -> "test");
+    registry.add("webdav.nas.password", () -> "test");
+    registry.add("webdav.job.manifest-dir", () -> workDir.resolve("manifest").toString());
+    registry.add("webdav.large-file.spool-dir", () -> workDir.resolve("spool").toString());
+    registry.add("webdav.sync.index-dir", () -> workDir.resolve("sync").toString());
+  }
+
+  @AfterEach
+  void resetServer() {
+    CLOUD.reset();
+  }
+
+  @AfterAll
+  static void stopServer() {
+    CLOUD.close();
+  }
+
+  @Test
+  void listPage_followsCursorAndServesLaterPagesFromListingCache() {
+    createFiles("/paged");
+    FileListQueryDTO query = query("/paged");
+    query.setLimit(2);
+
+    List<String> names = new ArrayList<>();
+    FilePageDTO page = fileListingService.listPage(WebDavEndpoint.CLOUD, query);
+    long requestsAfterFirstPage = CLOUD.getRequestCount();
+    int pages = 1;
+    names.addAll(fileNames(page.getFiles()));
+    while (page.getNextCursor() != null) {
+      query.setCursor(page.getNextCursor());
+      page = fileListingService.listPage(WebDavEndpoint.CLOUD, query);
+      names.addAll(fileNames(page.getFiles()));
+      pages++;
+    }
+
+    assertThat(pages).isEqualTo(3);
+    assertThat(page.getMatchedCount()).isEqualTo(6);
+    assertThat(names).containsExactly("file-1.bin", "file-2.bin", "file-3.bin", "file-4.bin", "file-5.bin", "sub");
+    // 다음 페이지는 목록 캐시에서 읽으므로 서버에 다시 요청하지 않음
+    assertThat(CLOUD.getRequestCount()).isEqualTo(requestsAfterFirstPage);
+  }
+
+  @Test
+  void stream_writesMatchingFilesAsNdjsonWithSizeFilterInKb() throws IOException {
+    createFiles("/streamed");
+    FileListQueryDTO query = query("/streamed");
+    query.setDirectory(false);
+    query.setMinSize(2L);
+    query.setMaxSize(4L);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    fileListingService.stream(WebDavEndpoint.CLOUD, query).writeTo(out);
+
+    List<String> names = new ArrayList<>();
+    for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+      names.add(objectMapper.readTree(line).get("fileName").asText());
+    }
+    assertThat(names).containsExactlyInAnyOrder("file-2.bin", "file-3.bin", "file-4.bin");
+  }
+
+  /**
+   * 1 ~ 5 KB 파일 5개와 하위 폴더 1개
+   */
+  private static void createFiles(String root) {
+    for (int i = 1; i <= 5; i++) {
+      CLOUD.putFile(root + "/file-" + i + ".bin", i * 1024);
+    }
+    CLOUD.mkdirs(root + "/sub");
+  }
+
+  private static FileListQueryDTO query(String path) {
+    FileListQueryDTO query = new FileListQueryDTO();
+    query.setPath(path);
+    return query;
+  }
+
+  private static List<String> fileNames(List<WebDavFileDTO> files) {
+    return files.stream().map(WebDavFileDTO::getFileName).toList();
+  }
+
+  private static InMemoryWebDavServer startServer() {
+    try {
+      return new InMemoryWebDavServer().start();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.chuseok22.webdav.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.chuseok22.webdav.dto.request.FolderTransferDTO;
+import com.chuseok22.webdav.dto.response.TransferJobDTO;
+import com.chuseok22.webdav.fixture.InMemoryWebDavServer;
+import com.chuseok22.webdav.vo.TransferJobStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * 비동기 폴더 전송 작업의 매니페스트 정리와 진행 이벤트 구독 (프로세스 내 WebDAV 서버를 클라우드, NAS 로 사용)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransferJobServiceTest {
+
+  private static final long TIMEOUT_MILLIS = 10_000;
+  private static final InMemoryWebDavServer CLOUD = startServer();
+  private static final InMemoryWebDavServer NAS = startServer();
+  private static final Path WORK_DIR = createWorkDir();
+
+  @Autowired
+  private TransferJobService transferJobService;
+  @Autowired
+  private ObjectMapper objectMapper;
+  @Autowired
+  private MockMvc mockMvc;
+
+  @DynamicPropertySource
+  static void webDavProperties(DynamicPropertyRegistry registry) {
+    registry.add("webdav.cloud.url", CLOUD::getBaseUrl);
+    registry.add("webdav.cloud.username", () -> "test");
+    registry.add("webdav.cloud.password", () -> "test");
+    registry.add("webdav.nas.url", NAS::getBaseUrl);
+    registry.add("webdav.nas.username", () -> "test");
+    registry.add("webdav.nas.password", () -> "test");
+    registry.add("webdav.job.manifest-dir", () -> WORK_DIR.resolve("manifest").toString());
+    registry.add("webdav.large-file.spool-dir", () -> WORK_DIR.resolve("spool").toString());
+    registry.add("webdav.sync.index-dir", () -> WORK_DIR.resolve("sync").toString());
+    registry.add("webdav.retry.base-delay-millis", () -> 0);
+  }
+
+  @AfterEach
+  void resetServers() {
+    CLOUD.reset();
+    NAS.reset();
+  }
+
+  @AfterAll
+  static void stopServers() {
+    CLOUD.close();
+    NAS.close();
+  }
+
+  @Test
+  void folderJob_completed_deletesManifest() throws Exception {
+    CLOUD.putFile("/done/a.txt", 10);
+    CLOUD.putFile("/done/sub/b.txt", 20);
+    NAS.mkdirs("/done-target");
+
+    TransferJobDTO job = awaitFinished(transferJobService.submitFolderJob(folderRequest("/done", "/done-target")));
+
+    assertThat(job.getStatus()).isEqualTo(TransferJobStatus.COMPLETED);
+    assertThat(NAS.countFiles("/done-target")).isEqualTo(2);
+    assertThat(manifestPath(job)).doesNotExist();
+  }
+
+  @Test
+  void folderJob_failed_deletesManifestSoItIsNotResumedOnRestart() throws Exception {
+    NAS.mkdirs("/missing-target");
+
+    TransferJobDTO job = awaitFinished(transferJobService.submitFolderJob(folderRequest("/missing", "/missing-target")));
+
+    assertThat(job.getStatus()).isEqualTo(TransferJobStatus.FAILED);
+    assertThat(manifestPath(job)).doesNotExist();
+  }
+
+  @Test
+  void subscribe_finishedJob_sendsCompleteEvent() throws Exception {
+    CLOUD.putFile("/events/a.txt", 10);
+    NAS.mkdirs("/events-target");
+    TransferJobDTO job = awaitFinished(transferJobService.submitFolderJob(folderRequest("/events", "/events-target")));
+
+    MvcResult result = mockMvc.perform(get("/api/webdav/jobs/{jobId}/events", job.getJobId()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // 이미 종료된 작업은 구독 즉시 최종 상태를 전송하고 연결 종료
+    assertThat(result.getResponse().getContentAsString())
+        .contains("event:complete")
+        .contains(job.getJobId())
+        .doesNotContain("event:progress");
+  }
+
+  private FolderTransferDTO folderRequest(String folderPath, String serverPath) {
+    return objectMapper.convertValue(Map.of("folderPath", folderPath, "serverPath", serverPath), FolderTransferDTO.class);
+  }
+
+  private TransferJobDTO awaitFinished(TransferJobDTO submitted) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    TransferJobDTO job = submitted;
+    while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+      job = transferJobService.getJob(submitted.getJobId());
+    }
+    assertThat(job.getStatus().isFinished()).as("작업 종료 대기: %s", job.getJobId()).isTrue();
+    return job;
+  }
+
+  private static Path manifestPath(TransferJobDTO job) {
+    return WORK_DIR.resolve("manifest").resolve(job.getJobId() + ".manifest");
+  }
+
+  private static Path createWorkDir() {
+    try {
+      return Files.createTempDirectory("webdav-job");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static InMemoryWebDavServer startServer() {
+    try {
+      return new InMemoryWebDavServer().start();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.chuseok22.webdav.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chuseok22.webdav.global.exception.CustomException;
+import com.chuseok22.webdav.global.exception.ErrorCode;
+import com.chuseok22.webdav.vo.TransferJobType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 최대 보관 개수 초과 시 종료 작업 제거와 진행 중인 작업만 남은 경우의 등록 거부 검증
+ */
+class TransferJobRegistryTest {
+
+  private static final int MAX_RETAINED = 2;
+
+  private final TransferJobRegistry registry = new TransferJobRegistry();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(registry, "maxRetained", MAX_RETAINED);
+  }
+
+  @Test
+  void register_full_evictsFinishedJobButKeepsRunningJob() {
+    TransferJob running = job("running");
+    running.markRunning();
+    TransferJob finished = job("finished");
+    finished.markFailed("실패");
+    registry.register(running);
+    registry.register(finished);
+
+    registry.register(job("new"));
+
+    assertThat(registry.getAll()).extracting(TransferJob::getJobId).containsExactlyInAnyOrder("running", "new");
+  }
+
+  @Test
+  void register_fullOfUnfinishedJobs_rejectsNewJob() {
+    registry.register(job("first"));
+    registry.register(job("second"));
+
+    assertThatThrownBy(() -> registry.register(job("third")))
+        .isInstanceOfSatisfying(CustomException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_TRANSFER_JOBS));
+    assertThat(registry.getAll()).hasSize(MAX_RETAINED);
+
+    // 작업이 종료되면 다시 등록 가능
+    registry.get("first").markFailed("실패");
+    registry.register(job("third"));
+    assertThat(registry.getAll()).extracting(TransferJob::getJobId).containsExactlyInAnyOrder("second", "third");
+  }
+
+  private static TransferJob job(String jobId) {
+    return new TransferJob(jobId, TransferJobType.MULTIPLE, "/원본/", "/대상", false, 1);
+  }
+}
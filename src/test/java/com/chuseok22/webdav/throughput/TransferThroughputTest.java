@@ -0,0 +1,207 @@
+package com.chuseok22.webdav.throughput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.webdav.client.WebDavClient;
+import com.chuseok22.webdav.dto.response.TransferResultDTO;
+import com.chuseok22.webdav.fixture.InMemoryWebDavServer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 단일, 다중, 폴더 전송 처리량 측정 (프로세스 내 WebDAV 서버 두 개를 클라우드, NAS 로 사용)
+ * 실제 서버 없이 실행 가능: ./gradlew throughputTest
+ * 시나리오마다 files/s, MB/s 를 로그로 출력하고, 전송된 파일 내용이 원본과 같은지 확인
+ */
+@Slf4j
+@Tag("throughput")
+@SpringBootTest
+class TransferThroughputTest {
+
+  private static final int MB = 1024 * 1024;
+  // folderWithInjectedFaults 에서 주입하는 오류 수 (GET 503 3건 + 응답 중단 2건)
+  private static final int INJECTED_FAULTS = 5;
+  private static final InMemoryWebDavServer CLOUD = startServer();
+  private static final InMemoryWebDavServer NAS = startServer();
+
+  @Autowired
+  private WebDavClient webDavClient;
+
+  @DynamicPropertySource
+  static void webDavProperties(DynamicPropertyRegistry registry) throws IOException {
+    Path workDir = Files.createTempDirectory("webdav-throughput");
+    registry.add("webdav.cloud.url", CLOUD::getBaseUrl);
+    registry.add("webdav.cloud.username", () -> "test");
+    registry.add("webdav.cloud.password", () -> "test");
+    registry.add("webdav.nas.url", NAS::getBaseUrl);
+    registry.add("webdav.nas.username", () -> "test");
+    registry.add("webdav.nas.password", () -> "test");
+    registry.add("webdav.job.manifest-dir", () -> workDir.resolve("manifest").toString());
+    registry.add("webdav.large-file.spool-dir", () -> workDir.resolve("spool").toString());
+    registry.add("webdav.sync.index-dir", () -> workDir.resolve("sync").toString());
+    // 주입한 오류가 모두 한 파일에 몰려도 재시도로 복구되도록 (오류 주입 수 + 1), 대기 시간은 짧게
+    registry.add("webdav.retry.max-attempts", () -> INJECTED_FAULTS + 1);
+    registry.add("webdav.retry.base-delay-millis", () -> 10);
+  }
+
+  @AfterEach
+  void resetServers() {
+    CLOUD.reset();
+    NAS.reset();
+  }
+
+  @AfterAll
+  static void stopServers() {
+    CLOUD.close();
+    NAS.close();
+  }
+
+  @Test
+  void singleLargeFile() {
+    String path = "/single/large.bin";
+    CLOUD.putFile(path, 64 * MB);
+    NAS.mkdirs("/single-target");
+
+    long start = System.nanoTime();
+    assertThat(webDavClient.transferFile(path, "/single-target", true)).isTrue();
+    report("단일 파일 (64MB)", 1, 64L * MB, System.nanoTime() - start);
+
+    assertThat(NAS.getFile("/single-target/large.bin")).isEqualTo(CLOUD.getFile(path));
+  }
+
+  @Test
+  void multipleFiles() {
+    List<String> paths = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      String path = "/multiple/file-" + i + ".bin";
+      CLOUD.putFile(path, 2 * MB);
+      paths.add(path);
+    }
+    NAS.mkdirs("/multiple-target");
+
+    long start = System.nanoTime();
+    TransferResultDTO result = webDavClient.transferMultipleFiles(paths, "/multiple-target", true);
+    report("다중 파일 (64 x 2MB)", paths.size(), 64L * 2 * MB, System.nanoTime() - start);
+
+    assertThat(result.isAllSuccess()).isTrue();
+    for (String path : paths) {
+      assertThat(NAS.getFile("/multiple-target" + path.substring(path.lastIndexOf('/')))).isEqualTo(CLOUD.getFile(path));
+    }
+  }
+
+  @Test
+  void folderWithManySmallFiles() {
+    List<String> relativePaths = createTree("/many-small", 5, 200, 64 * 1024);
+    NAS.mkdirs("/many-small-target");
+
+    long start = System.nanoTime();
+    TransferResultDTO result = transferFolder("/many-small", "/many-small-target");
+    report("폴더 (1000 x 64KB)", relativePaths.size(), relativePaths.size() * 64L * 1024, System.nanoTime() - start);
+
+    assertThat(result.isAllSuccess()).isTrue();
+    assertCopied("/many-small", "/many-small-target/many-small", relativePaths);
+  }
+
+  /**
+   * 원격 서버 왕복 지연 (20ms) 과 연결당 대역폭 제한 (8MB/s) 이 있는 환경: 동시 전송으로 처리량이 늘어나는지 확인용
+   */
+  @Test
+  void folderOverSlowLink() {
+    List<String> relativePaths = createTree("/slow-link", 4, 50, MB);
+    NAS.mkdirs("/slow-link-target");
+    CLOUD.setLatencyMillis(20);
+    CLOUD.setBandwidthBytesPerSecond(8L * MB);
+    NAS.setLatencyMillis(20);
+    NAS.setBandwidthBytesPerSecond(8L * MB);
+
+    long start = System.nanoTime();
+    TransferResultDTO result = transferFolder("/slow-link", "/slow-link-target");
+    report("폴더, 지연 20ms + 연결당 8MB/s (200 x 1MB)", relativePaths.size(), relativePaths.size() * (long) MB, System.nanoTime() - start);
+
+    assertThat(result.isAllSuccess()).isTrue();
+    assertCopied("/slow-link", "/slow-link-target/slow-link", relativePaths);
+  }
+
+  /**
+   * 클라우드 GET 오류 응답 (503), 응답 중단이 섞인 환경: 일시적인 오류는 재시도로 복구되어 모든 파일이 원본과 같게 전송되는지 확인
+   */
+  @Test
+  void folderWithInjectedFaults() {
+    List<String> relativePaths = createTree("/faulty", 2, 50, 256 * 1024);
+    NAS.mkdirs("/faulty-target");
+    CLOUD.failNext("GET", "/faulty", 503, 3);
+    CLOUD.truncateNextGet("/faulty", 2);
+
+    long start = System.nanoTime();
+    TransferResultDTO result = transferFolder("/faulty", "/faulty-target");
+    report("폴더, GET 오류 3건 + 응답 중단 2건 (100 x 256KB)", result.getSuccessCount(), result.getSuccessCount() * 256L * 1024,
+        System.nanoTime() - start);
+
+    assertThat(result.isAllSuccess()).isTrue();
+    assertThat(result.getFailedFiles()).isEmpty();
+    assertThat(NAS.countFiles("/faulty-target/faulty")).isEqualTo(relativePaths.size());
+    assertCopied("/faulty", "/faulty-target/faulty", relativePaths);
+  }
+
+  private TransferResultDTO transferFolder(String folderPath, String targetDir) {
+    try {
+      return webDavClient.transferFolder(folderPath, targetDir, true);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * directories 개의 하위 폴더에 filesPerDirectory 개씩 파일 생성
+   *
+   * @return 폴더 기준 상대 경로 목록
+   */
+  private static List<String> createTree(String root, int directories, int filesPerDirectory, int fileSize) {
+    List<String> relativePaths = new ArrayList<>();
+    for (int d = 0; d < directories; d++) {
+      for (int f = 0; f < filesPerDirectory; f++) {
+        String relativePath = "/폴더 " + d + "/파일 " + f + ".bin";
+        CLOUD.putFile(root + relativePath, fileSize);
+        relativePaths.add(relativePath);
+      }
+    }
+    return relativePaths;
+  }
+
+  private static void assertCopied(String cloudRoot, String nasRoot, List<String> relativePaths) {
+    for (String relativePath : relativePaths) {
+      assertThat(NAS.getFile(nasRoot + relativePath))
+          .as(relativePath)
+          .isEqualTo(CLOUD.getFile(cloudRoot + relativePath));
+    }
+  }
+
+  private static void report(String scenario, int files, long bytes, long elapsedNanos) {
+    double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    log.info("[처리량] {}: {}개 파일, {} MB, {} ms -> {} files/s, {} MB/s",
+        scenario, files, String.format("%.1f", bytes / (double) MB), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        String.format("%.1f", files / seconds), String.format("%.1f", bytes / (double) MB / seconds));
+  }
+
+  private static InMemoryWebDavServer startServer() {
+    try {
+      return new InMemoryWebDavServer().start();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
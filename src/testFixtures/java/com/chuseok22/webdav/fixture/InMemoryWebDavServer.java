@@ -0,0 +1,527 @@
+package com.chuseok22.webdav.fixture;
+
+import com.chuseok22.webdav.global.util.FileUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크, 통합 테스트용 프로세스 내 WebDAV 서버 (실제 클라우드, NAS 대신 사용)
+ * 메모리에 파일을 보관하며 이 애플리케이션이 사용하는 메서드만 지원: PROPFIND (Depth 0, 1, infinity), GET (Range 포함), HEAD, PUT, MKCOL, MOVE, DELETE
+ * 원격 서버 환경 흉내: 요청별 지연, 요청 본문 / 응답 본문별 대역폭 제한, 오류 응답 / 응답 중단 주입
+ * 인증은 확인하지 않음
+ */
+public class InMemoryWebDavServer implements AutoCloseable {
+
+  private static final String DEFAULT_CONTEXT_PATH = "/dav";
+  // 대역폭 제한 시 한 번에 읽고 쓰는 크기
+  private static final int THROTTLE_CHUNK_SIZE = 64 * 1024;
+
+  // 기본 URL 의 경로 부분 ("" 이면 호스트만 있는 기본 URL, ex. http://127.0.0.1:12345)
+  private final String contextPath;
+  // 디코딩 된 경로 -> 리소스 (경로 순 정렬, 하위 항목 범위 조회용)
+  private final NavigableMap<String, Resource> resources = new ConcurrentSkipListMap<>();
+  private final AtomicLong etagSequence = new AtomicLong();
+  private final AtomicLong requestCount = new AtomicLong();
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Queue<Fault> faults = new ConcurrentLinkedQueue<>();
+  // 디코딩 된 경로 -> 받은 Range 헤더 값
+  private final Map<String, Queue<String>> rangeRequests = new ConcurrentHashMap<>();
+  private volatile long latencyMillis;
+  private volatile long bandwidthBytesPerSecond;
+
+  public InMemoryWebDavServer() throws IOException {
+    this(DEFAULT_CONTEXT_PATH);
+  }
+
+  /**
+   * @param contextPath 기본 URL 경로 (ex. /dav, 서버 최상위를 기본 URL 로 사용하려면 "")
+   */
+  public InMemoryWebDavServer(String contextPath) throws IOException {
+    this.contextPath = contextPath;
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext(contextPath.isEmpty() ? "/" : contextPath, this::handle);
+    server.setExecutor(executor);
+    // 최상위 폴더 (호스트만 있는 기본 URL 이면 href "/" 를 정규화한 값 "")
+    resources.put(contextPath, Resource.directory(nextEtag()));
+  }
+
+  public InMemoryWebDavServer start() {
+    server.start();
+    return this;
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.close();
+  }
+
+  /**
+   * 서버 기본 URL (ex. http://127.0.0.1:12345/dav)
+   */
+  public String getBaseUrl() {
+    return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + contextPath;
+  }
+
+  /**
+   * 요청마다 응답 전에 대기하는 시간 (원격 서버 왕복 지연 흉내)
+   */
+  public void setLatencyMillis(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+  }
+
+  /**
+   * GET 응답 본문, PUT 요청 본문 하나당 전송 속도 제한 (0 이면 제한 없음)
+   * 연결마다 따로 적용되므로 동시 전송 수가 늘면 전체 처리량도 증가 (원격 서버의 연결당 대역폭 흉내)
+   */
+  public void setBandwidthBytesPerSecond(long bandwidthBytesPerSecond) {
+    this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+  }
+
+  /**
+   * 메서드와 경로가 일치하는 다음 요청 times 개에 status 로 응답 (본문 처리 없음)
+   *
+   * @param pathPrefix 기본 URL 기준 경로 접두사 (ex. /faults)
+   */
+  public void failNext(String method, String pathPrefix, int status, int times) {
+    failAfter(method, pathPrefix, 0, status, times);
+  }
+
+  /**
+   * 메서드와 경로가 일치하는 요청 skip 개는 정상 처리하고, 그 다음 times 개에 status 로 응답
+   */
+  public void failAfter(String method, String pathPrefix, int skip, int status, int times) {
+    faults.add(new Fault(method, contextPath + FileUtil.normalizePath(pathPrefix), skip, status, times));
+  }
+
+  /**
+   * 경로가 일치하는 다음 GET 요청 times 개는 전체 길이를 알린 뒤 본문 절반만 보내고 연결을 끊음
+   */
+  public void truncateNextGet(String pathPrefix, int times) {
+    truncateGetAfter(pathPrefix, 0, times);
+  }
+
+  /**
+   * 경로가 일치하는 GET 요청 skip 개는 정상 처리하고, 그 다음 times 개는 응답 길이를 알린 뒤 본문 절반만 보내고 연결을 끊음
+   * Range 요청이면 206 과 요청 범위의 길이를 알림
+   */
+  public void truncateGetAfter(String pathPrefix, int skip, int times) {
+    faults.add(new Fault("GET", contextPath + FileUtil.normalizePath(pathPrefix), skip, 0, times));
+  }
+
+  /**
+   * 파일에 대해 받은 GET 요청의 Range 헤더 값 (받은 순서, Range 없는 요청은 포함하지 않음)
+   */
+  public List<String> getRangeRequests(String path) {
+    Queue<String> ranges = rangeRequests.get(contextPath + FileUtil.normalizePath(path));
+    return ranges == null ? List.of() : List.copyOf(ranges);
+  }
+
+  /**
+   * 지연, 대역폭 제한, 남은 오류 주입 해제
+   */
+  public void reset() {
+    latencyMillis = 0;
+    bandwidthBytesPerSecond = 0;
+    faults.clear();
+    rangeRequests.clear();
+  }
+
+  public long getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * 디렉토리 생성 (상위 디렉토리 포함)
+   *
+   * @param path 기본 URL 기준 경로 (ex. /Photos/2024)
+   */
+  public void mkdirs(String path) {
+    String current = contextPath;
+    for (String segment : FileUtil.normalizePath(path).split("/")) {
+      if (segment.isEmpty()) {
+        continue;
+      }
+      current = current + "/" + segment;
+      resources.putIfAbsent(current, Resource.directory(nextEtag()));
+    }
+  }
+
+  /**
+   * 파일 생성 (상위 디렉토리 포함)
+   */
+  public void putFile(String path, byte[] content) {
+    String normalized = FileUtil.normalizePath(path);
+    mkdirs(normalized.substring(0, normalized.lastIndexOf('/')));
+    resources.put(contextPath + normalized, Resource.file(content, nextEtag()));
+  }
+
+  /**
+   * 지정 크기의 파일 생성 (경로로 시드를 정한 의사 난수 내용)
+   */
+  public void putFile(String path, int size) {
+    byte[] content = new byte[size];
+    new Random(path.hashCode()).nextBytes(content);
+    putFile(path, content);
+  }
+
+  /**
+   * 파일 내용 (없거나 디렉토리면 null)
+   */
+  public byte[] getFile(String path) {
+    Resource resource = resources.get(contextPath + FileUtil.normalizePath(path));
+    return resource == null || resource.directory ? null : resource.content;
+  }
+
+  /**
+   * 경로 하위의 파일 수 (디렉토리 제외)
+   */
+  public int countFiles(String path) {
+    String prefix = contextPath + FileUtil.normalizePath(path) + "/";
+    return (int) resources.subMap(prefix, prefix + Character.MAX_VALUE).values().stream().filter(resource -> !resource.directory).count();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requestCount.incrementAndGet();
+    try (exchange) {
+      if (latencyMillis > 0) {
+        Thread.sleep(latencyMillis);
+      }
+      String path = pathOf(exchange.getRequestURI());
+      String range = exchange.getRequestHeaders().getFirst("Range");
+      if (range != null && "GET".equals(exchange.getRequestMethod())) {
+        rangeRequests.computeIfAbsent(path, key -> new ConcurrentLinkedQueue<>()).add(range);
+      }
+      Fault fault = takeFault(exchange.getRequestMethod(), path);
+      if (fault != null && fault.status > 0) {
+        drain(exchange.getRequestBody());
+        send(exchange, fault.status);
+        return;
+      }
+      if (fault != null) {
+        truncate(exchange, path);
+        return;
+      }
+      switch (exchange.getRequestMethod()) {
+        case "PROPFIND" -> propfind(exchange, path);
+        case "GET" -> get(exchange, path, true);
+        case "HEAD" -> get(exchange, path, false);
+        case "PUT" -> put(exchange, path);
+        case "MKCOL" -> mkcol(exchange, path);
+        case "MOVE" -> move(exchange, path);
+        case "DELETE" -> delete(exchange, path);
+        default -> send(exchange, 405);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void propfind(HttpExchange exchange, String path) throws IOException {
+    drain(exchange.getRequestBody());
+    Resource resource = resources.get(path);
+    if (resource == null) {
+      send(exchange, 404);
+      return;
+    }
+    String depth = exchange.getRequestHeaders().getFirst("Depth");
+    MultistatusXml xml = new MultistatusXml();
+    append(xml, path, resource);
+    if (resource.directory && !"0".equals(depth)) {
+      String prefix = path + "/";
+      for (Map.Entry<String, Resource> child : resources.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+        if ("infinity".equalsIgnoreCase(depth) || child.getKey().indexOf('/', prefix.length()) < 0) {
+          append(xml, child.getKey(), child.getValue());
+        }
+      }
+    }
+    byte[] body = xml.toBytes();
+    exchange.getResponseHeaders().set("Content-Type", "application/xml; charset=utf-8");
+    exchange.sendResponseHeaders(207, body.length);
+    exchange.getResponseBody().write(body);
+  }
+
+  private static void append(MultistatusXml xml, String path, Resource resource) {
+    xml.response(path, resource.directory, resource.directory ? 0 : resource.content.length, resource.lastModified, resource.etag, null);
+  }
+
+  private void get(HttpExchange exchange, String path, boolean withBody) throws IOException, InterruptedException {
+    Resource resource = resources.get(path);
+    if (resource == null || resource.directory) {
+      send(exchange, 404);
+      return;
+    }
+    byte[] content = resource.content;
+    exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+    exchange.getResponseHeaders().set("ETag", "\"" + resource.etag + "\"");
+    int[] bounds = requestedRange(exchange, content.length);
+    if (bounds == null) {
+      send(exchange, 416);
+      return;
+    }
+    int start = bounds[0];
+    int length = bounds[1] - start + 1;
+    int status = exchange.getRequestHeaders().containsKey("Range") ? 206 : 200;
+    if (!withBody) {
+      exchange.getResponseHeaders().set("Content-Length", String.valueOf(length));
+      exchange.sendResponseHeaders(status, -1);
+      return;
+    }
+    exchange.sendResponseHeaders(status, length);
+    write(exchange.getResponseBody(), content, start, length);
+  }
+
+  /**
+   * 응답 길이를 알린 뒤 본문 절반만 보내고 연결 종료 (클라이언트는 본문을 읽다가 EOF 오류)
+   * Range 요청이면 206 으로 요청 범위의 절반만 보냄
+   */
+  private void truncate(HttpExchange exchange, String path) throws IOException {
+    Resource resource = resources.get(path);
+    int[] bounds = resource == null || resource.directory ? null : requestedRange(exchange, resource.content.length);
+    if (bounds == null) {
+      send(exchange, resource == null || resource.directory ? 404 : 416);
+      return;
+    }
+    int length = bounds[1] - bounds[0] + 1;
+    exchange.sendResponseHeaders(exchange.getRequestHeaders().containsKey("Range") ? 206 : 200, length);
+    OutputStream body = exchange.getResponseBody();
+    body.write(resource.content, bounds[0], length / 2);
+    body.flush();
+    // 핸들러가 예외로 끝나면 HttpServer 가 연결을 끊음
+    throw new IOException("응답 중단 주입: " + path);
+  }
+
+  /**
+   * Range 헤더의 요청 범위 [시작, 끝] (Range 가 없으면 전체, 만족할 수 없는 범위면 null)
+   * Range 요청이면 Content-Range 응답 헤더 설정
+   */
+  private static int[] requestedRange(HttpExchange exchange, int contentLength) {
+    String range = exchange.getRequestHeaders().getFirst("Range");
+    if (range == null || !range.startsWith("bytes=")) {
+      return new int[]{0, contentLength - 1};
+    }
+    String[] bounds = range.substring("bytes=".length()).split("-", 2);
+    int start = Integer.parseInt(bounds[0]);
+    int end = bounds[1].isEmpty() ? contentLength - 1 : Math.min(Integer.parseInt(bounds[1]), contentLength - 1);
+    if (start > end) {
+      exchange.getResponseHeaders().set("Content-Range", "bytes */" + contentLength);
+      return null;
+    }
+    exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + contentLength);
+    return new int[]{start, end};
+  }
+
+  private void put(HttpExchange exchange, String path) throws IOException, InterruptedException {
+    byte[] content = read(exchange.getRequestBody());
+    Resource parent = resources.get(parentOf(path));
+    if (parent == null || !parent.directory) {
+      send(exchange, 409);
+      return;
+    }
+    Resource previous = resources.put(path, Resource.file(content, nextEtag()));
+    send(exchange, previous == null ? 201 : 204);
+  }
+
+  private void mkcol(HttpExchange exchange, String path) throws IOException {
+    drain(exchange.getRequestBody());
+    Resource parent = resources.get(parentOf(path));
+    if (parent == null || !parent.directory) {
+      send(exchange, 409);
+      return;
+    }
+    send(exchange, resources.putIfAbsent(path, Resource.directory(nextEtag())) == null ? 201 : 405);
+  }
+
+  private void move(HttpExchange exchange, String path) throws IOException {
+    String destinationHeader = exchange.getRequestHeaders().getFirst("Destination");
+    Resource resource = resources.get(path);
+    if (resource == null || destinationHeader == null) {
+      send(exchange, resource == null ? 404 : 400);
+      return;
+    }
+    String destination = pathOf(URI.create(destinationHeader));
+    boolean overwrite = !"F".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Overwrite"));
+    boolean existed = resources.containsKey(destination);
+    if (existed && !overwrite) {
+      send(exchange, 412);
+      return;
+    }
+    Resource parent = resources.get(parentOf(destination));
+    if (parent == null || !parent.directory) {
+      send(exchange, 409);
+      return;
+    }
+    removeTree(destination);
+    String prefix = path + "/";
+    for (Map.Entry<String, Resource> child : resources.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+      resources.put(destination + child.getKey().substring(path.length()), child.getValue());
+    }
+    resources.put(destination, resource);
+    removeTree(path);
+    send(exchange, existed ? 204 : 201);
+  }
+
+  private void delete(HttpExchange exchange, String path) throws IOException {
+    if (!resources.containsKey(path) || contextPath.equals(path)) {
+      send(exchange, 404);
+      return;
+    }
+    removeTree(path);
+    send(exchange, 204);
+  }
+
+  private void removeTree(String path) {
+    resources.remove(path);
+    String prefix = path + "/";
+    resources.subMap(prefix, prefix + Character.MAX_VALUE).clear();
+  }
+
+  private Fault takeFault(String method, String path) {
+    for (Fault fault : faults) {
+      if (!fault.matches(method, path)) {
+        continue;
+      }
+      if (fault.skipped.getAndDecrement() > 0) {
+        return null;
+      }
+      if (fault.remaining.getAndDecrement() > 0) {
+        return fault;
+      }
+    }
+    faults.removeIf(fault -> fault.remaining.get() <= 0);
+    return null;
+  }
+
+  /**
+   * 대역폭 제한을 적용하여 응답 본문 쓰기
+   */
+  private void write(OutputStream outputStream, byte[] content, int offset, int length) throws IOException, InterruptedException {
+    long bandwidth = bandwidthBytesPerSecond;
+    if (bandwidth <= 0) {
+      outputStream.write(content, offset, length);
+      return;
+    }
+    long startNanos = System.nanoTime();
+    for (int written = 0; written < length; ) {
+      int chunk = Math.min(THROTTLE_CHUNK_SIZE, length - written);
+      outputStream.write(content, offset + written, chunk);
+      written += chunk;
+      pace(startNanos, written, bandwidth);
+    }
+  }
+
+  /**
+   * 대역폭 제한을 적용하여 요청 본문 읽기
+   */
+  private byte[] read(InputStream inputStream) throws IOException, InterruptedException {
+    long bandwidth = bandwidthBytesPerSecond;
+    if (bandwidth <= 0) {
+      return inputStream.readAllBytes();
+    }
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    byte[] buffer = new byte[THROTTLE_CHUNK_SIZE];
+    long startNanos = System.nanoTime();
+    int n;
+    while ((n = inputStream.read(buffer)) != -1) {
+      content.write(buffer, 0, n);
+      pace(startNanos, content.size(), bandwidth);
+    }
+    return content.toByteArray();
+  }
+
+  /**
+   * 지금까지 처리한 바이트가 제한 속도보다 앞서면 그만큼 대기
+   */
+  private static void pace(long startNanos, long bytes, long bandwidth) throws InterruptedException {
+    long aheadNanos = TimeUnit.SECONDS.toNanos(bytes) / bandwidth - (System.nanoTime() - startNanos);
+    if (aheadNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(aheadNanos);
+    }
+  }
+
+  private String nextEtag() {
+    return Long.toHexString(etagSequence.incrementAndGet());
+  }
+
+  private static String pathOf(URI uri) {
+    return FileUtil.normalizePath(FileUtil.decodePath(uri.getRawPath()));
+  }
+
+  private static String parentOf(String path) {
+    return path.substring(0, Math.max(path.lastIndexOf('/'), 0));
+  }
+
+  private static void send(HttpExchange exchange, int status) throws IOException {
+    exchange.sendResponseHeaders(status, -1);
+  }
+
+  private static void drain(InputStream inputStream) throws IOException {
+    inputStream.transferTo(OutputStream.nullOutputStream());
+  }
+
+  /**
+   * 오류 주입 규칙 (남은 횟수만큼 적용)
+   */
+  private static final class Fault {
+    private final String method;
+    private final String pathPrefix;
+    private final int status; // 0 이면 응답 중단
+    private final AtomicInteger skipped; // 오류 없이 통과시킬 남은 요청 수
+    private final AtomicInteger remaining;
+
+    private Fault(String method, String pathPrefix, int skip, int status, int times) {
+      this.method = method;
+      this.pathPrefix = pathPrefix;
+      this.status = status;
+      this.skipped = new AtomicInteger(skip);
+      this.remaining = new AtomicInteger(times);
+    }
+
+    private boolean matches(String method, String path) {
+      return this.method.equals(method) && (path.equals(pathPrefix) || path.startsWith(pathPrefix + "/"));
+    }
+  }
+
+  private static final class Resource {
+    private final boolean directory;
+    private final byte[] content;
+    private final String etag;
+    private final Instant lastModified = Instant.now();
+
+    private Resource(boolean directory, byte[] content, String etag) {
+      this.directory = directory;
+      this.content = content;
+      this.etag = etag;
+    }
+
+    private static Resource directory(String etag) {
+      return new Resource(true, null, etag);
+    }
+
+    private static Resource file(byte[] content, String etag) {
+      return new Resource(false, content, etag);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.chuseok22.webdav.fixture;
+
+import com.chuseok22.webdav.global.util.FileUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * PROPFIND multistatus 응답 XML 작성 (테스트 서버 응답, 파싱 벤치마크용 대용량 응답 생성)
+ */
+public final class MultistatusXml {
+
+  private static final DateTimeFormatter RFC_1123 = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+  private final StringBuilder xml = new StringBuilder(4096);
+
+  public MultistatusXml() {
+    xml.append("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n")
+        .append("<d:multistatus xmlns:d=\"DAV:\" xmlns:oc=\"http://owncloud.org/ns\">\n");
+  }
+
+  /**
+   * response 항목 하나 추가
+   *
+   * @param path      디코딩 된 경로 (인코딩하여 href 로 기록, 디렉토리는 후행 슬래시 추가)
+   * @param checksums oc:checksums 값 (null 이면 404 propstat 으로 기록)
+   */
+  public MultistatusXml response(String path, boolean directory, long contentLength, Instant lastModified, String etag, String checksums) {
+    String href = FileUtil.encodePathSegments(path);
+    xml.append("  <d:response>\n")
+        .append("    <d:href>").append(href.isEmpty() ? "/" : href).append(directory && !href.isEmpty() && !href.endsWith("/") ? "/" : "").append("</d:href>\n")
+        .append("    <d:propstat>\n")
+        .append("      <d:prop>\n");
+    if (directory) {
+      xml.append("        <d:resourcetype><d:collection/></d:resourcetype>\n");
+    } else {
+      xml.append("        <d:resourcetype/>\n")
+          .append("        <d:getcontentlength>").append(contentLength).append("</d:getcontentlength>\n");
+    }
+    xml.append("        <d:getlastmodified>").append(RFC_1123.format(lastModified)).append("</d:getlastmodified>\n")
+        .append("        <d:getetag>&quot;").append(etag).append("&quot;</d:getetag>\n");
+    if (checksums != null) {
+      xml.append("        <oc:checksums><oc:checksum>").append(checksums).append("</oc:checksum></oc:checksums>\n");
+    }
+    xml.append("      </d:prop>\n")
+        .append("      <d:status>HTTP/1.1 200 OK</d:status>\n")
+        .append("    </d:propstat>\n");
+    if (checksums == null) {
+      xml.append("    <d:propstat>\n")
+          .append("      <d:prop><oc:checksums/></d:prop>\n")
+          .append("      <d:status>HTTP/1.1 404 Not Found</d:status>\n")
+          .append("    </d:propstat>\n");
+    }
+    xml.append("  </d:response>\n");
+    return this;
+  }
+
+  public byte[] toBytes() {
+    return (xml + "</d:multistatus>\n").getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 디렉토리 하나 (Depth: 1) 의 대용량 응답 생성
+   * 한글, 공백이 포함된 파일명과 일부 하위 디렉토리, 체크섬을 섞어 실제 서버 응답과 비슷한 형태로 구성
+   *
+   * @param basePath 조회 디렉토리 경로 (ex. /remote.php/dav/files/user/Photos)
+   * @param entries  하위 항목 수
+   */
+  public static byte[] syntheticListing(String basePath, int entries) {
+    Instant lastModified = Instant.parse("2024-08-15T09:30:00Z");
+    MultistatusXml xml = new MultistatusXml().response(basePath, true, 0, lastModified, "root", null);
+    for (int i = 0; i < entries; i++) {
+      Instant modified = lastModified.plusSeconds(i);
+      String etag = Integer.toHexString(i * 31 + 7);
+      if (i % 50 == 0) {
+        xml.response(basePath + "/폴더 " + i, true, 0, modified, etag, null);
+      } else {
+        String checksums = i % 3 == 0 ? "SHA1:" + String.format("%040x", i) : null;
+        xml.response(basePath + "/사진 " + i + " (원본).jpg", false, 1024L * 1024 + i, modified, etag, checksums);
+      }
+    }
+    return xml.toBytes();
+  }
+}